@@ -0,0 +1,46 @@
+package com.account.id;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 기존 UUID 방식과 시간 순 거래 ID 생성기의 처리량/할당량을 비교합니다.
+ * <p>
+ * {@code ./gradlew jmh -Pjmh.profilers=gc} 로 실행하면 ID당 할당 바이트도 함께 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionIdGeneratorBenchmark {
+	private final TransactionIdGenerator uuidGenerator = new UuidTransactionIdGenerator();
+	private final TransactionIdGenerator timeOrderedGenerator = new TimeOrderedTransactionIdGenerator(1);
+
+	@Benchmark
+	public String uuid() {
+		return uuidGenerator.nextId();
+	}
+
+	@Benchmark
+	public String timeOrdered() {
+		return timeOrderedGenerator.nextId();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String uuidContended() {
+		return uuidGenerator.nextId();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String timeOrderedContended() {
+		return timeOrderedGenerator.nextId();
+	}
+}
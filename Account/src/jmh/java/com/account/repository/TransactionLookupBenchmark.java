@@ -0,0 +1,152 @@
+package com.account.repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 이전 거래 테이블과 압축 스키마(V1)의 행 크기와 거래 ID 조회 지연을 비교합니다.
+ * <p>
+ * - LEGACY: 문자열 enum, 32자리 16진수 문자열 거래 ID, 보조 인덱스 없음 (초기 매핑)<br>
+ * - LEGACY_INDEXED: LEGACY의 컬럼 타입에 V1과 같은 인덱스만 추가 (인덱스 효과와 저장 형식 효과를 나눠 보기 위함)<br>
+ * - COMPACT: SMALLINT 코드, BINARY(16) 거래 ID, V1 인덱스 (현재 매핑)
+ * <p>
+ * 각 스키마마다 H2 파일 DB에 rows건을 넣고 압축(SHUTDOWN COMPACT)한 뒤, 테이블(기본 키 포함)만의 행당 바이트와
+ * 보조 인덱스까지 포함한 파일의 행당 바이트를 출력합니다. 조회는 매번 임의의 기존 거래 ID로 한 건을 찾습니다.
+ * <p>
+ * 1000만 건 기준 스키마당 적재에 수 분이 걸립니다.
+ * {@code java -jar build/libs/*-jmh.jar TransactionLookupBenchmark -wi 1 -i 3 -r 10s} 처럼 반복 횟수를 줄여 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionLookupBenchmark {
+	private static final String TRANSACTION_ID = "hash('SHA-256', cast(x as varchar))";
+	private static final String ROW_TIME = "dateadd(second, x, timestamp '2025-01-01 00:00:00')";
+
+	public enum Schema {
+		LEGACY, LEGACY_INDEXED, COMPACT
+	}
+
+	@Param({ "LEGACY", "LEGACY_INDEXED", "COMPACT" })
+	private Schema schema;
+
+	@Param({ "10000000" })
+	private long rows;
+
+	private Path directory;
+	private Connection connection;
+	private PreparedStatement lookup;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, SQLException {
+		directory = Files.createTempDirectory("transaction-lookup");
+		String url = "jdbc:h2:file:" + directory.resolve("ledger");
+		try (Connection loading = DriverManager.getConnection(url, "sa", "");
+				Statement statement = loading.createStatement()) {
+			load(statement);
+			statement.execute("shutdown compact");
+		}
+
+		connection = DriverManager.getConnection(url, "sa", "");
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("select disk_space_used('TRANSACTION')")) {
+			resultSet.next();
+			System.out.printf("%n[%s] 테이블 행당 %.1f 바이트, 인덱스 포함 파일 행당 %.1f 바이트%n", schema,
+					(double)resultSet.getLong(1) / rows, (double)Files.size(directory.resolve("ledger.mv.db")) / rows);
+		}
+		lookup = connection.prepareStatement("select id, transaction_type, transaction_result_type, amount "
+				+ "from transaction where transaction_id = ?");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException, SQLException {
+		connection.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Benchmark
+	public long findByTransactionId() throws SQLException {
+		byte[] transactionId = transactionId(ThreadLocalRandom.current().nextLong(1, rows + 1));
+		if (schema == Schema.COMPACT) {
+			lookup.setBytes(1, transactionId);
+		} else {
+			lookup.setString(1, HexFormat.of().formatHex(transactionId));
+		}
+		try (ResultSet resultSet = lookup.executeQuery()) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+
+	private void load(Statement statement) throws SQLException {
+		if (schema == Schema.COMPACT) {
+			statement.execute("create table transaction (transaction_result_type smallint, transaction_type smallint, "
+					+ "account_id bigint, account_sequence bigint, amount bigint, balance_snapshot bigint, "
+					+ "cancel_target_id bigint, created_at timestamp(6), id bigint not null, "
+					+ "transacted_at timestamp(6), updated_at timestamp(6), transaction_id binary(16) not null, "
+					+ "primary key (id))");
+			statement.execute("insert into transaction (id, account_id, amount, balance_snapshot, created_at, "
+					+ "transacted_at, updated_at, transaction_id, transaction_result_type, transaction_type) "
+					+ "select x, mod(x, 100000) + 1, 1000, 9000, " + ROW_TIME + ", " + ROW_TIME + ", " + ROW_TIME
+					+ ", cast(" + TRANSACTION_ID + " as binary(16)), 1, 1 from system_range(1, " + rows + ")");
+		} else {
+			statement.execute("create table transaction (account_id bigint, amount bigint, balance_snapshot bigint, "
+					+ "created_at timestamp(6), id bigint not null, transacted_at timestamp(6), "
+					+ "updated_at timestamp(6), transaction_id varchar(255), "
+					+ "transaction_result_type enum ('F','S'), transaction_type enum ('CANCEL','USE'), "
+					+ "primary key (id))");
+			statement.execute("insert into transaction (id, account_id, amount, balance_snapshot, created_at, "
+					+ "transacted_at, updated_at, transaction_id, transaction_result_type, transaction_type) "
+					+ "select x, mod(x, 100000) + 1, 1000, 9000, " + ROW_TIME + ", " + ROW_TIME + ", " + ROW_TIME
+					+ ", left(rawtohex(" + TRANSACTION_ID + "), 32), 'S', 'USE' from system_range(1, " + rows + ")");
+		}
+		if (schema != Schema.LEGACY) {
+			statement.execute("create unique index ux_transaction_transaction_id on transaction (transaction_id)");
+			statement.execute(
+					"create index ix_transaction_account_transacted_at on transaction (account_id, transacted_at)");
+		}
+	}
+
+	/**
+	 * 적재 SQL과 같은 방식으로 x번째 거래의 ID(SHA-256 앞 16바이트)를 만듭니다.
+	 */
+	private static byte[] transactionId(long x) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return Arrays.copyOf(digest.digest(Long.toString(x).getBytes(StandardCharsets.UTF_8)), 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -7,10 +7,35 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.account.type.ConcurrencyMode;
+
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 @Inherited
 public @interface AccountLock {
-	long tryLockTime() default 5000L;
+	/**
+	 * 락 획득 최대 대기 시간(ms)
+	 */
+	long tryLockTime() default 1000L;
+
+	/**
+	 * 락 유지 시간(ms)
+	 */
+	long leaseTime() default 15000L;
+
+	/**
+	 * true이면 대기 없이 한 번만 락 획득을 시도합니다.
+	 */
+	boolean failFast() default false;
+
+	/**
+	 * 이 엔드포인트의 동시성 제어 방식 (DEFAULT이면 전역 설정을 따름)
+	 */
+	ConcurrencyMode concurrency() default ConcurrencyMode.DEFAULT;
+
+	/**
+	 * true이면 COALESCE 모드에서 락을 잡지 않고 실행합니다. (메서드가 계좌별 대기열의 리더를 통해 락을 잡음)
+	 */
+	boolean coalescing() default false;
 }
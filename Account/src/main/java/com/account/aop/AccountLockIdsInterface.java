@@ -0,0 +1,7 @@
+package com.account.aop;
+
+import java.util.List;
+
+public interface AccountLockIdsInterface {
+	List<String> getAccountNumbers();
+}
@@ -0,0 +1,8 @@
+package com.account.aop;
+
+/**
+ * 멱등 키의 범위를 정하는 요청 소유자입니다. 같은 키라도 소유자가 다르면 다른 요청으로 취급합니다.
+ */
+public interface IdempotencyOwnerInterface {
+	String idempotencyOwner();
+}
@@ -0,0 +1,20 @@
+package com.account.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더가 있으면 같은 키의 첫 응답을 저장하고, 재시도에는 락과 원장을 거치지 않고 그 응답을 돌려줍니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+	/**
+	 * 키의 범위 (같은 키라도 엔드포인트가 다르면 다른 요청으로 취급)
+	 */
+	String value();
+}
@@ -0,0 +1,193 @@
+package com.account.archive;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.account.config.ArchiveProperties;
+import com.account.domain.converter.TransactionIdConverter;
+import com.account.dto.TransactionDto;
+import com.account.id.TimeOrderedTransactionIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 취소 가능 기간이 지난 거래를 월별 gzip 세그먼트(JSON Lines)로 보관하고 조회합니다.
+ * <p>
+ * - 세그먼트 파일명: transactions-yyyy-MM.NNNNNN.jsonl.gz (거래 시각 기준 월, 보관할 때마다 다음 번호)<br>
+ * - 세그먼트는 임시 파일에 기록(fsync)한 뒤 이름을 바꿔 완성하므로, 기록 중 중단되어도 기존 세그먼트는 그대로입니다.<br>
+ * - 조회 시 시간순 거래 ID의 생성 시각으로 해당 월의 세그먼트만 읽고, 읽을 수 없는 세그먼트는 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class TransactionArchive {
+	private static final String SEGMENT_PREFIX = "transactions-";
+	private static final String SEGMENT_SUFFIX = ".jsonl.gz";
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+	// ID 생성 시각과 거래 시각이 월 경계를 사이에 두고 갈릴 수 있는 여유 시간
+	private static final long MONTH_BOUNDARY_SLACK_MILLIS = 60_000L;
+
+	private final ArchiveProperties properties;
+	private final ObjectMapper objectMapper;
+
+	public TransactionArchive(ArchiveProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 거래들을 해당 월의 새 세그먼트로 기록하고 디스크에 반영합니다.
+	 *
+	 * @param month        거래 시각 기준 월
+	 * @param transactions 보관할 거래 목록
+	 */
+	public synchronized void append(YearMonth month, List<TransactionDto> transactions) {
+		try {
+			Files.createDirectories(directory());
+			Path segment = directory().resolve(
+					String.format("%s%s.%06d%s", SEGMENT_PREFIX, month, segments(month).size() + 1, SEGMENT_SUFFIX));
+			Path temporary = directory().resolve(segment.getFileName() + TEMPORARY_SUFFIX);
+			try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+				GZIPOutputStream gzip = new GZIPOutputStream(file);
+				BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+				for (TransactionDto transaction : transactions) {
+					writer.write(objectMapper.writeValueAsString(transaction));
+					writer.newLine();
+				}
+				writer.flush();
+				gzip.finish();
+				file.getFD().sync();
+			}
+			Files.move(temporary, segment, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 보관된 거래를 조회합니다.
+	 *
+	 * @param transactionId 거래 ID
+	 * @return 보관된 거래, 없으면 빈 값
+	 */
+	public Optional<TransactionDto> find(String transactionId) {
+		if (!properties.isEnabled() || !TransactionIdConverter.isWellFormed(transactionId)) {
+			return Optional.empty();
+		}
+
+		for (YearMonth month : candidateMonths(transactionId)) {
+			Optional<TransactionDto> found = find(month, transactionId);
+			if (found.isPresent()) {
+				return found;
+			}
+		}
+		if (!properties.isFullScanFallback()) {
+			return Optional.empty();
+		}
+		for (Path segment : segments()) {
+			Optional<TransactionDto> found = find(segment, transactionId);
+			if (found.isPresent()) {
+				return found;
+			}
+		}
+		return Optional.empty();
+	}
+
+	Optional<TransactionDto> find(YearMonth month, String transactionId) {
+		for (Path segment : segments(month)) {
+			Optional<TransactionDto> found = find(segment, transactionId);
+			if (found.isPresent()) {
+				return found;
+			}
+		}
+		return Optional.empty();
+	}
+
+	private Optional<TransactionDto> find(Path segment, String transactionId) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.contains(transactionId)) {
+					continue;
+				}
+				TransactionDto transaction = objectMapper.readValue(line, TransactionDto.class);
+				if (Objects.equals(transaction.getTransactionId(), transactionId)) {
+					return Optional.of(transaction);
+				}
+			}
+			return Optional.empty();
+		} catch (IOException e) {
+			// 세그먼트 하나를 읽지 못해도 같은 월의 다른 세그먼트는 조회
+			log.warn("보관 세그먼트 읽기 실패: {}", segment, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 거래 ID의 생성 시각이 속한 월과, 월 경계 직전이면 다음 월까지 후보로 돌려줍니다.
+	 */
+	private Set<YearMonth> candidateMonths(String transactionId) {
+		Set<YearMonth> months = new LinkedHashSet<>();
+		long createdAt = TimeOrderedTransactionIdGenerator.extractEpochMillis(transactionId);
+		months.add(monthOf(createdAt));
+		months.add(monthOf(createdAt + MONTH_BOUNDARY_SLACK_MILLIS));
+		return months;
+	}
+
+	private static YearMonth monthOf(long epochMillis) {
+		return YearMonth.from(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+	}
+
+	private List<Path> segments() {
+		return segments("");
+	}
+
+	private List<Path> segments(YearMonth month) {
+		return segments(month.toString());
+	}
+
+	/**
+	 * 완성된 세그먼트만 이름순으로 돌려줍니다. (이름을 바꾸기 전의 임시 파일 제외)
+	 */
+	private List<Path> segments(String month) {
+		if (!Files.isDirectory(directory())) {
+			return List.of();
+		}
+		try (Stream<Path> files = Files.list(directory())) {
+			return files.filter(path -> {
+				String name = path.getFileName().toString();
+				return name.startsWith(SEGMENT_PREFIX + month) && name.endsWith(SEGMENT_SUFFIX);
+			}).sorted().toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Path directory() {
+		return Path.of(properties.getDirectory());
+	}
+}
@@ -0,0 +1,148 @@
+package com.account.archive;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.account.config.ArchiveProperties;
+import com.account.domain.Account;
+import com.account.domain.BalanceSnapshot;
+import com.account.domain.Transaction;
+import com.account.dto.TransactionDto;
+import com.account.repository.BalanceSnapshotRepository;
+import com.account.repository.TransactionRepository;
+import com.account.service.LedgerBalanceService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 취소 가능 기간(1년)이 지난 거래를 DB에서 월별 보관 세그먼트로 옮깁니다.
+ * <p>
+ * - 배치 단위로 세그먼트에 기록(fsync)한 뒤 같은 트랜잭션에서 DB 행을 삭제합니다.<br>
+ * - DB 삭제가 실패하면 다음 실행 때 다시 보관되며, 조회는 먼저 찾은 기록을 사용합니다.<br>
+ * - 이벤트 소싱 모드에서는 스냅샷에 이미 합산된 원장만 옮기고, 그보다 오래된 스냅샷은 지웁니다.
+ */
+@Slf4j
+@Service
+public class TransactionArchiveService {
+	private final ArchiveProperties properties;
+	private final TransactionArchive transactionArchive;
+	private final TransactionRepository transactionRepository;
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+	private final LedgerBalanceService ledgerBalanceService;
+	private final TransactionTemplate transactionTemplate;
+	private final Counter archived;
+
+	public TransactionArchiveService(ArchiveProperties properties, TransactionArchive transactionArchive,
+			TransactionRepository transactionRepository, BalanceSnapshotRepository balanceSnapshotRepository,
+			LedgerBalanceService ledgerBalanceService, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.transactionArchive = transactionArchive;
+		this.transactionRepository = transactionRepository;
+		this.balanceSnapshotRepository = balanceSnapshotRepository;
+		this.ledgerBalanceService = ledgerBalanceService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.archived = Counter.builder("account.archive.transactions").register(meterRegistry);
+	}
+
+	@Scheduled(cron = "${account.archive.cron:0 0 3 * * *}")
+	public void scheduledArchive() {
+		if (properties.isEnabled()) {
+			int count = archive();
+			log.info("거래 보관 완료: {}건", count);
+		}
+	}
+
+	/**
+	 * 기준 시각 이전의 거래를 모두 보관합니다.
+	 *
+	 * @return 보관된 거래 수
+	 */
+	public int archive() {
+		LocalDateTime cutoff = LocalDateTime.now().minusYears(1).minusDays(properties.getGraceDays());
+		AtomicInteger total = new AtomicInteger();
+
+		Long afterId = 0L;
+		while (afterId != null) {
+			Long from = afterId;
+			afterId = transactionTemplate.execute(status -> archiveBatch(cutoff, from, total));
+		}
+
+		archived.increment(total.get());
+		return total.get();
+	}
+
+	/**
+	 * 한 배치를 보관합니다.
+	 *
+	 * @return 다음 배치의 시작 기준 ID, 더 이상 없으면 null
+	 */
+	private Long archiveBatch(LocalDateTime cutoff, Long afterId, AtomicInteger total) {
+		List<Transaction> page = transactionRepository.findArchivable(cutoff, afterId,
+				PageRequest.of(0, properties.getBatchSize()));
+		if (page.isEmpty()) {
+			return null;
+		}
+
+		List<Transaction> archivable = ledgerBalanceService.isEventSourced() ? coveredBySnapshot(page) : page;
+		if (!archivable.isEmpty()) {
+			Map<YearMonth, List<TransactionDto>> byMonth = archivable.stream()
+					.collect(Collectors.groupingBy(transaction -> YearMonth.from(transaction.getTransactedAt()),
+							TreeMap::new,
+							Collectors.mapping(TransactionDto::fromEntity, Collectors.toList())));
+			byMonth.forEach(transactionArchive::append);
+
+			transactionRepository.deleteAllByIdInBatch(archivable.stream().map(Transaction::getId).toList());
+			total.addAndGet(archivable.size());
+		}
+		return page.get(page.size() - 1).getId();
+	}
+
+	/**
+	 * 이벤트 소싱 모드에서 잔액 계산에 더 이상 필요 없는(스냅샷에 포함된) 거래만 고릅니다.
+	 * 순번이 없는 거래(실패 거래, 전환 전 거래)는 잔액 계산에 쓰이지 않으므로 그대로 보관합니다.
+	 */
+	private List<Transaction> coveredBySnapshot(List<Transaction> page) {
+		Map<Long, Long> maxSequenceByAccount = new HashMap<>();
+		Map<Long, Account> accounts = new HashMap<>();
+		for (Transaction transaction : page) {
+			if (transaction.getAccountSequence() != null) {
+				Account account = transaction.getAccount();
+				accounts.put(account.getId(), account);
+				maxSequenceByAccount.merge(account.getId(), transaction.getAccountSequence(), Math::max);
+			}
+		}
+
+		Map<Long, Long> coveredSequence = new HashMap<>();
+		maxSequenceByAccount.forEach((accountId, maxSequence) -> {
+			Account account = accounts.get(accountId);
+			long covered = balanceSnapshotRepository
+					.findFirstByAccountAndAccountSequenceLessThanEqualOrderByAccountSequenceDesc(account, maxSequence)
+					.map(BalanceSnapshot::getAccountSequence)
+					.orElse(0L);
+			if (covered > 0) {
+				// 보관된 원장 이전 스냅샷으로는 더 이상 검증할 수 없으므로 정리
+				balanceSnapshotRepository.deleteOlderThan(account, covered);
+			}
+			coveredSequence.put(accountId, covered);
+		});
+
+		return page.stream()
+				.filter(transaction -> transaction.getAccountSequence() == null
+						|| transaction.getAccountSequence() <= coveredSequence.get(transaction.getAccount().getId()))
+				.toList();
+	}
+}
@@ -0,0 +1,132 @@
+package com.account.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.account.config.NearCacheProperties;
+import com.account.repository.AccountMetadata;
+import com.account.repository.AccountRepository;
+import com.account.repository.AccountUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자 존재 여부와 계좌 메타데이터(ID, 계좌번호, 소유자, 상태)를 JVM 메모리에 캐시합니다.
+ * <p>
+ * - 잔액은 캐시하지 않으며 항상 DB(또는 원장)에서 읽습니다.<br>
+ * - 존재하는 사용자/계좌만 캐시합니다. (새로 생성된 계좌가 없는 것으로 남지 않도록)<br>
+ * - 계좌 해지 시 즉시, 그리고 커밋 직후 한 번 더 무효화합니다. (커밋 전 다른 요청이 다시 적재한 값 제거)<br>
+ * - 다른 노드의 해지는 expireAfterWrite가 지나야 반영됩니다.
+ * <p>
+ * 적중/미적중/축출 통계는 cache.gets, cache.evictions, cache.size{cache=account.metadata|account.user}로 노출합니다.
+ */
+@Component
+public class AccountMetadataCache {
+	private final NearCacheProperties properties;
+	private final AccountRepository accountRepository;
+	private final AccountUserRepository accountUserRepository;
+	private final ExistenceFilter existenceFilter;
+	private final Cache<String, AccountMetadata> accounts;
+	private final Cache<Long, Boolean> users;
+
+	public AccountMetadataCache(NearCacheProperties properties, AccountRepository accountRepository,
+			AccountUserRepository accountUserRepository, ExistenceFilter existenceFilter, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.accountRepository = accountRepository;
+		this.accountUserRepository = accountUserRepository;
+		this.existenceFilter = existenceFilter;
+		this.accounts = Caffeine.newBuilder()
+				.maximumSize(properties.getAccountMaximumSize())
+				.expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWrite()))
+				.recordStats()
+				.build();
+		this.users = Caffeine.newBuilder()
+				.maximumSize(properties.getUserMaximumSize())
+				.expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWrite()))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, accounts, "account.metadata");
+		CaffeineCacheMetrics.monitor(meterRegistry, users, "account.user");
+	}
+
+	/**
+	 * 계좌번호로 계좌 메타데이터를 조회합니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 * @return 계좌 메타데이터, 계좌가 없으면 빈 값
+	 */
+	public Optional<AccountMetadata> findAccount(String accountNumber) {
+		if (!properties.isEnabled()) {
+			return load(accountNumber);
+		}
+		AccountMetadata cached = accounts.getIfPresent(accountNumber);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		Optional<AccountMetadata> loaded = load(accountNumber);
+		loaded.ifPresent(metadata -> accounts.put(accountNumber, metadata));
+		return loaded;
+	}
+
+	public boolean accountExists(String accountNumber) {
+		return findAccount(accountNumber).isPresent();
+	}
+
+	/**
+	 * 사용자 존재 여부를 확인합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @return 존재하면 true
+	 */
+	public boolean userExists(Long userId) {
+		if (!properties.isEnabled()) {
+			return accountUserRepository.existsById(userId);
+		}
+		if (users.getIfPresent(userId) != null) {
+			return true;
+		}
+		boolean exists = accountUserRepository.existsById(userId);
+		if (exists) {
+			users.put(userId, Boolean.TRUE);
+		}
+		return exists;
+	}
+
+	/**
+	 * 블룸 필터에서 확실히 없는 계좌번호는 DB를 조회하지 않습니다.
+	 */
+	private Optional<AccountMetadata> load(String accountNumber) {
+		if (existenceFilter.isAbsentAccount(accountNumber)) {
+			return Optional.empty();
+		}
+		Optional<AccountMetadata> loaded = accountRepository.findMetadataByAccountNumber(accountNumber);
+		if (loaded.isEmpty()) {
+			existenceFilter.recordAccountMiss(accountNumber);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 계좌 메타데이터를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 직후에도 한 번 더 무효화합니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 */
+	public void evictAccount(String accountNumber) {
+		accounts.invalidate(accountNumber);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					accounts.invalidate(accountNumber);
+				}
+			});
+		}
+	}
+}
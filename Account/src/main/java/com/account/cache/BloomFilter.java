@@ -0,0 +1,92 @@
+package com.account.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 블룸 필터입니다. 여러 스레드가 락 없이 동시에 추가하고 조회할 수 있습니다.
+ * <p>
+ * - mightContain이 false이면 추가된 적 없는 값입니다. (true는 오탐일 수 있음)<br>
+ * - 두 개의 64비트 해시를 조합하여 k개의 비트 위치를 구합니다. (double hashing)
+ */
+public class BloomFilter {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final AtomicLong bitCount = new AtomicLong();
+
+	/**
+	 * @param expectedInsertions 예상 원소 수
+	 * @param falsePositiveRate  예상 원소 수만큼 채워졌을 때의 목표 오탐률 (0 초과 1 미만)
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+		}
+		long insertions = Math.max(1L, expectedInsertions);
+		long bits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = Math.toIntExact(Math.max(1L, (bits + Long.SIZE - 1) / Long.SIZE));
+		this.words = new AtomicLongArray(wordCount);
+		this.bitSize = (long) wordCount * Long.SIZE;
+		this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ GOLDEN_GAMMA) | 1L;
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long previous = words.getAndUpdate(word, current -> current | mask);
+			if ((previous & mask) == 0) {
+				bitCount.incrementAndGet();
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ GOLDEN_GAMMA) | 1L;
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+			if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 채워진 비트 비율로 추정한 오탐률입니다.
+	 */
+	public double expectedFalsePositiveRate() {
+		return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+	}
+
+	private static long hash(String value) {
+		long hash = FNV_OFFSET_BASIS;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= FNV_PRIME;
+		}
+		return mix(hash);
+	}
+
+	/**
+	 * MurmurHash3의 64비트 finalizer로 비트를 고르게 섞습니다.
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb93fe53a1b47L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,281 @@
+package com.account.cache;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.account.config.BloomFilterProperties;
+import com.account.domain.converter.TransactionIdConverter;
+import com.account.id.TimeOrderedTransactionIdGenerator;
+import com.account.id.TransactionIdGenerator;
+import com.account.repository.AccountRepository;
+import com.account.repository.TransactionRepository;
+import com.account.service.AccountNumberBlockService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계좌번호와 거래 ID의 블룸 필터로 확실히 없는 ID를 DB 조회 없이 걸러냅니다.
+ * <p>
+ * - 시작 시와 rebuildInterval마다 테이블을 스트리밍으로 읽어 새 필터를 만들고, 저장 시 즉시 추가합니다.<br>
+ * - 다른 노드에서 생긴 ID는 다음 재생성 전까지 이 노드의 필터에 없으므로, 필터는 "보장 범위" 안의 ID만 거절합니다.<br>
+ * - 거래 ID: 시간순 ID의 생성 시각이 재생성 시작 시각(- safetyMargin)보다 이전이거나, 현재 시각보다 미래인 ID<br>
+ * - 계좌번호: 블록 최대 사용 시간(account.number.block-max-age)이 지나기 전에 읽어 둔 예약 상한보다 작은 번호
+ *   (그 이전에 예약된 블록은 모두 만료되어 더 이상 계좌가 생기지 않음)
+ * <p>
+ * 필터가 만들어지기 전이거나 보장 범위 밖이면 항상 "있을 수 있음"으로 답합니다.
+ * 거절 수는 account.bloom_filter.rejected, 오탐(필터 통과 후 DB에 없음) 수는 account.bloom_filter.false_positive,
+ * 채워진 비트로 추정한 오탐률은 account.bloom_filter.expected_fpp, 재생성 시간은 account.bloom_filter.rebuild로 노출합니다.
+ */
+@Slf4j
+@Component
+public class ExistenceFilter {
+	private final BloomFilterProperties properties;
+	private final AccountRepository accountRepository;
+	private final TransactionRepository transactionRepository;
+	private final AccountNumberBlockService accountNumberBlockService;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean timeOrderedTransactionIds;
+	private final long blockMaxAge;
+	private final Guard accounts;
+	private final Guard transactions;
+	// 재생성마다 읽은 계좌번호 예약 상한 (오래된 것부터, rebuild 안에서만 접근)
+	private final Deque<Reservation> reservations = new ArrayDeque<>();
+
+	public ExistenceFilter(BloomFilterProperties properties, AccountRepository accountRepository,
+			TransactionRepository transactionRepository, AccountNumberBlockService accountNumberBlockService,
+			TransactionIdGenerator transactionIdGenerator, PlatformTransactionManager transactionManager,
+			@Value("${account.number.block-max-age:60000}") long blockMaxAge, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.accountRepository = accountRepository;
+		this.transactionRepository = transactionRepository;
+		this.accountNumberBlockService = accountNumberBlockService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		// UUID 거래 ID는 생성 시각을 알 수 없어 보장 범위를 정할 수 없음
+		this.timeOrderedTransactionIds = transactionIdGenerator instanceof TimeOrderedTransactionIdGenerator;
+		this.blockMaxAge = blockMaxAge;
+		this.accounts = new Guard("account", meterRegistry);
+		this.transactions = new Guard("transaction", meterRegistry);
+	}
+
+	/**
+	 * 계좌번호가 확실히 존재하지 않는지 확인합니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 * @return 확실히 없으면 true, 있을 수 있으면 false
+	 */
+	public boolean isAbsentAccount(String accountNumber) {
+		Generation generation = accounts.current;
+		if (!properties.isEnabled() || generation == null || !isCoveredAccountNumber(accountNumber, generation)
+				|| generation.getFilter().mightContain(accountNumber)) {
+			return false;
+		}
+		accounts.rejected.increment();
+		return true;
+	}
+
+	/**
+	 * 거래 ID가 확실히 존재하지 않는지 확인합니다.
+	 *
+	 * @param transactionId 거래 ID
+	 * @return 확실히 없으면 true, 있을 수 있으면 false
+	 */
+	public boolean isAbsentTransaction(String transactionId) {
+		Generation generation = transactions.current;
+		if (!properties.isEnabled() || generation == null || !isCoveredTransactionId(transactionId, generation)
+				|| generation.getFilter().mightContain(transactionId)) {
+			return false;
+		}
+		transactions.rejected.increment();
+		return true;
+	}
+
+	public void addAccount(String accountNumber) {
+		accounts.add(accountNumber);
+	}
+
+	public void addTransaction(String transactionId) {
+		transactions.add(transactionId);
+	}
+
+	/**
+	 * 필터를 통과했으나 DB에 없었던 계좌번호를 오탐으로 집계합니다.
+	 */
+	public void recordAccountMiss(String accountNumber) {
+		Generation generation = accounts.current;
+		if (properties.isEnabled() && generation != null && isCoveredAccountNumber(accountNumber, generation)) {
+			accounts.falsePositives.increment();
+		}
+	}
+
+	/**
+	 * 필터를 통과했으나 DB에 없었던 거래 ID를 오탐으로 집계합니다.
+	 */
+	public void recordTransactionMiss(String transactionId) {
+		Generation generation = transactions.current;
+		if (properties.isEnabled() && generation != null && isCoveredTransactionId(transactionId, generation)) {
+			transactions.falsePositives.increment();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		scheduledRebuild();
+	}
+
+	@Scheduled(fixedDelayString = "${account.bloom-filter.rebuild-interval:600000}",
+			initialDelayString = "${account.bloom-filter.rebuild-interval:600000}")
+	public void scheduledRebuild() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			// 이전 필터를 계속 사용
+			log.error("블룸 필터 재생성 실패", e);
+		}
+	}
+
+	/**
+	 * 테이블을 다시 읽어 두 필터를 새로 만듭니다.
+	 */
+	public synchronized void rebuild() {
+		long startedAt = System.currentTimeMillis();
+		reservations.addLast(new Reservation(startedAt, accountNumberBlockService.reservedBelow()));
+		rebuild(accounts, properties.getExpectedAccounts(), coveredAccountNumbers(startedAt),
+				accountRepository::streamAccountNumbers);
+
+		if (timeOrderedTransactionIds) {
+			rebuild(transactions, properties.getExpectedTransactions(),
+					System.currentTimeMillis() - properties.getSafetyMargin(),
+					transactionRepository::streamTransactionIds);
+		}
+	}
+
+	private void rebuild(Guard guard, long expectedInsertions, long coveredBelow, Supplier<Stream<String>> source) {
+		BloomFilter filter = new BloomFilter(expectedInsertions, properties.getFalsePositiveRate());
+		long started = System.nanoTime();
+		guard.building = filter;
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				try (Stream<String> values = source.get()) {
+					values.forEach(filter::put);
+				}
+			});
+			guard.current = new Generation(filter, coveredBelow);
+		} finally {
+			guard.building = null;
+			guard.rebuildTime.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * 블록 최대 사용 시간 + 여유 시간보다 전에 읽은 예약 상한 중 가장 최근 값을 돌려줍니다.
+	 * 그런 기록이 없으면(시작 직후, 블록 만료를 끈 경우) 어떤 계좌번호도 보장하지 않습니다.
+	 */
+	private long coveredAccountNumbers(long now) {
+		if (blockMaxAge <= 0) {
+			return Long.MIN_VALUE;
+		}
+		Reservation eligible = null;
+		while (!reservations.isEmpty()
+				&& reservations.peekFirst().getReadAt() <= now - blockMaxAge - properties.getSafetyMargin()) {
+			eligible = reservations.pollFirst();
+		}
+		if (eligible == null) {
+			return Long.MIN_VALUE;
+		}
+		reservations.addFirst(eligible);
+		return eligible.getReservedBelow();
+	}
+
+	private static boolean isCoveredAccountNumber(String accountNumber, Generation generation) {
+		try {
+			return Long.parseLong(accountNumber) < generation.getCoveredBelow();
+		} catch (NumberFormatException e) {
+			// 발급기가 만들 수 없는 번호 (기존 계좌라면 필터에 들어 있음)
+			return true;
+		}
+	}
+
+	private boolean isCoveredTransactionId(String transactionId, Generation generation) {
+		if (!TransactionIdConverter.isWellFormed(transactionId)) {
+			return false;
+		}
+		long createdAt = TimeOrderedTransactionIdGenerator.extractEpochMillis(transactionId);
+		// 미래 시각의 ID는 어느 노드도 아직 만들 수 없음 (시간순 ID 도입 전 UUID는 필터에 들어 있음)
+		return createdAt < generation.getCoveredBelow()
+				|| createdAt > System.currentTimeMillis() + properties.getSafetyMargin();
+	}
+
+	private static final class Guard {
+		private final Counter rejected;
+		private final Counter falsePositives;
+		private final Timer rebuildTime;
+		private volatile Generation current;
+		private volatile BloomFilter building;
+
+		private Guard(String name, MeterRegistry meterRegistry) {
+			this.rejected = Counter.builder("account.bloom_filter.rejected")
+					.tag("filter", name)
+					.register(meterRegistry);
+			this.falsePositives = Counter.builder("account.bloom_filter.false_positive")
+					.tag("filter", name)
+					.register(meterRegistry);
+			this.rebuildTime = Timer.builder("account.bloom_filter.rebuild")
+					.tag("filter", name)
+					.register(meterRegistry);
+			Gauge.builder("account.bloom_filter.expected_fpp", this,
+							guard -> guard.current == null ? 0 : guard.current.getFilter().expectedFalsePositiveRate())
+					.tag("filter", name)
+					.register(meterRegistry);
+		}
+
+		/**
+		 * 재생성 중이면 새로 만들고 있는 필터에도 추가합니다. (스트리밍이 놓친 값 보완)
+		 */
+		private void add(String value) {
+			BloomFilter next = building;
+			if (next != null) {
+				next.put(value);
+			}
+			Generation generation = current;
+			if (generation != null) {
+				generation.getFilter().put(value);
+			}
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class Generation {
+		private final BloomFilter filter;
+		// 계좌번호: 이 번호 미만, 거래 ID: 이 생성 시각(epoch ms) 미만만 보장
+		private final long coveredBelow;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class Reservation {
+		private final long readAt;
+		private final long reservedBelow;
+	}
+}
@@ -0,0 +1,174 @@
+package com.account.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.account.archive.TransactionArchive;
+import com.account.config.NearCacheProperties;
+import com.account.domain.converter.TransactionIdConverter;
+import com.account.dto.TransactionDto;
+import com.account.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 거래 ID별 조회 결과(TransactionDto)를 JVM 메모리에 캐시합니다.
+ * <p>
+ * - 저장된 거래는 변경되지 않으므로 무효화 없이 크기(추정 바이트)와 만료 시간으로만 축출합니다.<br>
+ * - 거래를 저장하면 커밋 직후 캐시에 넣고, 조회 미적중 시 DB(없으면 보관 세그먼트)에서 읽어 넣습니다.<br>
+ * - 어디에도 없는 거래 ID는 짧은 시간 동안 따로 기억하여 반복 조회가 DB까지 가지 않도록 합니다.<br>
+ * - 형식이 맞지 않는 거래 ID는 DB를 조회하지 않으므로 캐시하지 않습니다.
+ * <p>
+ * 적중률은 cache.gets{cache=account.transaction|account.transaction.missing}와
+ * account.transaction.cache.hit.ratio, 메모리 사용량은 account.transaction.cache.weight(추정 바이트)로 노출합니다.
+ */
+@Component
+public class TransactionCache {
+	// DTO, LocalDateTime, Long 2개, enum 참조, 캐시 노드의 대략적인 크기 (문자열 본문 제외)
+	private static final int ENTRY_OVERHEAD_BYTES = 256;
+	// String 객체와 byte[] 헤더의 대략적인 크기
+	private static final int STRING_OVERHEAD_BYTES = 56;
+
+	private final NearCacheProperties properties;
+	private final TransactionRepository transactionRepository;
+	private final TransactionArchive transactionArchive;
+	private final ExistenceFilter existenceFilter;
+	private final Cache<String, TransactionDto> transactions;
+	private final Cache<String, Boolean> missing;
+
+	public TransactionCache(NearCacheProperties properties, TransactionRepository transactionRepository,
+			TransactionArchive transactionArchive, ExistenceFilter existenceFilter, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.transactionRepository = transactionRepository;
+		this.transactionArchive = transactionArchive;
+		this.existenceFilter = existenceFilter;
+		this.transactions = Caffeine.newBuilder()
+				.maximumWeight(properties.getTransactionMaximumWeight())
+				.weigher(TransactionCache::weigh)
+				.expireAfterWrite(Duration.ofMillis(properties.getTransactionExpireAfterWrite()))
+				.recordStats()
+				.build();
+		this.missing = Caffeine.newBuilder()
+				.maximumSize(properties.getMissingTransactionMaximumSize())
+				.expireAfterWrite(Duration.ofMillis(properties.getMissingTransactionExpireAfterWrite()))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, transactions, "account.transaction");
+		CaffeineCacheMetrics.monitor(meterRegistry, missing, "account.transaction.missing");
+		Gauge.builder("account.transaction.cache.hit.ratio", transactions, cache -> cache.stats().hitRate())
+				.register(meterRegistry);
+		Gauge.builder("account.transaction.cache.weight", transactions, TransactionCache::weightedSize)
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 거래 ID로 거래를 조회합니다. DB에 없으면 보관 세그먼트에서 찾습니다.
+	 *
+	 * @param transactionId 거래 ID
+	 * @return 거래 정보, 없으면 빈 값
+	 */
+	public Optional<TransactionDto> find(String transactionId) {
+		if (!TransactionIdConverter.isWellFormed(transactionId)) {
+			return Optional.empty();
+		}
+		if (!properties.isEnabled()) {
+			return load(transactionId);
+		}
+		TransactionDto cached = transactions.getIfPresent(transactionId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		if (missing.getIfPresent(transactionId) != null) {
+			return Optional.empty();
+		}
+		Optional<TransactionDto> loaded = load(transactionId);
+		loaded.ifPresentOrElse(transaction -> transactions.put(transactionId, transaction),
+				() -> missing.put(transactionId, Boolean.TRUE));
+		return loaded;
+	}
+
+	/**
+	 * 캐시된 거래만 조회합니다. (DB를 조회하지 않음)
+	 *
+	 * @param transactionId 거래 ID
+	 * @return 캐시된 거래 정보, 없으면 빈 값
+	 */
+	public Optional<TransactionDto> getIfPresent(String transactionId) {
+		return properties.isEnabled() ? Optional.ofNullable(transactions.getIfPresent(transactionId)) : Optional.empty();
+	}
+
+	/**
+	 * 최근에 존재하지 않는 것으로 확인된 거래 ID인지 확인합니다.
+	 *
+	 * @param transactionId 거래 ID
+	 * @return 없는 것으로 기억하고 있으면 true
+	 */
+	public boolean isKnownMissing(String transactionId) {
+		return properties.isEnabled() && missing.getIfPresent(transactionId) != null;
+	}
+
+	/**
+	 * 새로 저장한 거래를 캐시합니다. 트랜잭션 안에서 호출되면 커밋된 뒤에만 캐시합니다.
+	 *
+	 * @param transaction 저장된 거래 정보
+	 */
+	public void putAfterCommit(TransactionDto transaction) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			put(transaction);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				put(transaction);
+			}
+		});
+	}
+
+	private void put(TransactionDto transaction) {
+		transactions.put(transaction.getTransactionId(), transaction);
+		missing.invalidate(transaction.getTransactionId());
+	}
+
+	/**
+	 * 블룸 필터에서 확실히 없는 거래 ID는 DB를 조회하지 않습니다. (보관 세그먼트는 필터에 없으므로 그대로 확인)
+	 */
+	private Optional<TransactionDto> load(String transactionId) {
+		Optional<TransactionDto> stored = Optional.empty();
+		if (!existenceFilter.isAbsentTransaction(transactionId)) {
+			stored = transactionRepository.findDtoByTransactionId(transactionId);
+			if (stored.isEmpty()) {
+				existenceFilter.recordTransactionMiss(transactionId);
+			}
+		}
+		return stored.or(() -> transactionArchive.find(transactionId));
+	}
+
+	private static int weigh(String transactionId, TransactionDto transaction) {
+		return ENTRY_OVERHEAD_BYTES + stringBytes(transactionId) + stringBytes(transaction.getAccountNumber());
+	}
+
+	private static int stringBytes(String value) {
+		return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+	}
+
+	private static double weightedSize(Cache<String, TransactionDto> cache) {
+		// 쓰기 버퍼는 비동기로 반영되므로 아직 반영되지 않은 저장까지 포함하도록 먼저 정리
+		cache.cleanUp();
+		return cache.policy().eviction()
+				.map(eviction -> eviction.weightedSize().orElse(0L))
+				.orElse(0L);
+	}
+}
@@ -0,0 +1,319 @@
+package com.account.coalesce;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Component;
+
+import com.account.config.ConcurrencyProperties;
+import com.account.dto.BatchUseResult;
+import com.account.dto.TransactionDto;
+import com.account.dto.UseBalance;
+import com.account.exception.AccountException;
+import com.account.lock.FencingTokenContext;
+import com.account.recorder.FailedTransactionRecorder;
+import com.account.service.LockService;
+import com.account.service.TransactionService;
+import com.account.type.ConcurrencyMode;
+import com.account.type.ErrorCode;
+import com.account.type.TransactionType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 계좌에 동시에 들어온 잔액 사용을 계좌별 대기열에 모아 한 번에 처리합니다. (COALESCE 동시성 모드)
+ * <p>
+ * - 대기열이 비어 있을 때 도착한 요청 스레드가 리더가 되어 window(ms) 동안 또는 maxBatchSize개가 모일 때까지 기다립니다.<br>
+ * - 리더는 계좌 락을 한 번 잡고 모인 요청을 {@link TransactionService#useBalances}로 도착 순서대로 검증하여 한 트랜잭션으로 커밋합니다.<br>
+ * - 각 요청 스레드는 자신의 결과(성공 거래 또는 AccountException)를 받습니다.<br>
+ * - 리더는 자신의 배치만 처리하고, 그동안 쌓인 요청이 있으면 가장 먼저 도착한 요청 스레드에게 리더를 넘깁니다.<br>
+ * - waitTimeout(ms) 안에 리더로 지목되거나 결과를 받지 못한 요청 스레드는 ACCOUNT_TRANSACTION_LOCK으로 응답합니다.
+ * <p>
+ * 실패 거래는 배치 안에서 함께 기록되며, 락 획득 실패 등으로 배치 전체가 실패한 경우와 대기열이 가득 찬 경우에만
+ * 실패 거래 기록기에 넘깁니다. 배치 크기는 account.coalesce.batch.size로 노출합니다.
+ */
+@Slf4j
+@Component
+public class DebitCoalescer {
+	private final ConcurrencyProperties concurrencyProperties;
+	private final LockService lockService;
+	private final TransactionService transactionService;
+	private final FailedTransactionRecorder failedTransactionRecorder;
+	private final DistributionSummary batchSize;
+	private final Map<String, AccountQueue> queues = new ConcurrentHashMap<>();
+
+	public DebitCoalescer(ConcurrencyProperties concurrencyProperties, LockService lockService,
+			TransactionService transactionService, FailedTransactionRecorder failedTransactionRecorder,
+			MeterRegistry meterRegistry) {
+		this.concurrencyProperties = concurrencyProperties;
+		this.lockService = lockService;
+		this.transactionService = transactionService;
+		this.failedTransactionRecorder = failedTransactionRecorder;
+		this.batchSize = DistributionSummary.builder("account.coalesce.batch.size")
+				.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return concurrencyProperties.getMode() == ConcurrencyMode.COALESCE;
+	}
+
+	/**
+	 * 잔액 사용을 계좌별 대기열에 넣고 처리될 때까지 기다립니다.
+	 *
+	 * @param request 잔액 사용 요청
+	 * @return 거래 정보 DTO
+	 * @throws AccountException 검증 실패, 락 획득 실패, 대기열이 가득 찬 경우, 대기 시간을 넘긴 경우
+	 */
+	public TransactionDto use(UseBalance.Request request) {
+		PendingDebit debit = new PendingDebit(request);
+		long deadline = System.nanoTime()
+				+ TimeUnit.MILLISECONDS.toNanos(concurrencyProperties.getCoalesce().getWaitTimeout());
+		if (enqueue(debit) || awaitPromotion(debit, deadline)) {
+			lead(debit.queue);
+		}
+
+		try {
+			return await(debit.result, deadline);
+		} catch (TimeoutException e) {
+			// 이미 리더의 배치에 들어가 있어 결과는 나중에 정해지지만 더 기다리지 않음
+			log.warn("잔액 사용 결과 대기 시간 초과 accountNumber: {}", request.getAccountNumber());
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		}
+	}
+
+	/**
+	 * 다음 리더로 지목되거나 결과가 정해질 때까지 기다립니다.
+	 * <p>
+	 * 대기 시간이 지나면 아직 배치에 들어가지 않은 요청은 대기열에서 빼고 실패시킵니다.
+	 *
+	 * @return 이 요청 스레드가 리더가 되어야 하면 true
+	 * @throws AccountException 대기 시간 안에 리더로 지목되지도, 배치에 들어가지도 못한 경우
+	 */
+	private boolean awaitPromotion(PendingDebit debit, long deadline) {
+		try {
+			return await(debit.promoted, deadline);
+		} catch (TimeoutException e) {
+			return abandon(debit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return abandon(debit);
+		}
+	}
+
+	private boolean abandon(PendingDebit debit) {
+		AccountQueue queue = debit.queue;
+		synchronized (queue) {
+			// 리더 지목은 대기열 잠금 안에서 이루어지므로 여기서 확인하면 지목을 놓치지 않음
+			if (debit.promoted.getNow(false)) {
+				return true;
+			}
+			// 이미 배치에 들어갔으면 결과를 기다림
+			if (!queue.pending.remove(debit)) {
+				return false;
+			}
+		}
+		failedTransactionRecorder.record(TransactionType.USE, queue.accountNumber, debit.request.getAmount());
+		throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+	}
+
+	private static <T> T await(CompletableFuture<T> future, long deadline)
+			throws TimeoutException, InterruptedException {
+		try {
+			return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 요청을 계좌의 대기열에 넣습니다.
+	 *
+	 * @return 이 요청 스레드가 리더가 되어야 하면 true
+	 * @throws AccountException 대기열이 가득 찬 경우
+	 */
+	private boolean enqueue(PendingDebit debit) {
+		String accountNumber = debit.request.getAccountNumber();
+		while (true) {
+			AccountQueue queue = queues.computeIfAbsent(accountNumber, AccountQueue::new);
+			synchronized (queue) {
+				// 리더가 떠나며 맵에서 제거한 대기열이면 새 대기열로 다시 시도
+				if (queue.closed) {
+					continue;
+				}
+				if (queue.pending.size() < concurrencyProperties.getCoalesce().getQueueCapacity()) {
+					debit.queue = queue;
+					queue.pending.addLast(debit);
+					queue.notifyAll();
+					boolean leader = !queue.leading;
+					queue.leading = true;
+					return leader;
+				}
+			}
+			failedTransactionRecorder.record(TransactionType.USE, accountNumber, debit.request.getAmount());
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		}
+	}
+
+	/**
+	 * 리더로서 대기열 맨 앞(자신의 요청)부터 한 배치를 처리하고 다음 리더를 정합니다.
+	 * <p>
+	 * 처리 중 예기치 못한 오류(Error 등)로 끝나면 배치와 대기 중인 요청을 모두 실패시키고 대기열을 닫아,
+	 * 요청 스레드가 리더 지목을 기다리며 멈추거나 이후 요청이 리더 없이 쌓이지 않게 합니다.
+	 */
+	private void lead(AccountQueue queue) {
+		List<PendingDebit> batch = List.of();
+		boolean handedOff = false;
+		try {
+			batch = collect(queue);
+			process(queue.accountNumber, batch);
+			handOff(queue);
+			handedOff = true;
+		} finally {
+			if (!handedOff) {
+				abort(queue, batch);
+			}
+		}
+	}
+
+	private void handOff(AccountQueue queue) {
+		synchronized (queue) {
+			PendingDebit next = queue.pending.peekFirst();
+			if (next == null) {
+				close(queue);
+			} else {
+				next.promoted.complete(true);
+			}
+		}
+	}
+
+	private void abort(AccountQueue queue, List<PendingDebit> batch) {
+		log.error("잔액 사용 리더 비정상 종료 accountNumber: {}", queue.accountNumber);
+		List<PendingDebit> waiting;
+		synchronized (queue) {
+			waiting = new ArrayList<>(queue.pending);
+			queue.pending.clear();
+			close(queue);
+		}
+		// 이미 결과가 정해진 요청에는 영향 없음
+		batch.forEach(debit -> debit.fail(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK)));
+		waiting.forEach(debit -> debit.fail(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK)));
+	}
+
+	private void close(AccountQueue queue) {
+		queue.leading = false;
+		queue.closed = true;
+		queues.remove(queue.accountNumber, queue);
+	}
+
+	private List<PendingDebit> collect(AccountQueue queue) {
+		ConcurrencyProperties.Coalesce coalesce = concurrencyProperties.getCoalesce();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesce.getWindow());
+		synchronized (queue) {
+			long remaining;
+			while (queue.pending.size() < coalesce.getMaxBatchSize()
+					&& (remaining = deadline - System.nanoTime()) > 0) {
+				try {
+					TimeUnit.NANOSECONDS.timedWait(queue, remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+
+			int size = Math.min(queue.pending.size(), coalesce.getMaxBatchSize());
+			List<PendingDebit> batch = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				batch.add(queue.pending.pollFirst());
+			}
+			return batch;
+		}
+	}
+
+	/**
+	 * 계좌 락을 잡고 배치를 한 트랜잭션으로 처리한 뒤 각 요청에 결과를 돌려줍니다.
+	 */
+	private void process(String accountNumber, List<PendingDebit> batch) {
+		batchSize.record(batch.size());
+		ConcurrencyProperties.Coalesce coalesce = concurrencyProperties.getCoalesce();
+		try {
+			Map<String, Long> fencingTokens = lockService.lockAll(List.of(accountNumber),
+					coalesce.getLockWaitTime(), coalesce.getLockLeaseTime());
+			List<BatchUseResult> results;
+			fencingTokens.forEach(FencingTokenContext::set);
+			try {
+				results = transactionService.useBalances(batch.stream().map(debit -> debit.request).toList());
+			} finally {
+				fencingTokens.keySet().forEach(FencingTokenContext::remove);
+				lockService.unLockAll(List.of(accountNumber));
+			}
+
+			for (int i = 0; i < batch.size(); i++) {
+				BatchUseResult result = results.get(i);
+				if (result.getErrorCode() == null) {
+					batch.get(i).complete(result.getTransaction());
+				} else {
+					batch.get(i).fail(new AccountException(result.getErrorCode()));
+				}
+			}
+		} catch (AccountException e) {
+			log.error("잔액 사용 배치 실패 accountNumber: {}, size: {}", accountNumber, batch.size());
+			// 배치에서 아무것도 기록되지 않았으므로 실패 거래를 따로 기록
+			batch.forEach(debit -> {
+				failedTransactionRecorder.record(TransactionType.USE, accountNumber, debit.request.getAmount());
+				debit.fail(e);
+			});
+		} catch (RuntimeException e) {
+			log.error("잔액 사용 배치 실패 accountNumber: {}", accountNumber, e);
+			batch.forEach(debit -> debit.fail(e));
+		}
+	}
+
+	private static class AccountQueue {
+		private final String accountNumber;
+		private final Deque<PendingDebit> pending = new ArrayDeque<>();
+		private boolean leading;
+		private boolean closed;
+
+		AccountQueue(String accountNumber) {
+			this.accountNumber = accountNumber;
+		}
+	}
+
+	private static class PendingDebit {
+		private final UseBalance.Request request;
+		private final CompletableFuture<TransactionDto> result = new CompletableFuture<>();
+		// 결과가 정해지면 false, 다음 리더로 지목되면 true
+		private final CompletableFuture<Boolean> promoted = new CompletableFuture<>();
+		private AccountQueue queue;
+
+		PendingDebit(UseBalance.Request request) {
+			this.request = request;
+		}
+
+		void complete(TransactionDto transaction) {
+			result.complete(transaction);
+			promoted.complete(false);
+		}
+
+		void fail(RuntimeException failure) {
+			result.completeExceptionally(failure);
+			promoted.complete(false);
+		}
+	}
+}
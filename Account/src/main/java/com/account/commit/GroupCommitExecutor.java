@@ -0,0 +1,251 @@
+package com.account.commit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.account.config.GroupCommitProperties;
+import com.account.exception.AccountException;
+import com.account.lock.FencingTokenContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시에 들어온 원장 쓰기를 짧은 시간 동안 모아 하나의 DB 트랜잭션으로 커밋합니다.
+ * <p>
+ * - 첫 쓰기가 도착하면 window(ms) 동안 또는 maxBatchSize개가 모일 때까지 기다립니다.<br>
+ * - 모인 쓰기는 커밋 스레드에서 하나의 트랜잭션으로 순서대로 실행됩니다.<br>
+ * - AccountException(검증 실패)은 해당 요청에만 전달되고 나머지 쓰기는 함께 커밋됩니다.<br>
+ * - 커밋 자체가 실패하면 각 쓰기를 단독 트랜잭션으로 다시 실행합니다.<br>
+ * - 요청 스레드는 공동 커밋이 끝난 뒤에야 결과를 받으므로 응답 시점의 내구성은 그대로입니다.<br>
+ * - 종료 시에는 대기열에 남은 쓰기를 모두 커밋한 뒤 커밋 스레드를 멈춥니다. (커밋 중에 중단하지 않음)
+ * <p>
+ * 비활성화 상태이거나 대기열이 가득 차면 요청 스레드에서 단독 쓰기로 바로 실행합니다.
+ */
+@Slf4j
+@Component
+public class GroupCommitExecutor {
+	private static final long POLL_INTERVAL_MILLIS = 100L;
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+	private final GroupCommitProperties properties;
+	private final TransactionTemplate transactionTemplate;
+	private final BlockingQueue<PendingWrite<?>> queue;
+	private final DistributionSummary batchSize;
+	private final Counter fallback;
+
+	private volatile boolean running;
+	private Thread committer;
+
+	public GroupCommitExecutor(GroupCommitProperties properties, PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+		this.batchSize = DistributionSummary.builder("account.group_commit.batch.size")
+				.register(meterRegistry);
+		this.fallback = Counter.builder("account.group_commit.fallback")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		running = true;
+		committer = new Thread(this::commitLoop, "group-commit");
+		committer.setDaemon(true);
+		committer.start();
+	}
+
+	/**
+	 * 원장 쓰기를 실행하고 커밋이 끝날 때까지 기다립니다.
+	 *
+	 * @param write 트랜잭션 안에서 실행할 쓰기 작업
+	 * @return 쓰기 작업의 결과
+	 * @throws AccountException 쓰기 작업의 검증 실패 시
+	 */
+	public <T> T execute(Supplier<T> write) {
+		return execute(write, write);
+	}
+
+	/**
+	 * 원장 쓰기를 실행하고 커밋이 끝날 때까지 기다립니다.
+	 *
+	 * @param joined 공동 트랜잭션에 참여하여 실행할 쓰기 작업 (검증 실패가 공동 트랜잭션을 롤백시키지 않아야 함)
+	 * @param alone  단독으로 실행할 쓰기 작업 (비활성화, 대기열 초과, 공동 커밋 실패 시)
+	 * @return 쓰기 작업의 결과
+	 * @throws AccountException 쓰기 작업의 검증 실패 시
+	 */
+	public <T> T execute(Supplier<T> joined, Supplier<T> alone) {
+		if (!running) {
+			return alone.get();
+		}
+
+		PendingWrite<T> pendingWrite = new PendingWrite<>(joined, alone, FencingTokenContext.snapshot());
+		if (!queue.offer(pendingWrite)) {
+			return alone.get();
+		}
+		if (!running && queue.remove(pendingWrite)) {
+			// 커밋 스레드가 대기열을 비우고 멈춘 뒤에 들어간 쓰기
+			return alone.get();
+		}
+
+		try {
+			return pendingWrite.future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 새 쓰기를 받지 않고, 커밋 스레드가 대기열을 모두 커밋하고 멈출 때까지 기다립니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		if (committer == null) {
+			return;
+		}
+		try {
+			committer.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (committer.isAlive()) {
+			log.warn("그룹 커밋 스레드가 {}초 안에 멈추지 않음, 대기열 {}건", SHUTDOWN_TIMEOUT_SECONDS, queue.size());
+			return;
+		}
+
+		// 커밋 스레드가 멈춘 직후 들어온 쓰기
+		List<PendingWrite<?>> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			commit(remaining);
+		}
+	}
+
+	private void commitLoop() {
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingWrite<?> first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first != null) {
+					commit(collect(first));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	private List<PendingWrite<?>> collect(PendingWrite<?> first) throws InterruptedException {
+		List<PendingWrite<?>> batch = new ArrayList<>(properties.getMaxBatchSize());
+		batch.add(first);
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWindow());
+		while (batch.size() < properties.getMaxBatchSize()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				break;
+			}
+			PendingWrite<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	private void commit(List<PendingWrite<?>> batch) {
+		batchSize.record(batch.size());
+		try {
+			transactionTemplate.executeWithoutResult(status -> batch.forEach(PendingWrite::run));
+		} catch (RuntimeException e) {
+			log.warn("그룹 커밋 실패, {}건을 단독 트랜잭션으로 재실행", batch.size(), e);
+			fallback.increment();
+			batch.forEach(PendingWrite::runAlone);
+		}
+		batch.forEach(PendingWrite::release);
+	}
+
+	private static class PendingWrite<T> {
+		private final Supplier<T> joined;
+		private final Supplier<T> alone;
+		private final Map<String, Long> fencingTokens;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private T result;
+		private RuntimeException failure;
+
+		PendingWrite(Supplier<T> joined, Supplier<T> alone, Map<String, Long> fencingTokens) {
+			this.joined = joined;
+			this.alone = alone;
+			this.fencingTokens = fencingTokens;
+		}
+
+		/**
+		 * 요청 스레드의 펜싱 토큰을 이어받아 쓰기를 실행합니다.
+		 * 검증 실패(AccountException)는 기록만 하고 공동 트랜잭션은 계속 진행합니다.
+		 */
+		void run() {
+			run(joined);
+		}
+
+		private void run(Supplier<T> write) {
+			FencingTokenContext.restore(fencingTokens);
+			try {
+				result = write.get();
+			} catch (AccountException e) {
+				failure = e;
+			} finally {
+				fencingTokens.keySet().forEach(FencingTokenContext::remove);
+			}
+		}
+
+		/**
+		 * 공동 커밋이 실패한 뒤 쓰기를 자신의 트랜잭션으로 다시 실행합니다.
+		 * 이때는 어떤 예외든 해당 요청에만 전달합니다.
+		 */
+		void runAlone() {
+			result = null;
+			failure = null;
+			try {
+				run(alone);
+			} catch (RuntimeException e) {
+				failure = e;
+			}
+		}
+
+		/**
+		 * 커밋이 끝난 뒤에 요청 스레드로 결과를 돌려줍니다.
+		 */
+		void release() {
+			if (failure != null) {
+				future.completeExceptionally(failure);
+			} else {
+				future.complete(result);
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.archive.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.archive")
+public class ArchiveProperties {
+	/**
+	 * true이면 취소 가능 기간이 지난 거래를 주기적으로 보관 세그먼트로 옮깁니다.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * 월별 보관 세그먼트(gzip)를 저장할 디렉터리
+	 */
+	private String directory = "./archive";
+
+	/**
+	 * 보관 작업 실행 주기 (cron)
+	 */
+	private String cron = "0 0 3 * * *";
+
+	/**
+	 * 취소 가능 기간(1년)이 지난 뒤 추가로 DB에 남겨둘 기간(일)
+	 */
+	private int graceDays = 1;
+
+	/**
+	 * 한 트랜잭션에서 옮길 최대 거래 수
+	 */
+	private int batchSize = 1000;
+
+	/**
+	 * true이면 거래 ID에서 월을 알 수 없거나 해당 월에 없을 때 모든 세그먼트를 검색합니다.
+	 * (시간순 ID 도입 전의 UUID 거래 ID 조회용, 느림)
+	 */
+	private boolean fullScanFallback = false;
+}
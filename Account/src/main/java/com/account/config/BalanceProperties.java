@@ -0,0 +1,28 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.account.type.BalanceMode;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.balance.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.balance")
+public class BalanceProperties {
+	/**
+	 * 잔액 관리 방식 (mutable: Account.balance 갱신, event-sourced: 스냅샷 + 원장 합산)
+	 */
+	private BalanceMode mode = BalanceMode.MUTABLE;
+
+	/**
+	 * 이벤트 소싱 모드에서 스냅샷을 남기는 원장 순번 간격
+	 */
+	private int snapshotInterval = 100;
+}
@@ -0,0 +1,47 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.bloom-filter.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.bloom-filter")
+public class BloomFilterProperties {
+	/**
+	 * true이면 계좌번호와 거래 ID의 블룸 필터로 확실히 없는 ID를 DB 조회 없이 거절합니다.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 계좌번호 필터의 예상 원소 수. 실제 계좌 수가 이보다 많아지면 오탐률이 설정보다 높아집니다.
+	 */
+	private long expectedAccounts = 1_000_000L;
+
+	/**
+	 * 거래 ID 필터의 예상 원소 수 (약 10,000,000건에 1%면 12MB)
+	 */
+	private long expectedTransactions = 10_000_000L;
+
+	/**
+	 * 예상 원소 수만큼 채워졌을 때의 목표 오탐률
+	 */
+	private double falsePositiveRate = 0.01;
+
+	/**
+	 * 테이블을 다시 읽어 필터를 새로 만드는 주기(ms). 계좌번호 필터는 첫 재생성 이후부터 사용됩니다.
+	 */
+	private long rebuildInterval = 600_000L;
+
+	/**
+	 * 필터가 보장하는 범위에서 빼는 여유 시간(ms).
+	 * 노드 간 시계 차이, 거래 커밋 지연, 복제 DB 지연을 합한 값보다 커야 합니다.
+	 */
+	private long safetyMargin = 5_000L;
+}
@@ -0,0 +1,96 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.account.type.ConcurrencyMode;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.concurrency.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.concurrency")
+public class ConcurrencyProperties {
+	/**
+	 * {@code @AccountLock(concurrency = DEFAULT)} 엔드포인트에 적용할 전역 동시성 모드
+	 */
+	private ConcurrencyMode mode = ConcurrencyMode.PESSIMISTIC;
+
+	private Optimistic optimistic = new Optimistic();
+
+	private Lane lane = new Lane();
+
+	private Coalesce coalesce = new Coalesce();
+
+	@Getter
+	@Setter
+	public static class Optimistic {
+		/**
+		 * 버전 충돌 시 최대 재시도 횟수
+		 */
+		private int maxRetries = 5;
+
+		/**
+		 * 첫 재시도 전 대기 시간 상한(ms), 재시도마다 두 배씩 증가
+		 */
+		private long initialBackoff = 5L;
+
+		/**
+		 * 재시도 대기 시간 상한(ms)
+		 */
+		private long maxBackoff = 100L;
+	}
+
+	@Getter
+	@Setter
+	public static class Lane {
+		/**
+		 * 단일 스레드 레인 개수
+		 */
+		private int count = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * 레인별 대기열 크기
+		 */
+		private int queueCapacity = 10000;
+	}
+
+	@Getter
+	@Setter
+	public static class Coalesce {
+		/**
+		 * 리더가 첫 배치를 처리하기 전에 다른 잔액 사용을 기다리는 최대 시간(ms)
+		 */
+		private long window = 1L;
+
+		/**
+		 * 한 번에 처리할 최대 잔액 사용 수
+		 */
+		private int maxBatchSize = 100;
+
+		/**
+		 * 계좌별 대기열 크기 (가득 차면 ACCOUNT_TRANSACTION_LOCK으로 즉시 거절)
+		 */
+		private int queueCapacity = 1000;
+
+		/**
+		 * 리더의 락 획득 최대 대기 시간(ms)
+		 */
+		private long lockWaitTime = 5000L;
+
+		/**
+		 * 리더의 락 유지 시간(ms)
+		 */
+		private long lockLeaseTime = 15000L;
+
+		/**
+		 * 요청 스레드가 리더 지목 또는 결과를 기다리는 최대 시간(ms), 넘으면 ACCOUNT_TRANSACTION_LOCK으로 응답
+		 */
+		private long waitTimeout = 30000L;
+	}
+}
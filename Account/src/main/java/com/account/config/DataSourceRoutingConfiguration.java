@@ -0,0 +1,69 @@
+package com.account.config;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.account.datasource.ReadWriteRoutingDataSource;
+import com.account.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 주 DB와 복제 DB 커넥션 풀을 만들고 읽기/쓰기 라우팅 DataSource를 구성합니다.
+ * <p>
+ * - {@code account.datasource.replica.enabled=true}일 때만 동작하며, 꺼져 있으면 스프링 부트 기본 DataSource를 사용합니다.<br>
+ * - {@code @Transactional(readOnly = true)} 메서드의 조회만 복제 DB로 가고, 쓰기와 잠금 조회는 주 DB를 사용합니다.<br>
+ * - 풀 이름(primary, replica)으로 커넥션 풀 지표(hikaricp.*)도 경로별로 구분됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "account.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfiguration {
+
+	@Bean(destroyMethod = "close")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean(destroyMethod = "close")
+	public HikariDataSource replicaDataSource(DataSourceRoutingProperties properties) {
+		DataSourceRoutingProperties.Replica replica = properties.getReplica();
+		HikariDataSource dataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(replica.getUrl())
+				.username(replica.getUsername())
+				.password(replica.getPassword())
+				.driverClassName(replica.getDriverClassName())
+				.build();
+		dataSource.setPoolName("replica");
+		dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(DataSourceRoutingProperties properties,
+			HikariDataSource replicaDataSource, MeterRegistry meterRegistry) {
+		return new ReplicaLagMonitor(properties, replicaDataSource, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+			ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) throws SQLException {
+		return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry)
+				.lazyProxy();
+	}
+}
@@ -0,0 +1,61 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.datasource.*} 설정 값을 담습니다.
+ * <p>
+ * 주 DB는 {@code spring.datasource.*}를 그대로 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.datasource")
+public class DataSourceRoutingProperties {
+	private Replica replica = new Replica();
+	private Staleness staleness = new Staleness();
+
+	@Getter
+	@Setter
+	public static class Replica {
+		/**
+		 * true이면 읽기 전용 트랜잭션을 복제 DB 커넥션 풀로 보냅니다.
+		 */
+		private boolean enabled = false;
+
+		private String url;
+		private String username;
+		private String password;
+		private String driverClassName;
+
+		/**
+		 * 복제 DB 커넥션 풀 최대 크기
+		 */
+		private int maximumPoolSize = 10;
+	}
+
+	@Getter
+	@Setter
+	public static class Staleness {
+		/**
+		 * 허용하는 최대 복제 지연(ms). 측정한 지연이 이보다 크면 읽기를 주 DB로 보냅니다.
+		 */
+		private long maxLag = 1000L;
+
+		/**
+		 * 복제 DB에서 현재 복제 지연(ms)을 구하는 SQL. 비어 있으면 지연을 측정하지 않고 0으로 봅니다.
+		 * <p>
+		 * 예) PostgreSQL: {@code SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)}
+		 */
+		private String lagQuery;
+
+		/**
+		 * 복제 지연 측정 주기(ms)
+		 */
+		private long probeInterval = 1000L;
+	}
+}
@@ -0,0 +1,38 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.account.type.OverflowPolicy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.failed-transaction.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.failed-transaction")
+public class FailedTransactionProperties {
+	/**
+	 * 저장 대기 중인 실패 거래 기록의 최대 개수
+	 */
+	private int queueCapacity = 10000;
+
+	/**
+	 * 한 번에 저장할 최대 기록 수
+	 */
+	private int batchSize = 200;
+
+	/**
+	 * 기록이 배치 크기만큼 모이지 않아도 저장을 시작하는 최대 대기 시간(ms)
+	 */
+	private long flushInterval = 100L;
+
+	/**
+	 * 대기열이 가득 찼을 때의 처리 방식 (drop-newest, drop-oldest, caller-runs)
+	 */
+	private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+}
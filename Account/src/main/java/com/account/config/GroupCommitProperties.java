@@ -0,0 +1,36 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.group-commit.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.group-commit")
+public class GroupCommitProperties {
+	/**
+	 * true이면 동시에 들어온 원장 쓰기를 모아 하나의 DB 트랜잭션으로 커밋합니다.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * 첫 쓰기가 도착한 뒤 다른 쓰기를 기다리는 최대 시간(ms)
+	 */
+	private long window = 2L;
+
+	/**
+	 * 한 번에 커밋할 최대 쓰기 수
+	 */
+	private int maxBatchSize = 64;
+
+	/**
+	 * 커밋 대기열 크기 (가득 차면 요청 스레드에서 단독 트랜잭션으로 실행)
+	 */
+	private int queueCapacity = 10000;
+}
@@ -0,0 +1,46 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.idempotency.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.idempotency")
+public class IdempotencyProperties {
+	/**
+	 * true이면 Idempotency-Key 헤더가 있는 요청의 첫 응답을 저장하고 재시도에 그대로 돌려줍니다.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 첫 응답을 보관하는 시간(ms)
+	 */
+	private long ttl = 86_400_000L;
+
+	/**
+	 * 메모리에 보관할 최대 응답 수 (넘으면 DB에서 다시 읽음)
+	 */
+	private long maximumSize = 100_000L;
+
+	/**
+	 * true이면 응답을 DB에도 저장하여 재시작과 다른 노드에서도 재시도를 인식합니다.
+	 */
+	private boolean persistent = true;
+
+	/**
+	 * 같은 키의 첫 요청이 처리 중일 때 재시도가 결과를 기다리는 최대 시간(ms)
+	 */
+	private long inFlightWait = 15_000L;
+
+	/**
+	 * 만료된 DB 기록을 지우는 주기(ms)
+	 */
+	private long purgeInterval = 600_000L;
+}
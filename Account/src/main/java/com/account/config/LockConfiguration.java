@@ -0,0 +1,49 @@
+package com.account.config;
+
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.account.lock.HybridLockProvider;
+import com.account.lock.LocalLockProvider;
+import com.account.lock.LockProvider;
+import com.account.lock.RedisLockProvider;
+
+/**
+ * 계좌 락 백엔드를 구성합니다.
+ * <p>
+ * - {@code account.lock.mode}: redis(기본), local, hybrid<br>
+ * - local 모드에서는 RedissonClient를 만들지 않으므로 Redis 없이도 기동됩니다.
+ */
+@Configuration
+public class LockConfiguration {
+	private static final String REDIS_REQUIRED = "!'${account.lock.mode:redis}'.equalsIgnoreCase('local')";
+
+	@Bean(destroyMethod = "shutdown")
+	@ConditionalOnExpression(REDIS_REQUIRED)
+	public RedissonClient redissonClient(
+			@Value("${spring.data.redis.host}") String host,
+			@Value("${spring.data.redis.port}") int port,
+			LockProperties lockProperties) {
+		Config config = new Config();
+		config.setLockWatchdogTimeout(lockProperties.getWatchdogTimeout());
+		config.useSingleServer().setAddress("redis://" + host + ":" + port);
+		return Redisson.create(config);
+	}
+
+	@Bean
+	public LockProvider lockProvider(LockProperties lockProperties, ObjectProvider<RedissonClient> redissonClient) {
+		int stripes = lockProperties.getLocal().getStripes();
+		return switch (lockProperties.getMode()) {
+			case LOCAL -> new LocalLockProvider(stripes);
+			case REDIS -> new RedisLockProvider(redissonClient.getObject());
+			case HYBRID -> new HybridLockProvider(new LocalLockProvider(stripes),
+					new RedisLockProvider(redissonClient.getObject()));
+		};
+	}
+}
@@ -0,0 +1,44 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.account.type.LockMode;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.lock.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.lock")
+public class LockProperties {
+	/**
+	 * 락 백엔드 (redis, local, hybrid)
+	 */
+	private LockMode mode = LockMode.REDIS;
+
+	/**
+	 * true이면 고정 lease 대신 워치독이 락을 주기적으로 갱신합니다.
+	 */
+	private boolean leaseRenewal = false;
+
+	/**
+	 * 워치독 lease 시간(ms). 노드가 죽으면 이 시간 뒤에 락이 풀립니다.
+	 */
+	private long watchdogTimeout = 30000L;
+
+	private Local local = new Local();
+
+	@Getter
+	@Setter
+	public static class Local {
+		/**
+		 * 로컬 스트라이프 락 개수 (2의 거듭제곱으로 올림)
+		 */
+		private int stripes = 1024;
+	}
+}
@@ -0,0 +1,56 @@
+package com.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code account.near-cache.*} 설정 값을 담습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "account.near-cache")
+public class NearCacheProperties {
+	/**
+	 * true이면 사용자 존재 여부, 계좌 메타데이터(소유자, 상태, 계좌번호), 거래 조회 결과를 JVM 메모리에 캐시합니다.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 캐시할 최대 계좌 수
+	 */
+	private long accountMaximumSize = 100_000L;
+
+	/**
+	 * 캐시할 최대 사용자 수
+	 */
+	private long userMaximumSize = 10_000L;
+
+	/**
+	 * 저장 후 만료 시간(ms). 다른 노드에서 해지된 계좌는 최대 이 시간 동안 사용 중으로 보일 수 있습니다.
+	 */
+	private long expireAfterWrite = 60_000L;
+
+	/**
+	 * 거래 캐시의 최대 크기(추정 바이트). 거래마다 크기를 추정하여 합계가 이 값을 넘지 않도록 축출합니다.
+	 */
+	private long transactionMaximumWeight = 64L * 1024 * 1024;
+
+	/**
+	 * 거래 캐시의 저장 후 만료 시간(ms). 거래는 변경되지 않으므로 메모리 회수 목적입니다.
+	 */
+	private long transactionExpireAfterWrite = 600_000L;
+
+	/**
+	 * 존재하지 않는 거래 ID를 기억할 최대 개수
+	 */
+	private long missingTransactionMaximumSize = 10_000L;
+
+	/**
+	 * 존재하지 않는 거래 ID를 기억하는 시간(ms). 다른 노드에서 방금 저장된 거래는 최대 이 시간 동안 없는 것으로 보일 수 있습니다.
+	 */
+	private long missingTransactionExpireAfterWrite = 1_000L;
+}
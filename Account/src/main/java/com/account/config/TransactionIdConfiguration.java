@@ -0,0 +1,31 @@
+package com.account.config;
+
+import java.security.SecureRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.account.id.TimeOrderedTransactionIdGenerator;
+import com.account.id.TransactionIdGenerator;
+import com.account.id.UuidTransactionIdGenerator;
+
+/**
+ * 거래 ID 생성기를 구성합니다.
+ * <p>
+ * - {@code account.transaction-id.generator}: time-ordered(기본), uuid<br>
+ * - {@code account.transaction-id.node-id}: 0~65535, 여러 노드로 배포할 때는 노드마다 다르게 지정
+ */
+@Configuration
+public class TransactionIdConfiguration {
+
+	@Bean
+	public TransactionIdGenerator transactionIdGenerator(
+			@Value("${account.transaction-id.generator:time-ordered}") String generator,
+			@Value("${account.transaction-id.node-id:-1}") int nodeId) {
+		if ("uuid".equalsIgnoreCase(generator)) {
+			return new UuidTransactionIdGenerator();
+		}
+		return new TimeOrderedTransactionIdGenerator(nodeId >= 0 ? nodeId : new SecureRandom().nextInt(0x10000));
+	}
+}
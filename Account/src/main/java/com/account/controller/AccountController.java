@@ -11,7 +11,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.account.domain.Account;
+import com.account.aop.AccountLock;
+import com.account.dto.AccountDetailResponse;
 import com.account.dto.AccountInfo;
 import com.account.dto.CreateAccount;
 import com.account.dto.DeleteAccount;
@@ -48,6 +49,7 @@ public class AccountController {
 	 * @return 계좌 삭제 결과를 담은 응답 DTO
 	 */
 	@DeleteMapping("/account")
+	@AccountLock
 	public DeleteAccount.Response deleteAccount(@RequestBody @Valid DeleteAccount.Request request) {
 		return DeleteAccount.Response
 				.from(accountService.deleteAccount(request.getUserId(), request.getAccountNumber()));
@@ -71,10 +73,10 @@ public class AccountController {
 	 * 계좌 ID를 통해 단일 계좌 정보를 조회합니다.
 	 *
 	 * @param id 조회할 계좌의 ID
-	 * @return 계좌 엔티티 객체
+	 * @return 계좌 상세 정보를 담은 응답 DTO
 	 */
 	@GetMapping("/account/{id}")
-	public Account getAccount(@PathVariable("id") Long id) {
-		return accountService.getAccount(id);
+	public AccountDetailResponse getAccount(@PathVariable("id") Long id) {
+		return AccountDetailResponse.from(accountService.getAccount(id));
 	}
 }
@@ -7,11 +7,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.account.aop.AccountLock;
+import com.account.aop.Idempotent;
+import com.account.coalesce.DebitCoalescer;
+import com.account.commit.GroupCommitExecutor;
 import com.account.dto.CancelBalance;
 import com.account.dto.QueryTransactionResponse;
+import com.account.dto.Transfer;
 import com.account.dto.UseBalance;
+import com.account.dto.UseBalanceBatch;
 import com.account.exception.AccountException;
+import com.account.recorder.FailedTransactionRecorder;
 import com.account.service.TransactionService;
+import com.account.type.TransactionType;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +30,9 @@ import lombok.extern.slf4j.Slf4j;
  * 제공 기능:
  * <ul>
  *   <li>잔액 사용</li>
+ *   <li>잔액 일괄 사용</li>
  *   <li>잔액 사용 취소</li>
+ *   <li>계좌 간 이체</li>
  *   <li>거래 조회</li>
  * </ul>
  */
@@ -32,33 +41,56 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TransactionController {
 	private final TransactionService transactionService;
+	private final FailedTransactionRecorder failedTransactionRecorder;
+	private final GroupCommitExecutor groupCommitExecutor;
+	private final DebitCoalescer debitCoalescer;
 
 	/**
 	 * 계좌에서 잔액을 사용하는 요청을 처리합니다.
 	 * 
 	 * @param request 사용자 ID, 계좌번호, 금액이 포함된 요청 객체
 	 * @return 잔액 사용 결과 응답 객체
-	 * @throws InterruptedException 
 	 * @throws AccountException 잔액 부족, 계좌 상태 오류 등 예외 발생 시
 	 */
 	@PostMapping("/transaction/use")
-	@AccountLock
-	public UseBalance.Response useBalance(@Valid @RequestBody UseBalance.Request request) throws InterruptedException {
+	@Idempotent("use")
+	@AccountLock(coalescing = true)
+	public UseBalance.Response useBalance(@Valid @RequestBody UseBalance.Request request) {
+		if (debitCoalescer.isEnabled()) {
+			// 계좌별 대기열의 리더가 락 획득과 실패 거래 기록까지 처리
+			return UseBalance.Response.from(debitCoalescer.use(request));
+		}
 
 		try {
-			Thread.sleep(5000L);
-			return UseBalance.Response.from(transactionService.useBalance(
-					request.getUserId(), request.getAccountNumber(), request.getAmount()));
+			return UseBalance.Response.from(groupCommitExecutor.execute(
+					() -> transactionService.useBalanceInGroupCommit(
+							request.getUserId(), request.getAccountNumber(), request.getAmount()),
+					() -> transactionService.useBalance(
+							request.getUserId(), request.getAccountNumber(), request.getAmount())));
 		} catch (AccountException e) {
 			log.error("잔액 사용 실패");
 
-			// 실패한 거래도 기록
-			transactionService.saveFailedUseTransaction(request.getAccountNumber(), request.getAmount());
+			// 실패한 거래도 기록 (백그라운드에서 배치 저장)
+			failedTransactionRecorder.record(TransactionType.USE, request.getAccountNumber(), request.getAmount());
 
 			throw e;
 		}
 	}
 
+	/**
+	 * 여러 건의 잔액 사용을 한 번에 처리합니다. 관련 계좌의 락을 정렬된 순서로 한 번씩 잡습니다.
+	 * <p>
+	 * 건별 실패는 예외 대신 결과의 errorCode로 돌려주며, 실패 거래는 요청 안에서 함께 기록됩니다.
+	 *
+	 * @param request 잔액 사용 요청 목록 (최대 1000건)
+	 * @return 요청과 같은 순서의 건별 결과
+	 */
+	@PostMapping("/transaction/use/batch")
+	@AccountLock
+	public UseBalanceBatch.Response useBalances(@Valid @RequestBody UseBalanceBatch.Request request) {
+		return UseBalanceBatch.Response.from(transactionService.useBalances(request.getItems()));
+	}
+
 	/**
 	 * 잔액 사용 거래를 취소합니다.
 	 *
@@ -67,6 +99,8 @@ public class TransactionController {
 	 * @throws AccountException 거래 취소 실패 시 예외 발생
 	 */
 	@PostMapping("/transaction/cancel")
+	@Idempotent("cancel")
+	@AccountLock
 	public CancelBalance.Response cancelBalance(@Valid @RequestBody CancelBalance.Request request) {
 
 		try {
@@ -75,8 +109,34 @@ public class TransactionController {
 		} catch (AccountException e) {
 			log.error("잔액 취소 실패");
 
-			// 실패한 거래도 기록
-			transactionService.saveFailedCancelTransaction(request.getAccountNumber(), request.getAmount());
+			// 실패한 거래도 기록 (백그라운드에서 배치 저장)
+			failedTransactionRecorder.record(TransactionType.CANCEL, request.getAccountNumber(), request.getAmount());
+
+			throw e;
+		}
+	}
+
+	/**
+	 * 두 계좌의 락을 정렬된 순서로 모두 잡은 뒤 계좌 간 이체를 처리합니다.
+	 *
+	 * @param request 사용자 ID, 출금/입금 계좌번호, 금액이 포함된 요청 객체
+	 * @return 이체 결과 응답 객체
+	 * @throws AccountException 잔액 부족, 계좌 상태 오류 등 예외 발생 시
+	 */
+	@PostMapping("/transaction/transfer")
+	@AccountLock
+	public Transfer.Response transferBalance(@Valid @RequestBody Transfer.Request request) {
+
+		try {
+			return Transfer.Response.from(transactionService.transferBalance(request.getUserId(),
+					request.getFromAccountNumber(), request.getToAccountNumber(), request.getAmount()),
+					request.getToAccountNumber());
+		} catch (AccountException e) {
+			log.error("이체 실패");
+
+			// 실패한 거래도 기록 (백그라운드에서 배치 저장)
+			failedTransactionRecorder.record(TransactionType.TRANSFER_OUT, request.getFromAccountNumber(),
+					request.getAmount());
 
 			throw e;
 		}
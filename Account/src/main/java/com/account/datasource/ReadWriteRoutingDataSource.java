@@ -0,0 +1,112 @@
+package com.account.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.account.type.DataSourceRoute;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션은 복제 DB에서, 그 외에는 주 DB에서 가져옵니다.
+ * <p>
+ * - 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 등록되지 않으므로
+ * {@link #lazyProxy()}로 감싸 첫 SQL 실행 시점에 커넥션을 고르도록 해야 합니다.<br>
+ * - 복제 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 주 DB로 보냅니다.<br>
+ * - 경로별 커넥션 획득 횟수를 account.datasource.route{route, reason}로 기록합니다.
+ * 조회 키 결정은 LazyConnectionDataSourceProxy 등에서 커넥션 하나에 여러 번 호출될 수 있으므로,
+ * 실제로 커넥션을 얻은 경우에만 한 번 기록합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+	private final ReplicaLagMonitor replicaLagMonitor;
+	private final Counter primaryCounter;
+	private final Counter replicaCounter;
+	private final Counter staleCounter;
+
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+			MeterRegistry meterRegistry) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		this.primaryCounter = routeCounter(meterRegistry, DataSourceRoute.PRIMARY, "write");
+		this.replicaCounter = routeCounter(meterRegistry, DataSourceRoute.REPLICA, "read_only");
+		this.staleCounter = routeCounter(meterRegistry, DataSourceRoute.PRIMARY, "replica_stale");
+		setTargetDataSources(Map.<Object, Object>of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	/**
+	 * 첫 SQL 실행 시점에 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감쌉니다.
+	 * <p>
+	 * 프록시가 기본 커넥션 속성(auto-commit, 격리 수준)을 알아내려고 라우팅을 거쳐 커넥션을 하나 더 얻지 않도록
+	 * 주 DB에서 직접 읽어 지정합니다.
+	 *
+	 * @return 이 DataSource를 감싼 프록시
+	 * @throws SQLException 주 DB 커넥션을 얻지 못한 경우
+	 */
+	public LazyConnectionDataSourceProxy lazyProxy() throws SQLException {
+		LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+		proxy.setTargetDataSource(this);
+		try (Connection connection = getResolvedDefaultDataSource().getConnection()) {
+			proxy.setDefaultAutoCommit(connection.getAutoCommit());
+			proxy.setDefaultTransactionIsolation(connection.getTransactionIsolation());
+		}
+		proxy.afterPropertiesSet();
+		return proxy;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return route().key;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		Route route = route();
+		Connection connection = getResolvedDataSources().get(route.key).getConnection();
+		route.counter.increment();
+		return connection;
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		Route route = route();
+		Connection connection = getResolvedDataSources().get(route.key).getConnection(username, password);
+		route.counter.increment();
+		return connection;
+	}
+
+	private Route route() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return new Route(DataSourceRoute.PRIMARY, primaryCounter);
+		}
+		if (!replicaLagMonitor.isAcceptable()) {
+			return new Route(DataSourceRoute.PRIMARY, staleCounter);
+		}
+		return new Route(DataSourceRoute.REPLICA, replicaCounter);
+	}
+
+	private static Counter routeCounter(MeterRegistry meterRegistry, DataSourceRoute route, String reason) {
+		return Counter.builder("account.datasource.route")
+				.tag("route", route.name().toLowerCase())
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+
+	private static class Route {
+		private final DataSourceRoute key;
+		private final Counter counter;
+
+		Route(DataSourceRoute key, Counter counter) {
+			this.key = key;
+			this.counter = counter;
+		}
+	}
+}
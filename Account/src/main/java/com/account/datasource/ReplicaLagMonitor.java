@@ -0,0 +1,73 @@
+package com.account.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import com.account.config.DataSourceRoutingProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제 DB의 지연을 주기적으로 측정하여 읽기를 복제 DB로 보내도 되는지 판단합니다.
+ * <p>
+ * - 지연 측정 SQL이 없으면 항상 복제 DB를 사용합니다.<br>
+ * - 측정한 지연이 maxLag보다 크거나 측정에 실패하면 다음 측정 전까지 주 DB를 사용합니다.<br>
+ * - 측정 결과가 없거나(빈 결과, NULL) 아직 한 번도 측정하지 않았으면 지연을 알 수 없으므로 주 DB를 사용합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+	static final long UNAVAILABLE = -1L;
+
+	private final DataSourceRoutingProperties.Staleness staleness;
+	private final JdbcTemplate replicaJdbcTemplate;
+
+	private volatile long lag = UNAVAILABLE;
+
+	public ReplicaLagMonitor(DataSourceRoutingProperties properties, DataSource replicaDataSource,
+			MeterRegistry meterRegistry) {
+		this.staleness = properties.getStaleness();
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		Gauge.builder("account.datasource.replica.lag", this, monitor -> monitor.lag)
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${account.datasource.staleness.probe-interval:1000}")
+	public void probe() {
+		if (!StringUtils.hasText(staleness.getLagQuery())) {
+			return;
+		}
+		try {
+			Number measured = replicaJdbcTemplate.queryForObject(staleness.getLagQuery(), Number.class);
+			if (measured == null) {
+				log.warn("복제 지연 측정 결과 없음, 주 DB로 읽기 전환");
+				lag = UNAVAILABLE;
+				return;
+			}
+			lag = measured.longValue();
+		} catch (RuntimeException e) {
+			log.warn("복제 지연 측정 실패, 주 DB로 읽기 전환", e);
+			lag = UNAVAILABLE;
+		}
+	}
+
+	/**
+	 * @return 복제 DB의 데이터가 허용 지연 이내이면 true
+	 */
+	public boolean isAcceptable() {
+		if (!StringUtils.hasText(staleness.getLagQuery())) {
+			return true;
+		}
+		long current = lag;
+		return current != UNAVAILABLE && current <= staleness.getMaxLag();
+	}
+
+	long getLag() {
+		return lag;
+	}
+}
@@ -6,17 +6,24 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.account.domain.converter.AccountStatusConverter;
 import com.account.exception.AccountException;
 import com.account.type.AccountStatus;
 import com.account.type.ErrorCode;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,20 +36,31 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "ux_account_account_number", columnList = "account_number", unique = true))
 @EntityListeners(AuditingEntityListener.class)
 public class Account {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+	@SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
 	private Long id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private AccountUser accountUser;
+
+	@Column(length = 10, nullable = false)
 	private String accountNumber;
 
-	@Enumerated(EnumType.STRING)
+	@Convert(converter = AccountStatusConverter.class)
 	private AccountStatus accountStatus;
 	private Long balance;
 
+	// 낙관적 동시성 모드에서 갱신 충돌 감지용
+	@Version
+	private Long version;
+
+	// 마지막으로 이 계좌를 갱신한 락 소유자의 펜싱 토큰
+	private Long fencingToken;
+
 	private LocalDateTime registeredAt;
 	private LocalDateTime unRegisteredAt;
 
@@ -58,6 +76,13 @@ public class Account {
 		balance -= amount;
 	}
 
+	public void depositBalance(Long amount) {
+		if (amount <= 0) {
+			throw new AccountException(ErrorCode.INVALID_REQUEST);
+		}
+		balance += amount;
+	}
+
 	public void cancelBalance(Long amount) {
 		if (amount > 0) {
 			throw new AccountException(ErrorCode.INVALID_REQUEST);
@@ -0,0 +1,26 @@
+package com.account.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 노드별 계좌번호 블록 예약에 사용하는 카운터 행입니다.
+ * nextValue는 아직 어떤 노드에도 예약되지 않은 첫 번째 계좌번호입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+public class AccountNumberSequence {
+	@Id
+	private String name;
+
+	private Long nextValue;
+}
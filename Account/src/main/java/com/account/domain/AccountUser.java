@@ -2,6 +2,7 @@ package com.account.domain;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -9,7 +10,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,12 +28,18 @@ import lombok.Setter;
 @EntityListeners(AuditingEntityListener.class)
 public class AccountUser {
 	@Id
-	@GeneratedValue
-
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_user_seq")
+	// data.sql 시드 사용자(1~3)와 겹치지 않도록 1000번부터 발급
+	@SequenceGenerator(name = "account_user_seq", sequenceName = "account_user_seq", initialValue = 1000, allocationSize = 50)
 	private Long id;
 
 	private String name;
 
+	// 해지되지 않은 계좌 수 (계좌 생성/해지 시 조건부 UPDATE로만 변경)
+	@Builder.Default
+	@ColumnDefault("0")
+	private Integer activeAccountCount = 0;
+
 	@CreatedDate
 	private LocalDateTime createdAt;
 	@LastModifiedDate
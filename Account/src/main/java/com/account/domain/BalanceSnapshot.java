@@ -0,0 +1,52 @@
+package com.account.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 이벤트 소싱 모드에서 특정 원장 순번까지 합산한 계좌 잔액입니다.
+ * 현재 잔액은 가장 최근 스냅샷 + 이후 원장 변화량의 합입니다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(indexes = @Index(name = "ux_balance_snapshot_account_sequence",
+		columnList = "account_id, account_sequence", unique = true))
+@EntityListeners(AuditingEntityListener.class)
+public class BalanceSnapshot {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_snapshot_seq")
+	@SequenceGenerator(name = "balance_snapshot_seq", sequenceName = "balance_snapshot_seq", allocationSize = 50)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Account account;
+
+	// 이 스냅샷에 포함된 마지막 원장 순번 (0이면 이벤트 소싱 전환 시점의 잔액)
+	private Long accountSequence;
+	private Long balance;
+
+	@CreatedDate
+	private LocalDateTime createdAt;
+}
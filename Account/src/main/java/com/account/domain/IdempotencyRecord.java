@@ -0,0 +1,69 @@
+package com.account.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.account.domain.converter.IdempotencyStatusConverter;
+import com.account.type.ErrorCode;
+import com.account.type.IdempotencyStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key별로 저장한 첫 응답입니다. 성공 응답은 JSON 본문, 실패 응답은 에러 코드만 남깁니다.
+ * <p>
+ * 첫 요청이 처리를 시작할 때 PENDING으로 INSERT하여 키를 점유하고(먼저 저장된 기록이 있으면 키 충돌로 실패),
+ * 처리가 끝나면 같은 행을 COMPLETED로 갱신합니다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(indexes = @Index(name = "ix_idempotency_record_created_at", columnList = "created_at"))
+public class IdempotencyRecord implements Persistable<String> {
+	// 범위:소유자:키 (예: use:user:1:3f1c...)
+	@Id
+	@Column(length = 100)
+	private String idempotencyKey;
+
+	@Column(length = 2000)
+	private String responseBody;
+
+	@Convert(converter = IdempotencyStatusConverter.class)
+	@Column(nullable = false)
+	private IdempotencyStatus status;
+
+	@Enumerated(EnumType.STRING)
+	private ErrorCode errorCode;
+
+	// 첫 요청 본문의 SHA-256 (같은 키로 다른 요청을 보냈는지 확인)
+	@Column(length = 64)
+	private String requestHash;
+
+	private LocalDateTime createdAt;
+
+	@Override
+	public String getId() {
+		return idempotencyKey;
+	}
+
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+}
@@ -2,20 +2,30 @@ package com.account.domain;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.account.domain.converter.TransactionIdConverter;
+import com.account.domain.converter.TransactionResultTypeConverter;
+import com.account.domain.converter.TransactionTypeConverter;
 import com.account.type.TransactionResultType;
 import com.account.type.TransactionType;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,23 +38,40 @@ import lombok.Setter;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+		@Index(name = "ux_transaction_transaction_id", columnList = "transaction_id", unique = true),
+		@Index(name = "ix_transaction_account_transacted_at", columnList = "account_id, transacted_at"),
+		@Index(name = "ux_transaction_account_sequence", columnList = "account_id, account_sequence", unique = true),
+		@Index(name = "ux_transaction_cancel_target", columnList = "cancel_target_id", unique = true) })
 @EntityListeners(AuditingEntityListener.class)
 public class Transaction {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+	@SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
 	private Long id;
 
-	@Enumerated(EnumType.STRING)
+	@Convert(converter = TransactionTypeConverter.class)
 	private TransactionType transactionType;
 
-	@Enumerated(EnumType.STRING)
+	@Convert(converter = TransactionResultTypeConverter.class)
 	private TransactionResultType transactionResultType;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Account account;
 	private Long amount;
 	private Long balanceSnapshot;
 
+	// 이벤트 소싱 모드에서 계좌별로 1씩 증가하는 원장 순번 (그 외에는 null)
+	private Long accountSequence;
+
+	// 취소 거래가 취소한 원거래의 행 ID (원거래당 취소 거래는 하나, 그 외에는 null)
+	// 원거래가 먼저 보관·삭제될 수 있으므로 외래 키 대신 값으로 보관
+	private Long cancelTargetId;
+
+	// 32자리 16진수 ID를 16바이트 고정 길이 바이너리로 저장 (가변 길이 헤더 없음)
+	@Convert(converter = TransactionIdConverter.class)
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(length = 16, nullable = false)
 	private String transactionId;
 	private LocalDateTime transactedAt;
 
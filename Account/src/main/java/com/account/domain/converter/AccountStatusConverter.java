@@ -0,0 +1,12 @@
+package com.account.domain.converter;
+
+import com.account.type.AccountStatus;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class AccountStatusConverter extends CodeEnumConverter<AccountStatus> {
+	public AccountStatusConverter() {
+		super(AccountStatus.class);
+	}
+}
@@ -0,0 +1,34 @@
+package com.account.domain.converter;
+
+import com.account.type.CodeEnum;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * {@link CodeEnum}을 문자열 대신 SMALLINT 코드로 저장하는 컨버터의 공통 구현입니다.
+ */
+public abstract class CodeEnumConverter<E extends Enum<E> & CodeEnum> implements AttributeConverter<E, Short> {
+	private final E[] constants;
+
+	protected CodeEnumConverter(Class<E> enumType) {
+		this.constants = enumType.getEnumConstants();
+	}
+
+	@Override
+	public Short convertToDatabaseColumn(E attribute) {
+		return attribute == null ? null : (short) attribute.getCode();
+	}
+
+	@Override
+	public E convertToEntityAttribute(Short code) {
+		if (code == null) {
+			return null;
+		}
+		for (E constant : constants) {
+			if (constant.getCode() == code) {
+				return constant;
+			}
+		}
+		throw new IllegalArgumentException("Unknown code " + code + " for " + constants[0].getDeclaringClass());
+	}
+}
@@ -0,0 +1,12 @@
+package com.account.domain.converter;
+
+import com.account.type.IdempotencyStatus;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class IdempotencyStatusConverter extends CodeEnumConverter<IdempotencyStatus> {
+	public IdempotencyStatusConverter() {
+		super(IdempotencyStatus.class);
+	}
+}
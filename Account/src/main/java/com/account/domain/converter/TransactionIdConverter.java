@@ -0,0 +1,39 @@
+package com.account.domain.converter;
+
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 32자리 16진수 거래 ID를 16바이트 바이너리로 저장합니다.
+ * <p>
+ * 문자열(32바이트 이상 + 길이 헤더) 대비 행과 인덱스 크기가 절반 이하로 줄어듭니다.
+ */
+@Converter
+public class TransactionIdConverter implements AttributeConverter<String, byte[]> {
+	private static final HexFormat HEX = HexFormat.of();
+	private static final Pattern TRANSACTION_ID = Pattern.compile("[0-9a-fA-F]{32}");
+
+	/**
+	 * 바이너리로 저장할 수 있는 거래 ID인지 확인합니다.
+	 * 형식이 맞지 않는 ID는 DB를 조회하지 않고 없는 거래로 처리할 수 있습니다.
+	 *
+	 * @param transactionId 거래 ID
+	 * @return 32자리 16진수이면 true
+	 */
+	public static boolean isWellFormed(String transactionId) {
+		return transactionId != null && TRANSACTION_ID.matcher(transactionId).matches();
+	}
+
+	@Override
+	public byte[] convertToDatabaseColumn(String transactionId) {
+		return transactionId == null ? null : HEX.parseHex(transactionId);
+	}
+
+	@Override
+	public String convertToEntityAttribute(byte[] bytes) {
+		return bytes == null ? null : HEX.formatHex(bytes);
+	}
+}
@@ -0,0 +1,12 @@
+package com.account.domain.converter;
+
+import com.account.type.TransactionResultType;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class TransactionResultTypeConverter extends CodeEnumConverter<TransactionResultType> {
+	public TransactionResultTypeConverter() {
+		super(TransactionResultType.class);
+	}
+}
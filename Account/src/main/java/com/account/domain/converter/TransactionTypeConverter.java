@@ -0,0 +1,12 @@
+package com.account.domain.converter;
+
+import com.account.type.TransactionType;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class TransactionTypeConverter extends CodeEnumConverter<TransactionType> {
+	public TransactionTypeConverter() {
+		super(TransactionType.class);
+	}
+}
@@ -0,0 +1,31 @@
+package com.account.dto;
+
+import java.time.LocalDateTime;
+
+import com.account.type.AccountStatus;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+public class AccountDetailResponse {
+	private Long userId;
+	private String accountNumber;
+	private AccountStatus accountStatus;
+	private Long balance;
+	private LocalDateTime registeredAt;
+	private LocalDateTime unRegisteredAt;
+
+	public static AccountDetailResponse from(AccountDto accountDto) {
+		return AccountDetailResponse.builder()
+				.userId(accountDto.getUserId())
+				.accountNumber(accountDto.getAccountNumber())
+				.accountStatus(accountDto.getAccountStatus())
+				.balance(accountDto.getBalance())
+				.registeredAt(accountDto.getRegisteredAt())
+				.unRegisteredAt(accountDto.getUnRegisteredAt())
+				.build();
+	}
+}
@@ -3,6 +3,7 @@ package com.account.dto;
 import java.time.LocalDateTime;
 
 import com.account.domain.Account;
+import com.account.type.AccountStatus;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +19,7 @@ import lombok.Setter;
 public class AccountDto {
 	private Long userId;
 	private String accountNumber;
+	private AccountStatus accountStatus;
 	private Long balance;
 
 	private LocalDateTime registeredAt;
@@ -25,7 +27,7 @@ public class AccountDto {
 
 	public static AccountDto fromEntity(Account account) {
 		return AccountDto.builder().userId(account.getAccountUser().getId()).accountNumber(account.getAccountNumber())
-				.balance(account.getBalance()).registeredAt(account.getRegisteredAt())
+				.accountStatus(account.getAccountStatus()).balance(account.getBalance()).registeredAt(account.getRegisteredAt())
 				.unRegisteredAt(account.getUnRegisteredAt()).build();
 	}
 }
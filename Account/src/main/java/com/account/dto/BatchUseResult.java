@@ -0,0 +1,25 @@
+package com.account.dto;
+
+import com.account.type.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 잔액 사용의 건별 결과입니다.
+ * 실패 시 errorCode가 채워지며, 계좌가 있는 경우 transaction은 기록된 실패 거래입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BatchUseResult {
+	private final TransactionDto transaction;
+	private final ErrorCode errorCode;
+
+	public static BatchUseResult success(TransactionDto transaction) {
+		return new BatchUseResult(transaction, null);
+	}
+
+	public static BatchUseResult failure(TransactionDto transaction, ErrorCode errorCode) {
+		return new BatchUseResult(transaction, errorCode);
+	}
+}
@@ -3,6 +3,7 @@ package com.account.dto;
 import java.time.LocalDateTime;
 
 import com.account.aop.AccountLockIdInterface;
+import com.account.aop.IdempotencyOwnerInterface;
 import com.account.type.TransactionResultType;
 
 import jakarta.validation.constraints.Max;
@@ -26,7 +27,7 @@ public class CancelBalance {
 	@Setter
 	@NoArgsConstructor
 	@AllArgsConstructor
-	public static class Request implements AccountLockIdInterface{
+	public static class Request implements AccountLockIdInterface, IdempotencyOwnerInterface {
 		@NotBlank
 		private String transactionId;
 
@@ -38,6 +39,12 @@ public class CancelBalance {
 		@Min(10)
 		@Max(1000_000_000)
 		private Long amount;
+
+		// 취소 요청에는 사용자 ID가 없으므로 계좌(소유자)로 범위를 정함
+		@Override
+		public String idempotencyOwner() {
+			return "account:" + accountNumber;
+		}
 	}
 
 	/*
@@ -2,6 +2,8 @@ package com.account.dto;
 
 import java.time.LocalDateTime;
 
+import com.account.aop.AccountLockIdInterface;
+
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -17,7 +19,7 @@ public class DeleteAccount {
 	@Setter
 	@NoArgsConstructor
 	@AllArgsConstructor
-	public static class Request {
+	public static class Request implements AccountLockIdInterface {
 		@NotNull
 		@Min(1)
 		private Long userId;
@@ -27,8 +27,15 @@ public class TransactionDto {
 	private LocalDateTime transactedAt;
 	
 	public static TransactionDto fromEntity(Transaction transaction) {
+		return fromEntity(transaction, transaction.getAccount().getAccountNumber());
+	}
+
+	/**
+	 * 계좌 엔티티를 읽지 않고(프록시 초기화 없이) 이미 알고 있는 계좌번호로 DTO를 만듭니다.
+	 */
+	public static TransactionDto fromEntity(Transaction transaction, String accountNumber) {
 		return TransactionDto.builder()
-				.accountNumber(transaction.getAccount().getAccountNumber())
+				.accountNumber(accountNumber)
 				.transactionType(transaction.getTransactionType())
 				.transactionResultType(transaction.getTransactionResultType())
 				.amount(transaction.getAmount())
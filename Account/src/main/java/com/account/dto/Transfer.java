@@ -0,0 +1,84 @@
+package com.account.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.account.aop.AccountLockIdsInterface;
+import com.account.type.TransactionResultType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class Transfer {
+	/*
+	 * { "userId": 1, "fromAccountNumber":"1000000000",
+	 * "toAccountNumber":"1000000001", "amount":1000 }
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Request implements AccountLockIdsInterface {
+		@NotNull
+		@Min(1)
+		private Long userId;
+
+		@NotBlank
+		@Size(min = 10, max = 10)
+		private String fromAccountNumber;
+
+		@NotBlank
+		@Size(min = 10, max = 10)
+		private String toAccountNumber;
+
+		@NotNull
+		@Min(10)
+		@Max(1000_000_000)
+		private Long amount;
+
+		@Override
+		@JsonIgnore
+		public List<String> getAccountNumbers() {
+			return List.of(fromAccountNumber, toAccountNumber);
+		}
+	}
+
+	/*
+	 * { "fromAccountNumber": "1000000000", "toAccountNumber": "1000000001",
+	 * "transactionResult":"S", "transactionId":"c2033bb6d82a4250aecf8e27c49b63f6",
+	 * "amount":1000, "transactedAt":"2022-06-01T23:26:14.671859" }
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class Response {
+		private String fromAccountNumber;
+		private String toAccountNumber;
+		private TransactionResultType transactionResult;
+		private String transactionId;
+		private Long amount;
+		private LocalDateTime transactedAt;
+
+		public static Response from(TransactionDto transactionDto, String toAccountNumber) {
+			return Response.builder()
+					.fromAccountNumber(transactionDto.getAccountNumber())
+					.toAccountNumber(toAccountNumber)
+					.transactionResult(transactionDto.getTransactionResultType())
+					.transactionId(transactionDto.getTransactionId())
+					.amount(transactionDto.getAmount())
+					.transactedAt(transactionDto.getTransactedAt())
+					.build();
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.account.dto;
 import java.time.LocalDateTime;
 
 import com.account.aop.AccountLockIdInterface;
+import com.account.aop.IdempotencyOwnerInterface;
 import com.account.dto.UseBalance.Response;
 import com.account.type.TransactionResultType;
 
@@ -25,7 +26,7 @@ public class UseBalance {
 	@Setter
 	@NoArgsConstructor
 	@AllArgsConstructor
-	public static class Request implements AccountLockIdInterface {
+	public static class Request implements AccountLockIdInterface, IdempotencyOwnerInterface {
 		@NotNull
 		@Min(1)
 		private Long userId;
@@ -38,6 +39,11 @@ public class UseBalance {
 		@Min(10)
 		@Max(1000_000_000)
 		private Long amount;
+
+		@Override
+		public String idempotencyOwner() {
+			return "user:" + userId;
+		}
 	}
 
 	/*
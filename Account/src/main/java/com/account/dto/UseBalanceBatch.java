@@ -0,0 +1,79 @@
+package com.account.dto;
+
+import java.util.List;
+
+import com.account.aop.AccountLockIdsInterface;
+import com.account.type.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class UseBalanceBatch {
+	/*
+	 * { "items": [ { "userId": 1, "accountNumber":"1000000000", "amount":1000 },
+	 * { "userId": 1, "accountNumber":"1000000001", "amount":2000 } ] }
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Request implements AccountLockIdsInterface {
+		@NotEmpty
+		@Size(max = 1000)
+		private List<UseBalance.@Valid Request> items;
+
+		@Override
+		@JsonIgnore
+		public List<String> getAccountNumbers() {
+			return items.stream().map(UseBalance.Request::getAccountNumber).distinct().toList();
+		}
+	}
+
+	/*
+	 * { "results": [ { "accountNumber": "1000000000", "transactionResult":"S",
+	 * "transactionId":"...", "amount":1000, "transactedAt":"..." },
+	 * { "accountNumber": "1000000001", "transactionResult":"F", "transactionId":"...",
+	 * "amount":2000, "transactedAt":"...", "errorCode":"AMOUNT_EXCEED_BALANCE",
+	 * "errorMessage":"..." } ] }
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Response {
+		// 요청 items와 같은 순서
+		private List<Result> results;
+
+		public static Response from(List<BatchUseResult> results) {
+			return new Response(results.stream().map(Result::from).toList());
+		}
+	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class Result {
+		@JsonUnwrapped
+		private UseBalance.Response response;
+		private ErrorCode errorCode;
+		private String errorMessage;
+
+		public static Result from(BatchUseResult result) {
+			return Result.builder()
+					.response(UseBalance.Response.from(result.getTransaction()))
+					.errorCode(result.getErrorCode())
+					.errorMessage(result.getErrorCode() == null ? null : result.getErrorCode().getDescription())
+					.build();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.account.id;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시간 순으로 정렬되는 128비트 거래 ID 생성기입니다.
+ * <p>
+ * 비트 구성 (상위 → 하위):
+ * <ul>
+ *   <li>48비트: epoch 밀리초</li>
+ *   <li>16비트: 노드 ID</li>
+ *   <li>24비트: 스레드 슬롯 (스레드별 최초 호출 시 할당)</li>
+ *   <li>40비트: 스레드별 순번</li>
+ * </ul>
+ * 스레드마다 자기 순번만 증가시키므로 락이나 CAS 경합이 없고, SecureRandom도 사용하지 않습니다.
+ * 앞부분이 시간이므로 새 ID가 B-tree 인덱스의 오른쪽 끝에 모여 삽입됩니다.
+ */
+public class TimeOrderedTransactionIdGenerator implements TransactionIdGenerator {
+	private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final long THREAD_SLOT_MASK = (1L << 24) - 1;
+	private static final long SEQUENCE_MASK = (1L << 40) - 1;
+
+	private final long nodeId;
+	private final AtomicInteger threadSlots = new AtomicInteger();
+	private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(this::newThreadState);
+
+	public TimeOrderedTransactionIdGenerator(int nodeId) {
+		if (nodeId < 0 || nodeId > 0xFFFF) {
+			throw new IllegalArgumentException("nodeId must be between 0 and 65535");
+		}
+		this.nodeId = nodeId;
+	}
+
+	@Override
+	public String nextId() {
+		ThreadState state = threadState.get();
+		long high = (System.currentTimeMillis() << 16) | nodeId;
+		long low = state.slot | (state.sequence++ & SEQUENCE_MASK);
+
+		byte[] chars = new byte[32];
+		writeHex(chars, 0, high);
+		writeHex(chars, 16, low);
+		return new String(chars, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * 이 생성기가 만든 거래 ID에서 생성 시각(epoch ms)을 꺼냅니다.
+	 *
+	 * @param transactionId 32자리 16진수 거래 ID
+	 * @return 생성 시각(epoch ms)
+	 */
+	public static long extractEpochMillis(String transactionId) {
+		return Long.parseUnsignedLong(transactionId.substring(0, 12), 16);
+	}
+
+	private ThreadState newThreadState() {
+		return new ThreadState((threadSlots.getAndIncrement() & THREAD_SLOT_MASK) << 40);
+	}
+
+	private static void writeHex(byte[] chars, int offset, long value) {
+		for (int i = offset + 15; i >= offset; i--) {
+			chars[i] = HEX[(int) (value & 0xF)];
+			value >>>= 4;
+		}
+	}
+
+	private static final class ThreadState {
+		private final long slot;
+		private long sequence;
+
+		private ThreadState(long slot) {
+			this.slot = slot;
+		}
+	}
+}
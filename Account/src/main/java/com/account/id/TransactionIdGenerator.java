@@ -0,0 +1,10 @@
+package com.account.id;
+
+/**
+ * 거래 ID 생성기입니다.
+ * <p>
+ * API 호환을 위해 모든 구현은 32자리 소문자 16진수 문자열을 반환합니다.
+ */
+public interface TransactionIdGenerator {
+	String nextId();
+}
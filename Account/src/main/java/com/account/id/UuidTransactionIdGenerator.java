@@ -0,0 +1,14 @@
+package com.account.id;
+
+import java.util.UUID;
+
+/**
+ * 기존 방식인 랜덤 UUID 기반 거래 ID 생성기입니다.
+ */
+public class UuidTransactionIdGenerator implements TransactionIdGenerator {
+
+	@Override
+	public String nextId() {
+		return UUID.randomUUID().toString().replace("-", "");
+	}
+}
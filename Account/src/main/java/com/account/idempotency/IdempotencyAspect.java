@@ -0,0 +1,196 @@
+package com.account.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.account.aop.IdempotencyOwnerInterface;
+import com.account.aop.Idempotent;
+import com.account.config.IdempotencyProperties;
+import com.account.exception.AccountException;
+import com.account.type.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link Idempotent} 엔드포인트의 Idempotency-Key 헤더를 처리합니다.
+ * <p>
+ * - 계좌 락(LockAopAspect)보다 먼저 실행되어, 저장된 응답이 있으면 락과 원장을 거치지 않고 바로 돌려줍니다.<br>
+ * - 키는 엔드포인트와 요청 소유자({@link IdempotencyOwnerInterface}) 범위 안에서만 같은 요청으로 취급합니다.<br>
+ * - 같은 키로 본문이 다른 요청이 오면 저장된 응답 대신 IDEMPOTENCY_KEY_REUSED로 거절합니다.<br>
+ * - 같은 키의 첫 요청이 처리 중이면(다른 노드 포함) 그 결과를 기다립니다.<br>
+ * - 처리 전에 키를 DB에 점유하므로 여러 노드에 동시에 도착한 같은 키의 요청 중 하나만 처리됩니다.<br>
+ * - 성공 응답과 검증 실패(AccountException)를 저장하고, 락 획득 실패처럼 다시 시도하면 성공할 수 있는 실패는 저장하지 않습니다.
+ * <p>
+ * 저장된 응답을 돌려준 횟수는 account.idempotency.replayed로 노출합니다.
+ */
+@Slf4j
+@Aspect
+@Component
+// ExposeInvocationInterceptor(HIGHEST_PRECEDENCE + 1)보다 앞서면 뒤따르는 LockAopAspect의 args() 바인딩이 깨지므로 0을 사용
+@Order(0)
+public class IdempotencyAspect {
+	public static final String HEADER = "Idempotency-Key";
+	private static final int MAX_KEY_LENGTH = 64;
+
+	private final IdempotencyProperties properties;
+	private final IdempotencyStore idempotencyStore;
+	private final ObjectMapper objectMapper;
+	private final Counter replayed;
+
+	public IdempotencyAspect(IdempotencyProperties properties, IdempotencyStore idempotencyStore,
+			ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.idempotencyStore = idempotencyStore;
+		this.objectMapper = objectMapper;
+		this.replayed = Counter.builder("account.idempotency.replayed")
+				.register(meterRegistry);
+	}
+
+	@Around("@annotation(idempotent)")
+	public Object aroundIdempotentMethod(ProceedingJoinPoint pjp, Idempotent idempotent) throws Throwable {
+		String key = idempotencyKey();
+		if (!properties.isEnabled() || key == null) {
+			return pjp.proceed();
+		}
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new AccountException(ErrorCode.INVALID_REQUEST);
+		}
+		String scopedKey = idempotent.value() + ":" + owner(pjp.getArgs()) + ":" + key;
+		String requestHash = requestHash(pjp.getArgs());
+		Class<?> responseType = ((MethodSignature) pjp.getSignature()).getReturnType();
+
+		Optional<StoredResponse> stored = idempotencyStore.find(scopedKey);
+		if (stored.isPresent()) {
+			return replay(stored.get(), requestHash, responseType);
+		}
+
+		CompletableFuture<StoredResponse> running = idempotencyStore.begin(scopedKey);
+		while (running != null) {
+			StoredResponse first = await(running);
+			if (first != null) {
+				return replay(first, requestHash, responseType);
+			}
+			// 첫 요청이 응답을 저장하지 않고 끝났으면 직접 처리
+			running = idempotencyStore.begin(scopedKey);
+		}
+		// 조회와 처리 시작 사이에 첫 요청이 끝난 경우
+		stored = idempotencyStore.find(scopedKey);
+		if (stored.isPresent()) {
+			idempotencyStore.release(scopedKey);
+			return replay(stored.get(), requestHash, responseType);
+		}
+		if (!claim(scopedKey, requestHash)) {
+			// 다른 노드에서 처리 중이거나 이미 처리된 키
+			Optional<StoredResponse> first = idempotencyStore.awaitCompleted(scopedKey);
+			idempotencyStore.release(scopedKey);
+			if (first.isEmpty()) {
+				throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+			}
+			return replay(first.get(), requestHash, responseType);
+		}
+
+		Object response;
+		try {
+			response = pjp.proceed();
+		} catch (AccountException e) {
+			if (e.getErrorCode() == ErrorCode.ACCOUNT_TRANSACTION_LOCK) {
+				idempotencyStore.abandon(scopedKey);
+			} else {
+				idempotencyStore.complete(scopedKey, StoredResponse.failure(e.getErrorCode(), requestHash));
+			}
+			throw e;
+		} catch (Throwable t) {
+			idempotencyStore.abandon(scopedKey);
+			throw t;
+		}
+
+		try {
+			idempotencyStore.complete(scopedKey, StoredResponse.success(objectMapper.writeValueAsString(response),
+					requestHash));
+		} catch (JsonProcessingException e) {
+			// 이미 처리된 요청이므로 응답은 그대로 돌려줌
+			log.error("멱등 응답 직렬화 실패 key: {}", scopedKey, e);
+			idempotencyStore.abandon(scopedKey);
+		}
+		return response;
+	}
+
+	private boolean claim(String scopedKey, String requestHash) {
+		try {
+			return idempotencyStore.claim(scopedKey, requestHash);
+		} catch (RuntimeException e) {
+			idempotencyStore.release(scopedKey);
+			throw e;
+		}
+	}
+
+	private Object replay(StoredResponse stored, String requestHash, Class<?> responseType) throws Exception {
+		if (!Objects.equals(stored.getRequestHash(), requestHash)) {
+			throw new AccountException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+		}
+		replayed.increment();
+		if (stored.getErrorCode() != null) {
+			throw new AccountException(stored.getErrorCode());
+		}
+		return objectMapper.readValue(stored.getBody(), responseType);
+	}
+
+	private StoredResponse await(CompletableFuture<StoredResponse> running) {
+		try {
+			return running.get(properties.getInFlightWait(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		}
+	}
+
+	private static String owner(Object[] args) {
+		for (Object arg : args) {
+			if (arg instanceof IdempotencyOwnerInterface request) {
+				return request.idempotencyOwner();
+			}
+		}
+		return "-";
+	}
+
+	/**
+	 * 요청 인자를 JSON으로 직렬화한 값의 SHA-256 (16진수)
+	 */
+	private String requestHash(Object[] args) throws JsonProcessingException {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+					.digest(objectMapper.writeValueAsBytes(args)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String idempotencyKey() {
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			return attributes.getRequest().getHeader(HEADER);
+		}
+		return null;
+	}
+}
@@ -0,0 +1,241 @@
+package com.account.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.account.config.IdempotencyProperties;
+import com.account.domain.IdempotencyRecord;
+import com.account.repository.IdempotencyRecordRepository;
+import com.account.type.IdempotencyStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key별 첫 응답을 보관합니다.
+ * <p>
+ * - 메모리 계층: 크기 제한 Caffeine 캐시, 항목은 처음 저장된 시각 + ttl에 만료<br>
+ * - 영구 계층(persistent=true): DB 테이블, 메모리에서 밀려났거나 재시작/다른 노드에서 온 재시도에 사용<br>
+ * - 처리 중인 키는 이 노드 안에서 추적하여 동시에 도착한 재시도가 첫 요청의 결과를 기다리게 하고,
+ * 영구 계층을 쓰면 처리 전에 DB에 PENDING 기록을 넣어 다른 노드가 같은 키를 동시에 처리하지 못하게 합니다.
+ * <p>
+ * 응답 저장(PENDING → COMPLETED 갱신)에 실패해도 응답은 그대로 돌려주며 메모리 계층에는 남습니다.
+ * 처리 중에 노드가 죽어 남은 PENDING 기록은 보관 시간이 지나 삭제될 때까지 같은 키의 재시도를 막습니다. (중복 처리 방지 우선)
+ * 적중률은 cache.gets{cache=account.idempotency}로 노출합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+	private static final long POLL_INTERVAL_MILLIS = 50L;
+
+	private final IdempotencyProperties properties;
+	private final IdempotencyRecordRepository idempotencyRecordRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Cache<String, StoredResponse> responses;
+	private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+	public IdempotencyStore(IdempotencyProperties properties, IdempotencyRecordRepository idempotencyRecordRepository,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.idempotencyRecordRepository = idempotencyRecordRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.responses = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfter(new Expiry<String, StoredResponse>() {
+					@Override
+					public long expireAfterCreate(String key, StoredResponse response, long currentTime) {
+						Duration remaining = remaining(response);
+						return remaining.isNegative() ? 0L : remaining.toNanos();
+					}
+
+					@Override
+					public long expireAfterUpdate(String key, StoredResponse response, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+
+					@Override
+					public long expireAfterRead(String key, StoredResponse response, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, responses, "account.idempotency");
+	}
+
+	/**
+	 * 저장된 첫 응답을 찾습니다. 메모리에 없으면 DB에서 읽어 메모리에 넣습니다.
+	 *
+	 * @param idempotencyKey 범위가 붙은 키
+	 * @return 만료되지 않은 첫 응답, 없거나 다른 노드에서 처리 중이면 빈 값
+	 */
+	public Optional<StoredResponse> find(String idempotencyKey) {
+		StoredResponse cached = responses.getIfPresent(idempotencyKey);
+		if (cached != null || !properties.isPersistent()) {
+			return Optional.ofNullable(cached);
+		}
+		Optional<StoredResponse> stored = idempotencyRecordRepository.findById(idempotencyKey)
+				.filter(record -> record.getStatus() == IdempotencyStatus.COMPLETED)
+				.map(StoredResponse::fromEntity)
+				.filter(response -> !remaining(response).isNegative());
+		stored.ifPresent(response -> responses.put(idempotencyKey, response));
+		return stored;
+	}
+
+	/**
+	 * 키의 처리를 시작합니다.
+	 *
+	 * @param idempotencyKey 범위가 붙은 키
+	 * @return 이미 처리 중인 요청이 있으면 그 결과(저장하지 않고 끝나면 null로 완료), 없으면 null
+	 */
+	public CompletableFuture<StoredResponse> begin(String idempotencyKey) {
+		return inFlight.putIfAbsent(idempotencyKey, new CompletableFuture<>());
+	}
+
+	/**
+	 * DB에 처리 중(PENDING) 기록을 넣어 다른 노드보다 먼저 키를 점유합니다. {@link #begin}으로 이 노드에서 처리를 시작한 뒤에 호출합니다.
+	 *
+	 * @param idempotencyKey 범위가 붙은 키
+	 * @param requestHash    요청 본문의 해시
+	 * @return 점유했으면 true, 이미 기록(다른 노드에서 처리 중이거나 저장된 응답)이 있으면 false
+	 */
+	public boolean claim(String idempotencyKey, String requestHash) {
+		if (!properties.isPersistent()) {
+			return true;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.saveAndFlush(
+					IdempotencyRecord.builder()
+							.idempotencyKey(idempotencyKey)
+							.status(IdempotencyStatus.PENDING)
+							.requestHash(requestHash)
+							.createdAt(LocalDateTime.now())
+							.build()));
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			log.info("멱등 키를 다른 요청이 먼저 점유함 key: {}", idempotencyKey);
+			return false;
+		}
+	}
+
+	/**
+	 * 다른 노드가 점유한 키의 응답이 DB에 저장될 때까지 기다립니다.
+	 *
+	 * @param idempotencyKey 범위가 붙은 키
+	 * @return 저장된 응답, 대기 시간 안에 저장되지 않았거나 점유가 풀렸으면 빈 값
+	 */
+	public Optional<StoredResponse> awaitCompleted(String idempotencyKey) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getInFlightWait());
+		while (true) {
+			Optional<IdempotencyRecord> record = idempotencyRecordRepository.findById(idempotencyKey);
+			if (record.isEmpty()) {
+				return Optional.empty();
+			}
+			if (record.get().getStatus() == IdempotencyStatus.COMPLETED) {
+				StoredResponse response = StoredResponse.fromEntity(record.get());
+				responses.put(idempotencyKey, response);
+				return Optional.of(response);
+			}
+			if (System.nanoTime() >= deadline) {
+				return Optional.empty();
+			}
+			try {
+				Thread.sleep(POLL_INTERVAL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			}
+		}
+	}
+
+	/**
+	 * 점유한 키에 첫 응답을 저장(DB는 PENDING 기록을 COMPLETED로 갱신)하고 기다리던 재시도에 전달합니다.
+	 *
+	 * @param idempotencyKey 범위가 붙은 키
+	 * @param response       첫 응답
+	 */
+	public void complete(String idempotencyKey, StoredResponse response) {
+		responses.put(idempotencyKey, response);
+		try {
+			if (properties.isPersistent()) {
+				Integer updated = transactionTemplate.execute(status -> idempotencyRecordRepository.complete(
+						idempotencyKey, response.getBody(), response.getErrorCode(), response.getCreatedAt(),
+						IdempotencyStatus.PENDING, IdempotencyStatus.COMPLETED));
+				if (updated == null || updated == 0) {
+					log.warn("갱신할 멱등 기록 없음 key: {}", idempotencyKey);
+				}
+			}
+		} catch (DataAccessException e) {
+			// DB 장애 (메모리 계층에는 남음)
+			log.warn("멱등 응답 저장 실패 key: {}", idempotencyKey, e);
+		} finally {
+			finish(idempotencyKey, response);
+		}
+	}
+
+	/**
+	 * 점유한 키의 응답을 저장하지 않고 처리를 끝냅니다. DB의 PENDING 기록을 지우고, 기다리던 재시도는 직접 다시 실행합니다.
+	 *
+	 * @param idempotencyKey 범위가 붙은 키
+	 */
+	public void abandon(String idempotencyKey) {
+		try {
+			if (properties.isPersistent()) {
+				transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deletePending(
+						idempotencyKey, IdempotencyStatus.PENDING));
+			}
+		} catch (DataAccessException e) {
+			log.warn("멱등 키 점유 해제 실패 key: {}", idempotencyKey, e);
+		} finally {
+			finish(idempotencyKey, null);
+		}
+	}
+
+	/**
+	 * DB 기록은 건드리지 않고 이 노드에서의 처리만 끝냅니다. 키를 점유하지 못한 요청이 사용합니다.
+	 *
+	 * @param idempotencyKey 범위가 붙은 키
+	 */
+	public void release(String idempotencyKey) {
+		finish(idempotencyKey, null);
+	}
+
+	@Scheduled(fixedDelayString = "${account.idempotency.purge-interval:600000}")
+	public void purgeExpired() {
+		if (!properties.isEnabled() || !properties.isPersistent()) {
+			return;
+		}
+		LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(properties.getTtl()));
+		Integer purged = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteCreatedBefore(cutoff));
+		log.debug("만료된 멱등 응답 {}건 삭제", purged);
+	}
+
+	private void finish(String idempotencyKey, StoredResponse response) {
+		CompletableFuture<StoredResponse> waiting = inFlight.remove(idempotencyKey);
+		if (waiting != null) {
+			waiting.complete(response);
+		}
+	}
+
+	private Duration remaining(StoredResponse response) {
+		return Duration.between(LocalDateTime.now(), response.getCreatedAt().plus(Duration.ofMillis(properties.getTtl())));
+	}
+}
@@ -0,0 +1,34 @@
+package com.account.idempotency;
+
+import java.time.LocalDateTime;
+
+import com.account.domain.IdempotencyRecord;
+import com.account.type.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 첫 응답입니다. 성공이면 응답 JSON, 검증 실패면 에러 코드를 담고, 첫 요청 본문의 해시를 함께 남깁니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+	private final String body;
+	private final ErrorCode errorCode;
+	private final String requestHash;
+	private final LocalDateTime createdAt;
+
+	public static StoredResponse success(String body, String requestHash) {
+		return new StoredResponse(body, null, requestHash, LocalDateTime.now());
+	}
+
+	public static StoredResponse failure(ErrorCode errorCode, String requestHash) {
+		return new StoredResponse(null, errorCode, requestHash, LocalDateTime.now());
+	}
+
+	static StoredResponse fromEntity(IdempotencyRecord record) {
+		return new StoredResponse(record.getResponseBody(), record.getErrorCode(), record.getRequestHash(),
+				record.getCreatedAt());
+	}
+}
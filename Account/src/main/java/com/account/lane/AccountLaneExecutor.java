@@ -0,0 +1,168 @@
+package com.account.lane;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.account.config.ConcurrencyProperties;
+import com.account.exception.AccountException;
+import com.account.type.ErrorCode;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 계좌번호 해시로 선택되는 단일 스레드 실행 레인을 제공합니다.
+ * <p>
+ * - 같은 계좌의 변경 작업은 항상 같은 레인에서 도착 순서대로 실행되므로 락이 필요 없습니다.<br>
+ * - 서로 다른 계좌의 작업은 여러 레인에서 병렬로 실행됩니다.<br>
+ * - 레인 대기열이 가득 차면 ACCOUNT_TRANSACTION_LOCK으로 즉시 거절합니다.<br>
+ * - 여러 계좌를 다루는 작업은 {@link #hold}로 관련 레인을 모두 점유한 뒤 호출 스레드에서 실행합니다.
+ */
+@Component
+public class AccountLaneExecutor {
+	private final ThreadPoolExecutor[] lanes;
+	// 여러 레인에 점유 작업을 넣는 순서를 모든 레인에서 같게 맞추기 위한 락
+	private final Object holdOrder = new Object();
+
+	public AccountLaneExecutor(ConcurrencyProperties concurrencyProperties, MeterRegistry meterRegistry) {
+		ConcurrencyProperties.Lane lane = concurrencyProperties.getLane();
+		this.lanes = new ThreadPoolExecutor[lane.getCount()];
+		for (int i = 0; i < lanes.length; i++) {
+			lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(lane.getQueueCapacity()), namedThreadFactory(i));
+		}
+		Gauge.builder("account.lane.queue.size", this, AccountLaneExecutor::queuedTasks)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 계좌번호가 속한 레인에서 작업을 실행합니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 * @param task          실행할 작업
+	 * @return 작업 결과 (레인이 가득 찬 경우 AccountException으로 완료)
+	 */
+	public <T> CompletableFuture<T> submit(String accountNumber, Callable<T> task) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			lanes[laneIndex(accountNumber)].execute(() -> {
+				try {
+					future.complete(task.call());
+				} catch (Throwable t) {
+					future.completeExceptionally(t);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK));
+		}
+		return future;
+	}
+
+	/**
+	 * 여러 계좌의 레인을 모두 점유합니다. (이체, 일괄 사용처럼 여러 계좌를 다루는 요청용)
+	 * <p>
+	 * - 레인마다 점유 작업을 넣고, 앞선 작업이 끝나 점유 작업이 실행되면 그 레인을 점유한 것으로 봅니다.<br>
+	 * - 점유 작업은 한 번에 한 요청씩 레인 번호 순서로 넣으므로 모든 레인에서 요청 간 순서가 같아 교착이 생기지 않습니다.<br>
+	 * - 점유한 동안 해당 레인의 단일 계좌 작업은 실행되지 않으며, 호출자는 작업을 마친 뒤 반드시 close()로 풀어야 합니다.
+	 *
+	 * @param accountNumbers 계좌번호 목록
+	 * @param waitTime       모든 레인을 점유할 때까지 기다리는 최대 시간(ms)
+	 * @return 점유 해제 핸들
+	 * @throws AccountException 레인 대기열이 가득 찼거나 대기 시간 안에 점유하지 못한 경우
+	 */
+	public LaneHold hold(Collection<String> accountNumbers, long waitTime) {
+		int[] indices = accountNumbers.stream().mapToInt(this::laneIndex).distinct().sorted().toArray();
+		LaneHold hold = new LaneHold(indices.length);
+		synchronized (holdOrder) {
+			for (int index : indices) {
+				try {
+					lanes[index].execute(hold::occupy);
+				} catch (RejectedExecutionException e) {
+					hold.close();
+					throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+				}
+			}
+		}
+		if (!hold.awaitOccupied(waitTime)) {
+			// 아직 실행되지 않은 점유 작업은 실행되는 즉시 끝남
+			hold.close();
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		}
+		return hold;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+	}
+
+	int laneIndex(String accountNumber) {
+		int h = accountNumber.hashCode();
+		return Math.floorMod(h ^ (h >>> 16), lanes.length);
+	}
+
+	private int queuedTasks() {
+		int queued = 0;
+		for (ThreadPoolExecutor lane : lanes) {
+			queued += lane.getQueue().size();
+		}
+		return queued;
+	}
+
+	/**
+	 * {@link #hold}로 점유한 레인들을 풀어주는 핸들입니다.
+	 */
+	public static class LaneHold implements AutoCloseable {
+		private final CountDownLatch occupied;
+		private final CountDownLatch released = new CountDownLatch(1);
+
+		LaneHold(int laneCount) {
+			this.occupied = new CountDownLatch(laneCount);
+		}
+
+		private void occupy() {
+			occupied.countDown();
+			try {
+				released.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private boolean awaitOccupied(long waitTime) {
+			try {
+				return occupied.await(waitTime, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		@Override
+		public void close() {
+			released.countDown();
+		}
+	}
+
+	private static ThreadFactory namedThreadFactory(int laneIndex) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "account-lane-" + laneIndex + "-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
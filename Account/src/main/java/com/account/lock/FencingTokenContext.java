@@ -0,0 +1,56 @@
+package com.account.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드가 보유한 계좌 락의 펜싱 토큰을 보관합니다.
+ * <p>
+ * {@link com.account.service.LockAopAspect}가 락 획득 후 저장하고 해제 시 제거하며,
+ * 서비스 계층은 계좌 갱신 시 이 토큰을 함께 기록합니다.
+ */
+public final class FencingTokenContext {
+	private static final ThreadLocal<Map<String, Long>> TOKENS = ThreadLocal.withInitial(HashMap::new);
+
+	private FencingTokenContext() {
+	}
+
+	public static void set(String accountNumber, long fencingToken) {
+		TOKENS.get().put(accountNumber, fencingToken);
+	}
+
+	/**
+	 * @param accountNumber 계좌번호
+	 * @return 현재 스레드가 보유한 펜싱 토큰, 락 없이 호출된 경우 null
+	 */
+	public static Long get(String accountNumber) {
+		return TOKENS.get().get(accountNumber);
+	}
+
+	/**
+	 * 다른 스레드에서 같은 락 범위로 작업을 이어서 실행할 수 있도록 현재 토큰들을 복사합니다.
+	 *
+	 * @return 계좌번호별 펜싱 토큰 사본
+	 */
+	public static Map<String, Long> snapshot() {
+		return Map.copyOf(TOKENS.get());
+	}
+
+	/**
+	 * {@link #snapshot()}으로 복사한 토큰들을 현재 스레드에 설정합니다.
+	 * 사용 후에는 {@link #remove(String)}로 각 계좌의 토큰을 제거해야 합니다.
+	 *
+	 * @param fencingTokens 계좌번호별 펜싱 토큰
+	 */
+	public static void restore(Map<String, Long> fencingTokens) {
+		fencingTokens.forEach(FencingTokenContext::set);
+	}
+
+	public static void remove(String accountNumber) {
+		Map<String, Long> tokens = TOKENS.get();
+		tokens.remove(accountNumber);
+		if (tokens.isEmpty()) {
+			TOKENS.remove();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.account.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 스트라이프 락을 먼저 획득한 뒤 분산 락을 획득하는 {@link LockProvider} 구현입니다.
+ * <p>
+ * 같은 노드 안에서는 스레드 하나만 Redis 락을 두고 경합하므로,
+ * 핫 계좌에 요청이 몰려도 Redis 왕복은 노드 수만큼으로 줄어듭니다.
+ */
+@RequiredArgsConstructor
+public class HybridLockProvider implements LockProvider {
+	private final LockProvider localLockProvider;
+	private final LockProvider remoteLockProvider;
+
+	@Override
+	public boolean tryLock(String accountNumber, long waitTime, long leaseTime, TimeUnit unit)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(waitTime);
+		if (!localLockProvider.tryLock(accountNumber, waitTime, leaseTime, unit)) {
+			return false;
+		}
+
+		boolean acquired = false;
+		try {
+			long remainingMillis = Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+			long leaseMillis = leaseTime < 0 ? leaseTime : unit.toMillis(leaseTime);
+			acquired = remoteLockProvider.tryLock(accountNumber, remainingMillis, leaseMillis, TimeUnit.MILLISECONDS);
+			return acquired;
+		} finally {
+			if (!acquired) {
+				localLockProvider.unlock(accountNumber);
+			}
+		}
+	}
+
+	@Override
+	public void unlock(String accountNumber) {
+		try {
+			remoteLockProvider.unlock(accountNumber);
+		} finally {
+			localLockProvider.unlock(accountNumber);
+		}
+	}
+
+	@Override
+	public boolean tryLockAll(List<String> accountNumbers, long waitTime, long leaseTime, TimeUnit unit)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(waitTime);
+		if (!localLockProvider.tryLockAll(accountNumbers, waitTime, leaseTime, unit)) {
+			return false;
+		}
+
+		boolean acquired = false;
+		try {
+			long remainingMillis = Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+			long leaseMillis = leaseTime < 0 ? leaseTime : unit.toMillis(leaseTime);
+			acquired = remoteLockProvider.tryLockAll(accountNumbers, remainingMillis, leaseMillis,
+					TimeUnit.MILLISECONDS);
+			return acquired;
+		} finally {
+			if (!acquired) {
+				localLockProvider.unlockAll(accountNumbers);
+			}
+		}
+	}
+
+	@Override
+	public void unlockAll(List<String> accountNumbers) {
+		try {
+			remoteLockProvider.unlockAll(accountNumbers);
+		} finally {
+			localLockProvider.unlockAll(accountNumbers);
+		}
+	}
+
+	@Override
+	public long issueFencingToken(String accountNumber) {
+		return remoteLockProvider.issueFencingToken(accountNumber);
+	}
+}
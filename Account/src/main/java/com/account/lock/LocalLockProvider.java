@@ -0,0 +1,105 @@
+package com.account.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내부 스트라이프 락 기반의 {@link LockProvider} 구현입니다.
+ * <p>
+ * - 고정 개수(2의 거듭제곱)의 {@link ReentrantLock}을 미리 만들어 두고 계좌번호 해시로 선택합니다.<br>
+ * - 계좌 수와 무관하게 메모리 사용량이 일정하며, Redis 왕복 없이 락을 획득합니다.<br>
+ * - 단일 노드 배포 전용이며, 서로 다른 계좌가 같은 스트라이프를 공유할 수 있습니다.<br>
+ * - 펜싱 토큰은 현재 시각(ms &lt;&lt; 10) 이상으로 발급하여 재기동 후에도 감소하지 않습니다.
+ */
+public class LocalLockProvider implements LockProvider {
+	private final ReentrantLock[] stripes;
+	private final int mask;
+	private final AtomicLong fencingTokens = new AtomicLong();
+
+	public LocalLockProvider(int stripeCount) {
+		int size = 1;
+		while (size < stripeCount) {
+			size <<= 1;
+		}
+		this.stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+		this.mask = size - 1;
+	}
+
+	@Override
+	public boolean tryLock(String accountNumber, long waitTime, long leaseTime, TimeUnit unit)
+			throws InterruptedException {
+		return stripeFor(accountNumber).tryLock(waitTime, unit);
+	}
+
+	@Override
+	public void unlock(String accountNumber) {
+		stripeFor(accountNumber).unlock();
+	}
+
+	/**
+	 * 계좌번호가 아니라 스트라이프 인덱스 순으로 정렬·중복 제거하여 획득합니다.
+	 * 서로 다른 계좌가 같은 스트라이프를 공유해도 교착 상태가 생기지 않습니다.
+	 */
+	@Override
+	public boolean tryLockAll(List<String> accountNumbers, long waitTime, long leaseTime, TimeUnit unit)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(waitTime);
+		int[] indexes = stripeIndexes(accountNumbers);
+		int acquired = 0;
+		try {
+			for (int index : indexes) {
+				long remaining = Math.max(0L, deadline - System.nanoTime());
+				if (!stripes[index].tryLock(remaining, TimeUnit.NANOSECONDS)) {
+					break;
+				}
+				acquired++;
+			}
+		} finally {
+			if (acquired < indexes.length) {
+				unlockStripes(indexes, acquired);
+			}
+		}
+		return acquired == indexes.length;
+	}
+
+	@Override
+	public void unlockAll(List<String> accountNumbers) {
+		int[] indexes = stripeIndexes(accountNumbers);
+		unlockStripes(indexes, indexes.length);
+	}
+
+	@Override
+	public long issueFencingToken(String accountNumber) {
+		return fencingTokens.updateAndGet(previous -> Math.max(previous + 1, System.currentTimeMillis() << 10));
+	}
+
+	/**
+	 * 계좌번호가 속한 스트라이프 인덱스를 계산합니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 * @return 스트라이프 인덱스
+	 */
+	int stripeIndex(String accountNumber) {
+		int h = accountNumber.hashCode();
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private int[] stripeIndexes(List<String> accountNumbers) {
+		return accountNumbers.stream().mapToInt(this::stripeIndex).distinct().sorted().toArray();
+	}
+
+	private void unlockStripes(int[] indexes, int count) {
+		for (int i = count - 1; i >= 0; i--) {
+			stripes[indexes[i]].unlock();
+		}
+	}
+
+	private ReentrantLock stripeFor(String accountNumber) {
+		return stripes[stripeIndex(accountNumber)];
+	}
+}
@@ -0,0 +1,41 @@
+package com.account.lock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔드포인트별 계좌 락 대기/보유 시간과 획득 실패를 히스토그램으로 기록합니다.
+ * <p>
+ * - account.lock.wait: 락 획득까지 걸린 시간 (result=acquired|failed)<br>
+ * - account.lock.hold: 락을 잡고 있던 시간
+ */
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+	private final MeterRegistry meterRegistry;
+
+	public void recordAcquired(String endpoint, long waitNanos) {
+		timer("account.lock.wait", endpoint, "acquired").record(waitNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordFailed(String endpoint, long waitNanos) {
+		timer("account.lock.wait", endpoint, "failed").record(waitNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordHold(String endpoint, long holdNanos) {
+		timer("account.lock.hold", endpoint, "released").record(holdNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private Timer timer(String name, String endpoint, String result) {
+		return Timer.builder(name)
+				.tag("endpoint", endpoint)
+				.tag("result", result)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,87 @@
+package com.account.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌번호 단위의 락을 제공하는 백엔드 추상화입니다.
+ * <p>
+ * {@link com.account.service.LockService}는 이 인터페이스에만 의존하며,
+ * 실제 구현(Redis, 로컬 스트라이프 락, 하이브리드)은 {@code account.lock.mode} 설정으로 선택됩니다.
+ */
+public interface LockProvider {
+
+	/**
+	 * 계좌번호에 대한 락 획득을 시도합니다.
+	 *
+	 * @param accountNumber 락을 걸 계좌번호
+	 * @param waitTime      최대 대기 시간
+	 * @param leaseTime     락 유지 시간, -1이면 워치독 갱신 (로컬 락은 무시)
+	 * @param unit          시간 단위
+	 * @return 락 획득 여부
+	 * @throws InterruptedException 대기 중 인터럽트 발생 시
+	 */
+	boolean tryLock(String accountNumber, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException;
+
+	/**
+	 * 여러 계좌번호에 대한 락을 전달된 순서대로 모두 획득합니다.
+	 * <p>
+	 * 하나라도 실패하면 이미 획득한 락을 모두 해제하고 false를 반환합니다.
+	 * 호출자는 교착 상태를 피하기 위해 정렬된 계좌번호를 전달해야 합니다.
+	 *
+	 * @param accountNumbers 정렬된 계좌번호 목록
+	 * @param waitTime       전체 최대 대기 시간
+	 * @param leaseTime      락 유지 시간
+	 * @param unit           시간 단위
+	 * @return 모든 락 획득 여부
+	 * @throws InterruptedException 대기 중 인터럽트 발생 시
+	 */
+	default boolean tryLockAll(List<String> accountNumbers, long waitTime, long leaseTime, TimeUnit unit)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(waitTime);
+		int acquired = 0;
+		try {
+			for (String accountNumber : accountNumbers) {
+				long remaining = Math.max(0L, deadline - System.nanoTime());
+				long leaseNanos = leaseTime < 0 ? leaseTime : unit.toNanos(leaseTime);
+				if (!tryLock(accountNumber, remaining, leaseNanos, TimeUnit.NANOSECONDS)) {
+					break;
+				}
+				acquired++;
+			}
+		} finally {
+			if (acquired < accountNumbers.size()) {
+				unlockAll(accountNumbers.subList(0, acquired));
+			}
+		}
+		return acquired == accountNumbers.size();
+	}
+
+	/**
+	 * 여러 계좌번호에 대한 락을 획득 역순으로 해제합니다.
+	 *
+	 * @param accountNumbers 락을 획득했던 계좌번호 목록
+	 */
+	default void unlockAll(List<String> accountNumbers) {
+		for (int i = accountNumbers.size() - 1; i >= 0; i--) {
+			unlock(accountNumbers.get(i));
+		}
+	}
+
+	/**
+	 * 계좌번호에 대한 락을 해제합니다.
+	 *
+	 * @param accountNumber 락을 해제할 계좌번호
+	 */
+	void unlock(String accountNumber);
+
+	/**
+	 * 락 획득 직후 호출되어 계좌별로 단조 증가하는 펜싱 토큰을 발급합니다.
+	 * <p>
+	 * lease가 만료된 뒤에도 작업을 계속하는 이전 소유자의 쓰기를 DB에서 거절하는 데 사용합니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 * @return 이전 발급 값보다 큰 펜싱 토큰
+	 */
+	long issueFencingToken(String accountNumber);
+}
@@ -0,0 +1,63 @@
+package com.account.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redisson 분산 락 기반의 {@link LockProvider} 구현입니다.
+ * <p>
+ * 여러 노드가 같은 계좌를 처리하는 환경에서 사용합니다.
+ * 다중 계좌 락은 {@code RedissonMultiLock}으로 한 번에 획득/해제합니다.
+ */
+@RequiredArgsConstructor
+public class RedisLockProvider implements LockProvider {
+	private final RedissonClient redissonClient;
+
+	@Override
+	public boolean tryLock(String accountNumber, long waitTime, long leaseTime, TimeUnit unit)
+			throws InterruptedException {
+		return redissonClient.getLock(getLockKey(accountNumber)).tryLock(waitTime, leaseTime, unit);
+	}
+
+	@Override
+	public void unlock(String accountNumber) {
+		redissonClient.getLock(getLockKey(accountNumber)).unlock();
+	}
+
+	@Override
+	public boolean tryLockAll(List<String> accountNumbers, long waitTime, long leaseTime, TimeUnit unit)
+			throws InterruptedException {
+		return getMultiLock(accountNumbers).tryLock(waitTime, leaseTime, unit);
+	}
+
+	@Override
+	public void unlockAll(List<String> accountNumbers) {
+		getMultiLock(accountNumbers).unlock();
+	}
+
+	@Override
+	public long issueFencingToken(String accountNumber) {
+		return redissonClient.getAtomicLong("ACFT: " + accountNumber).incrementAndGet();
+	}
+
+	private RLock getMultiLock(List<String> accountNumbers) {
+		return redissonClient.getMultiLock(accountNumbers.stream()
+				.map(accountNumber -> redissonClient.getLock(getLockKey(accountNumber)))
+				.toArray(RLock[]::new));
+	}
+
+	/**
+	 * 계좌번호를 기반으로 Redis 락 키를 생성합니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 * @return Redis 락 키 문자열
+	 */
+	private String getLockKey(String accountNumber) {
+		return "ACLK: " + accountNumber;
+	}
+}
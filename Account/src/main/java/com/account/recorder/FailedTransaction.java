@@ -0,0 +1,21 @@
+package com.account.recorder;
+
+import java.time.LocalDateTime;
+
+import com.account.type.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장 대기 중인 실패 거래 기록입니다.
+ * transactedAt은 저장 시각이 아니라 요청이 실패한 시각입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FailedTransaction {
+	private final TransactionType transactionType;
+	private final String accountNumber;
+	private final Long amount;
+	private final LocalDateTime transactedAt;
+}
@@ -0,0 +1,176 @@
+package com.account.recorder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.account.cache.ExistenceFilter;
+import com.account.config.FailedTransactionProperties;
+import com.account.service.TransactionService;
+import com.account.type.OverflowPolicy;
+import com.account.type.TransactionType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실패한 거래를 요청 스레드 밖에서 모아서 기록합니다.
+ * <p>
+ * - 요청 스레드는 제한된 크기의 대기열에 기록을 넣고 바로 반환합니다.<br>
+ * - 백그라운드 스레드가 배치 크기 또는 최대 대기 시간 단위로 모아 한 트랜잭션에 저장합니다.<br>
+ * - 대기열이 가득 차면 설정된 정책(DROP_NEWEST, DROP_OLDEST, CALLER_RUNS)을 따릅니다.<br>
+ * - 종료 시 기록 스레드가 대기열에 남은 기록을 모두 저장한 뒤 멈춥니다. (저장 중에 중단하지 않음)
+ */
+@Slf4j
+@Component
+public class FailedTransactionRecorder {
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+	private final TransactionService transactionService;
+	private final FailedTransactionProperties properties;
+	private final ExistenceFilter existenceFilter;
+	private final BlockingQueue<FailedTransaction> queue;
+	private final Counter droppedOverflow;
+	private final Counter droppedWriteError;
+	private final Counter droppedUnknownAccount;
+	private final Counter written;
+
+	private volatile boolean running;
+	private Thread writer;
+
+	public FailedTransactionRecorder(TransactionService transactionService,
+			FailedTransactionProperties properties, ExistenceFilter existenceFilter, MeterRegistry meterRegistry) {
+		this.transactionService = transactionService;
+		this.properties = properties;
+		this.existenceFilter = existenceFilter;
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+		this.droppedOverflow = Counter.builder("account.failed_transaction.dropped")
+				.tag("reason", "overflow")
+				.register(meterRegistry);
+		this.droppedWriteError = Counter.builder("account.failed_transaction.dropped")
+				.tag("reason", "write_error")
+				.register(meterRegistry);
+		this.droppedUnknownAccount = Counter.builder("account.failed_transaction.dropped")
+				.tag("reason", "unknown_account")
+				.register(meterRegistry);
+		this.written = Counter.builder("account.failed_transaction.written")
+				.register(meterRegistry);
+		Gauge.builder("account.failed_transaction.queue.size", queue, BlockingQueue::size)
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		writer = new Thread(this::writeLoop, "failed-transaction-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * 실패 거래를 기록 대기열에 넣습니다.
+	 *
+	 * @param transactionType 거래 유형
+	 * @param accountNumber   계좌번호
+	 * @param amount          시도한 금액
+	 */
+	public void record(TransactionType transactionType, String accountNumber, Long amount) {
+		// 없는 계좌의 실패는 저장 시 어차피 건너뛰므로 대기열에 넣지 않음
+		if (existenceFilter.isAbsentAccount(accountNumber)) {
+			droppedUnknownAccount.increment();
+			return;
+		}
+
+		FailedTransaction failedTransaction =
+				new FailedTransaction(transactionType, accountNumber, amount, LocalDateTime.now());
+
+		if (queue.offer(failedTransaction)) {
+			return;
+		}
+
+		OverflowPolicy overflowPolicy = properties.getOverflowPolicy();
+		if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+			write(List.of(failedTransaction));
+		} else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+			while (!queue.offer(failedTransaction)) {
+				if (queue.poll() != null) {
+					droppedOverflow.increment();
+				}
+			}
+		} else {
+			droppedOverflow.increment();
+		}
+	}
+
+	/**
+	 * 기록 스레드가 대기열에 남은 기록을 모두 저장하고 멈출 때까지 기다립니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		if (writer != null) {
+			try {
+				writer.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (writer.isAlive()) {
+				log.warn("실패 거래 기록 스레드가 {}초 안에 멈추지 않음, 대기열 {}건", SHUTDOWN_TIMEOUT_SECONDS, queue.size());
+				return;
+			}
+		}
+		// 기록 스레드가 멈춘 직후 들어온 기록
+		flush();
+	}
+
+	/**
+	 * 대기열이 빌 때까지 배치 단위로 저장합니다.
+	 */
+	void flush() {
+		List<FailedTransaction> batch = new ArrayList<>(properties.getBatchSize());
+		while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+			write(batch);
+			batch = new ArrayList<>(properties.getBatchSize());
+		}
+	}
+
+	int queueSize() {
+		return queue.size();
+	}
+
+	private void writeLoop() {
+		while (running || !queue.isEmpty()) {
+			try {
+				FailedTransaction first = queue.poll(properties.getFlushInterval(), TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				List<FailedTransaction> batch = new ArrayList<>(properties.getBatchSize());
+				batch.add(first);
+				queue.drainTo(batch, properties.getBatchSize() - 1);
+				write(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	private void write(List<FailedTransaction> batch) {
+		try {
+			written.increment(transactionService.saveFailedTransactions(batch));
+		} catch (RuntimeException e) {
+			log.error("실패 거래 기록 저장 실패 ({}건)", batch.size(), e);
+			droppedWriteError.increment(batch.size());
+		}
+	}
+}
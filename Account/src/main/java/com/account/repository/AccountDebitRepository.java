@@ -0,0 +1,15 @@
+package com.account.repository;
+
+import java.util.Optional;
+
+public interface AccountDebitRepository {
+	/**
+	 * 소유자, 계좌 상태, 잔액 조건을 모두 만족할 때만 잔액을 차감합니다. (UPDATE 한 문장)
+	 *
+	 * @param accountNumber 계좌번호
+	 * @param userId        소유자 ID
+	 * @param amount        차감 금액
+	 * @return 차감된 계좌 ID와 차감 후 잔액, 조건을 만족하지 않으면 빈 값
+	 */
+	Optional<DebitResult> debit(String accountNumber, Long userId, Long amount);
+}
@@ -0,0 +1,86 @@
+package com.account.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.account.type.AccountStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건부 UPDATE로 잔액을 차감하고 차감 후 잔액을 같은 왕복에서 돌려받습니다.
+ * <p>
+ * - PostgreSQL: UPDATE ... RETURNING<br>
+ * - H2: SELECT ... FROM FINAL TABLE (UPDATE ...)<br>
+ * - 그 외: UPDATE 후 같은 트랜잭션에서 잔액 조회 (갱신한 행은 커밋까지 행 락이 유지됨)
+ * <p>
+ * 버전도 함께 올려 엔티티로 계좌를 갱신하는 다른 요청(이체, 해지)이 충돌을 감지하도록 합니다.
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 읽은 Account 엔티티의 잔액은 갱신되지 않습니다.
+ */
+@RequiredArgsConstructor
+public class AccountDebitRepositoryImpl implements AccountDebitRepository {
+	private static final String UPDATE = "update account "
+			+ "set balance = balance - :amount, version = version + 1, updated_at = :updatedAt "
+			+ "where account_number = :accountNumber and account_user_id = :userId "
+			+ "and account_status = :accountStatus and balance >= :amount";
+
+	private final EntityManager entityManager;
+
+	private volatile Dialect dialect;
+
+	@Override
+	public Optional<DebitResult> debit(String accountNumber, Long userId, Long amount) {
+		Dialect current = dialect();
+		if (current instanceof PostgreSQLDialect) {
+			return firstRow(bind(entityManager.createNativeQuery(UPDATE + " returning id, balance"),
+					accountNumber, userId, amount));
+		}
+		if (current instanceof H2Dialect) {
+			return firstRow(bind(entityManager.createNativeQuery(
+					"select id, balance from final table (" + UPDATE + ")"), accountNumber, userId, amount));
+		}
+
+		if (bind(entityManager.createNativeQuery(UPDATE), accountNumber, userId, amount).executeUpdate() == 0) {
+			return Optional.empty();
+		}
+		return firstRow(entityManager.createNativeQuery(
+						"select id, balance from account where account_number = :accountNumber")
+				.setParameter("accountNumber", accountNumber));
+	}
+
+	private Query bind(Query query, String accountNumber, Long userId, Long amount) {
+		return query.setParameter("amount", amount)
+				.setParameter("updatedAt", LocalDateTime.now())
+				.setParameter("accountNumber", accountNumber)
+				.setParameter("userId", userId)
+				.setParameter("accountStatus", AccountStatus.IN_USE.getCode());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Optional<DebitResult> firstRow(Query query) {
+		List<Object[]> rows = query.getResultList();
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		}
+		Object[] row = rows.get(0);
+		return Optional.of(new DebitResult(((Number) row[0]).longValue(), ((Number) row[1]).longValue()));
+	}
+
+	private Dialect dialect() {
+		if (dialect == null) {
+			dialect = entityManager.getEntityManagerFactory()
+					.unwrap(SessionFactoryImplementor.class)
+					.getJdbcServices()
+					.getDialect();
+		}
+		return dialect;
+	}
+}
@@ -0,0 +1,23 @@
+package com.account.repository;
+
+import java.time.LocalDateTime;
+
+import com.account.type.AccountStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계좌 상세 조회에 필요한 컬럼만 담는 프로젝션입니다. (버전, 펜싱 토큰 등 내부 컬럼 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class AccountDetail {
+	private final Long accountId;
+	private final Long userId;
+	private final String accountNumber;
+	private final AccountStatus accountStatus;
+	private final Long balance;
+	private final LocalDateTime registeredAt;
+	private final LocalDateTime unRegisteredAt;
+}
@@ -0,0 +1,18 @@
+package com.account.repository;
+
+import com.account.type.AccountStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계좌에서 잔액을 제외하고 생성/해지 때만 바뀌는 컬럼만 담는 프로젝션입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountMetadata {
+	private final Long accountId;
+	private final String accountNumber;
+	private final Long userId;
+	private final AccountStatus accountStatus;
+}
@@ -0,0 +1,17 @@
+package com.account.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import com.account.domain.AccountNumberSequence;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface AccountNumberSequenceRepository extends JpaRepository<AccountNumberSequence, String> {
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<AccountNumberSequence> findWithLockByName(String name);
+}
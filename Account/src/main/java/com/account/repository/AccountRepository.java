@@ -1,21 +1,86 @@
 package com.account.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.account.domain.Account;
 import com.account.domain.AccountUser;
 
-@Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
-	Optional<Account> findFirstByOrderByIdDesc();
+import jakarta.persistence.QueryHint;
 
-	Integer countByAccountUser(AccountUser accountUser);
+@Repository
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountDebitRepository {
+	/**
+	 * 가장 큰 계좌번호를 조회합니다. 계좌번호는 모두 같은 자릿수라 문자열 비교로도 숫자 순서와 같습니다.
+	 */
+	@Query("select max(a.accountNumber) from Account a")
+	Optional<String> findMaxAccountNumber();
 
 	Optional<Account> findByAccountNumber(String AccountNumber);
 
+	boolean existsByAccountNumber(String accountNumber);
+
+	/**
+	 * 잔액을 제외한 계좌 메타데이터만 조회합니다. (계좌 메타데이터 캐시 적재용)
+	 */
+	@Query("select new com.account.repository.AccountMetadata("
+			+ "a.id, a.accountNumber, a.accountUser.id, a.accountStatus) "
+			+ "from Account a where a.accountNumber = :accountNumber")
+	Optional<AccountMetadata> findMetadataByAccountNumber(@Param("accountNumber") String accountNumber);
+
+	/**
+	 * 계좌번호와 소유자가 모두 일치하는 계좌를 조회합니다. (소유자 검증을 한 번의 조회로 수행)
+	 */
+	@Query("select a from Account a where a.accountNumber = :accountNumber and a.accountUser.id = :userId")
+	Optional<Account> findOwnedAccount(@Param("accountNumber") String accountNumber, @Param("userId") Long userId);
+
+	/**
+	 * 계좌 상세 조회에 필요한 컬럼만 조회합니다. (소유자 ID는 외래 키 컬럼에서 읽으므로 조인 없음)
+	 */
+	@Query("select new com.account.repository.AccountDetail(a.id, a.accountUser.id, a.accountNumber, "
+			+ "a.accountStatus, a.balance, a.registeredAt, a.unRegisteredAt) from Account a where a.id = :id")
+	Optional<AccountDetail> findDetailById(@Param("id") Long id);
+
+	/**
+	 * 사용자의 계좌번호와 잔액만 조회합니다. 사용자 존재 여부도 같은 쿼리로 확인합니다.
+	 *
+	 * @return 사용자가 없으면 빈 목록
+	 */
+	@Query("select new com.account.repository.AccountSummary(u.id, a.id, a.accountNumber, a.balance) "
+			+ "from AccountUser u left join Account a on a.accountUser = u "
+			+ "where u.id = :userId order by a.id")
+	List<AccountSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+	/**
+	 * 모든 계좌번호를 스트리밍으로 읽습니다. (블룸 필터 생성용, 트랜잭션 안에서 사용 후 닫아야 함)
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select a.accountNumber from Account a")
+	Stream<String> streamAccountNumbers();
+
 	List<Account> findByAccountUser(AccountUser accountUser);
+
+	List<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+
+	/**
+	 * 펜싱 토큰이 현재 기록된 값 이상일 때만 토큰을 갱신합니다.
+	 * 갱신된 행은 트랜잭션 종료까지 행 락이 걸리므로 이후 잔액 조회는 최신 값을 봅니다.
+	 *
+	 * @return 갱신된 행 수 (0이면 계좌가 없거나 더 새로운 토큰이 이미 기록됨)
+	 */
+	@Modifying
+	@Query("update Account a set a.fencingToken = :fencingToken "
+			+ "where a.accountNumber = :accountNumber "
+			+ "and (a.fencingToken is null or a.fencingToken <= :fencingToken)")
+	int updateFencingToken(@Param("accountNumber") String accountNumber, @Param("fencingToken") Long fencingToken);
 }
@@ -0,0 +1,18 @@
+package com.account.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계좌 목록 조회에 필요한 컬럼만 담는 프로젝션입니다.
+ * <p>
+ * 사용자가 존재하지만 계좌가 없으면 계좌 컬럼(accountId, accountNumber, balance)이 null인 한 행으로 조회됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountSummary {
+	private final Long userId;
+	private final Long accountId;
+	private final String accountNumber;
+	private final Long balance;
+}
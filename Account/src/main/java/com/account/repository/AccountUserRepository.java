@@ -1,6 +1,9 @@
 package com.account.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.account.domain.AccountUser;
@@ -8,4 +11,23 @@ import com.account.domain.AccountUser;
 @Repository
 public interface AccountUserRepository extends JpaRepository<AccountUser, Long> {
 
+	/**
+	 * 활성 계좌 수가 상한 미만일 때만 1 증가시킵니다.
+	 *
+	 * @return 갱신된 행 수 (0이면 상한에 도달)
+	 */
+	@Modifying
+	@Query("update AccountUser u set u.activeAccountCount = u.activeAccountCount + 1 "
+			+ "where u.id = :id and u.activeAccountCount < :maxAccountCount")
+	int increaseActiveAccountCount(@Param("id") Long id, @Param("maxAccountCount") int maxAccountCount);
+
+	/**
+	 * 활성 계좌 수를 1 감소시킵니다.
+	 *
+	 * @return 갱신된 행 수
+	 */
+	@Modifying
+	@Query("update AccountUser u set u.activeAccountCount = u.activeAccountCount - 1 "
+			+ "where u.id = :id and u.activeAccountCount > 0")
+	int decreaseActiveAccountCount(@Param("id") Long id);
 }
@@ -0,0 +1,24 @@
+package com.account.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.account.domain.Account;
+import com.account.domain.BalanceSnapshot;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+	Optional<BalanceSnapshot> findFirstByAccountOrderByAccountSequenceDesc(Account account);
+
+	Optional<BalanceSnapshot> findFirstByAccountAndAccountSequenceLessThanEqualOrderByAccountSequenceDesc(
+			Account account, Long accountSequence);
+
+	@Modifying
+	@Query("delete from BalanceSnapshot s where s.account = :account and s.accountSequence < :accountSequence")
+	int deleteOlderThan(@Param("account") Account account, @Param("accountSequence") Long accountSequence);
+}
@@ -0,0 +1,14 @@
+package com.account.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조건부 차감으로 갱신된 계좌의 ID와 차감 후 잔액입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class DebitResult {
+	private final Long accountId;
+	private final Long balance;
+}
@@ -0,0 +1,43 @@
+package com.account.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.account.domain.IdempotencyRecord;
+import com.account.type.ErrorCode;
+import com.account.type.IdempotencyStatus;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+	/**
+	 * 처리 중(PENDING)인 기록에 첫 응답을 채워 COMPLETED로 바꿉니다.
+	 *
+	 * @return 갱신된 행 수 (처리 중인 기록이 없으면 0)
+	 */
+	@Modifying
+	@Query("update IdempotencyRecord r set r.status = :completed, r.responseBody = :responseBody, "
+			+ "r.errorCode = :errorCode, r.createdAt = :createdAt "
+			+ "where r.idempotencyKey = :idempotencyKey and r.status = :pending")
+	int complete(@Param("idempotencyKey") String idempotencyKey, @Param("responseBody") String responseBody,
+			@Param("errorCode") ErrorCode errorCode, @Param("createdAt") LocalDateTime createdAt,
+			@Param("pending") IdempotencyStatus pending, @Param("completed") IdempotencyStatus completed);
+
+	/**
+	 * 응답을 저장하지 않고 끝난 요청의 점유(PENDING 기록)를 풉니다.
+	 */
+	@Modifying
+	@Query("delete from IdempotencyRecord r where r.idempotencyKey = :idempotencyKey and r.status = :pending")
+	int deletePending(@Param("idempotencyKey") String idempotencyKey, @Param("pending") IdempotencyStatus pending);
+
+	/**
+	 * 보관 시간이 지난 기록을 한 번에 지웁니다.
+	 */
+	@Modifying
+	@Query("delete from IdempotencyRecord r where r.createdAt < :cutoff")
+	int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
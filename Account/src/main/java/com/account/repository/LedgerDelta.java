@@ -0,0 +1,14 @@
+package com.account.repository;
+
+import com.account.type.TransactionType;
+
+/**
+ * 잔액 합산에 필요한 원장 컬럼만 조회하는 프로젝션입니다.
+ */
+public interface LedgerDelta {
+	TransactionType getTransactionType();
+
+	Long getAmount();
+
+	Long getAccountSequence();
+}
@@ -1,13 +1,62 @@
 package com.account.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.account.domain.Account;
 import com.account.domain.Transaction;
+import com.account.dto.TransactionDto;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 	Optional<Transaction> findByTransactionId(String transactionId);
+
+	boolean existsByTransactionId(String transactionId);
+
+	boolean existsByCancelTargetId(Long cancelTargetId);
+
+	/**
+	 * 거래 조회 API용으로 엔티티를 만들지 않고 응답에 필요한 컬럼만 조회합니다.
+	 */
+	@Query("select new com.account.dto.TransactionDto(a.accountNumber, t.transactionType, t.transactionResultType, "
+			+ "t.amount, t.balanceSnapshot, t.transactionId, t.transactedAt) "
+			+ "from Transaction t join t.account a where t.transactionId = :transactionId")
+	Optional<TransactionDto> findDtoByTransactionId(@Param("transactionId") String transactionId);
+
+	/**
+	 * 거래 ID와 계좌번호가 모두 일치하는 거래를 계좌와 함께 조회합니다. (거래-계좌 검증을 한 번의 조회로 수행)
+	 */
+	@Query("select t from Transaction t join fetch t.account a "
+			+ "where t.transactionId = :transactionId and a.accountNumber = :accountNumber")
+	Optional<Transaction> findWithAccount(@Param("transactionId") String transactionId,
+			@Param("accountNumber") String accountNumber);
+
+	/**
+	 * 모든 거래 ID를 스트리밍으로 읽습니다. (블룸 필터 생성용, 트랜잭션 안에서 사용 후 닫아야 함)
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select t.transactionId from Transaction t")
+	Stream<String> streamTransactionIds();
+
+	List<LedgerDelta> findByAccountAndAccountSequenceGreaterThan(Account account, Long accountSequence);
+
+	/**
+	 * 기준 시각 이전 거래를 ID 순서로 조회합니다. (afterId 이후부터, 키셋 페이징)
+	 */
+	@Query("select t from Transaction t join fetch t.account "
+			+ "where t.transactedAt < :cutoff and t.id > :afterId order by t.id")
+	List<Transaction> findArchivable(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId,
+			Pageable pageable);
 }
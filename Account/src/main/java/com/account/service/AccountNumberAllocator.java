@@ -0,0 +1,93 @@
+package com.account.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.account.exception.AccountException;
+import com.account.type.ErrorCode;
+
+/**
+ * hi/lo 방식의 계좌번호 발급기입니다.
+ * <p>
+ * - DB 카운터에서 노드별로 번호 블록을 예약하고, 블록 안에서는 메모리의 원자적 카운터로 발급합니다.<br>
+ * - 블록을 다 쓴 경우에만 DB를 조회하므로 계좌 생성 시 번호 발급은 O(1)입니다.<br>
+ * - 여러 노드가 서로 다른 블록을 받으므로 동시 생성에도 번호가 중복되지 않습니다.<br>
+ * - 블록은 예약 후 blockMaxAge(ms) 동안만 사용하고, 남은 번호는 버립니다.
+ *   (오래전에 예약된 번호가 뒤늦게 발급되지 않아야 다른 노드의 계좌번호 블룸 필터가 그 범위를 보장할 수 있음)
+ */
+@Component
+public class AccountNumberAllocator {
+	static final long MAX_ACCOUNT_NUMBER = 9999999999L;
+
+	private final AccountNumberBlockService accountNumberBlockService;
+	private final int blockSize;
+	private final long blockMaxAgeNanos;
+	private volatile Block current = new Block(0L, 0L, Long.MAX_VALUE);
+
+	/**
+	 * @param blockSize   한 번에 예약할 번호 개수
+	 * @param blockMaxAge 블록을 사용할 최대 시간(ms), 0 이하이면 다 쓸 때까지 사용
+	 */
+	public AccountNumberAllocator(AccountNumberBlockService accountNumberBlockService,
+			@Value("${account.number.block-size:100}") int blockSize,
+			@Value("${account.number.block-max-age:60000}") long blockMaxAge) {
+		this.accountNumberBlockService = accountNumberBlockService;
+		this.blockSize = blockSize;
+		this.blockMaxAgeNanos = blockMaxAge > 0 ? TimeUnit.MILLISECONDS.toNanos(blockMaxAge) : Long.MAX_VALUE;
+	}
+
+	/**
+	 * 다음 계좌번호를 발급합니다.
+	 *
+	 * @return 10자리 계좌번호
+	 * @throws AccountException 발급 가능한 번호를 모두 사용한 경우
+	 */
+	public String nextAccountNumber() {
+		while (true) {
+			Block block = current;
+			long accountNumber = block.next.getAndIncrement();
+			if (accountNumber < block.end && !block.isExpired()) {
+				if (accountNumber > MAX_ACCOUNT_NUMBER) {
+					throw new AccountException(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED);
+				}
+				return Long.toString(accountNumber);
+			}
+			refill(block);
+		}
+	}
+
+	private synchronized void refill(Block exhausted) {
+		if (current != exhausted) {
+			return;
+		}
+		long blockStart;
+		try {
+			blockStart = accountNumberBlockService.reserveBlock(blockSize);
+		} catch (DataIntegrityViolationException e) {
+			// 다른 노드가 카운터 행을 먼저 만든 경우 한 번 더 예약
+			blockStart = accountNumberBlockService.reserveBlock(blockSize);
+		}
+		current = new Block(blockStart, blockStart + blockSize, blockMaxAgeNanos);
+	}
+
+	private static final class Block {
+		private final AtomicLong next;
+		private final long end;
+		private final long reservedAt = System.nanoTime();
+		private final long maxAgeNanos;
+
+		private Block(long start, long end, long maxAgeNanos) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+			this.maxAgeNanos = maxAgeNanos;
+		}
+
+		private boolean isExpired() {
+			return System.nanoTime() - reservedAt > maxAgeNanos;
+		}
+	}
+}
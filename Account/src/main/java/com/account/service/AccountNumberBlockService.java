@@ -0,0 +1,62 @@
+package com.account.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.account.domain.AccountNumberSequence;
+import com.account.repository.AccountNumberSequenceRepository;
+import com.account.repository.AccountRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카운터 행에서 계좌번호 블록을 예약하는 서비스입니다.
+ * <p>
+ * 예약은 별도 트랜잭션으로 커밋되므로 계좌 생성이 롤백되어도 같은 번호가 다시 발급되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountNumberBlockService {
+	static final String SEQUENCE_NAME = "account_number";
+	static final long FIRST_ACCOUNT_NUMBER = 1000000000L;
+
+	private final AccountNumberSequenceRepository accountNumberSequenceRepository;
+	private final AccountRepository accountRepository;
+
+	/**
+	 * blockSize개의 연속된 계좌번호를 예약합니다.
+	 * <p>
+	 * 카운터 행이 없으면 기존 계좌번호 중 가장 큰 번호의 다음 번호(없으면 1000000000)부터 시작합니다.
+	 *
+	 * @param blockSize 예약할 번호 개수
+	 * @return 예약된 블록의 첫 번째 계좌번호
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public long reserveBlock(int blockSize) {
+		AccountNumberSequence sequence = accountNumberSequenceRepository.findWithLockByName(SEQUENCE_NAME)
+				.orElseGet(() -> AccountNumberSequence.builder()
+						.name(SEQUENCE_NAME)
+						.nextValue(accountRepository.findMaxAccountNumber()
+								.map(accountNumber -> Long.parseLong(accountNumber) + 1)
+								.orElse(FIRST_ACCOUNT_NUMBER))
+						.build());
+
+		long blockStart = sequence.getNextValue();
+		sequence.setNextValue(blockStart + blockSize);
+		accountNumberSequenceRepository.save(sequence);
+
+		return blockStart;
+	}
+
+	/**
+	 * 지금까지 어느 노드에든 예약된 계좌번호의 상한을 조회합니다. 이 값 이상의 번호는 아직 예약되지 않았습니다.
+	 *
+	 * @return 다음에 예약될 첫 번째 계좌번호 (카운터 행이 없으면 1000000000)
+	 */
+	public long reservedBelow() {
+		return accountNumberSequenceRepository.findById(SEQUENCE_NAME)
+				.map(AccountNumberSequence::getNextValue)
+				.orElse(FIRST_ACCOUNT_NUMBER);
+	}
+}
@@ -6,17 +6,20 @@ import static com.account.type.ErrorCode.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.account.cache.AccountMetadataCache;
+import com.account.cache.ExistenceFilter;
 import com.account.domain.Account;
 import com.account.domain.AccountUser;
 import com.account.dto.AccountDto;
 import com.account.exception.AccountException;
+import com.account.repository.AccountDetail;
 import com.account.repository.AccountRepository;
+import com.account.repository.AccountSummary;
 import com.account.repository.AccountUserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -27,15 +30,21 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class AccountService {
+	private static final int MAX_ACCOUNT_PER_USER = 10;
+
 	private final AccountRepository accountRepository;
 	private final AccountUserRepository accountUserRepository;
+	private final AccountNumberAllocator accountNumberAllocator;
+	private final LedgerBalanceService ledgerBalanceService;
+	private final AccountMetadataCache accountMetadataCache;
+	private final ExistenceFilter existenceFilter;
 
 	/**
 	 * 계좌를 생성합니다.
 	 * <p>
 	 * - 사용자 존재 여부 확인<br>
-	 * - 계좌 개수 제한(10개) 검사<br>
-	 * - 새로운 계좌번호 생성<br>
+	 * - 계좌 개수 제한(10개) 검사 및 활성 계좌 수 증가<br>
+	 * - 새로운 계좌번호 발급 (블록 단위 예약, 메모리에서 발급)<br>
 	 * - 계좌 저장 후 DTO 반환
 	 *
 	 * @param userId         계좌를 생성할 사용자 ID
@@ -50,9 +59,9 @@ public class AccountService {
 
 		validateCreateAccount(accountUser);
 
-		String newAccountNumber = accountRepository.findFirstByOrderByIdDesc()
-				.map(account -> (Integer.parseInt(account.getAccountNumber()) + 1) + "")
-				.orElse("1000000000");
+		String newAccountNumber = accountNumberAllocator.nextAccountNumber();
+		accountMetadataCache.evictAccount(newAccountNumber);
+		existenceFilter.addAccount(newAccountNumber);
 
 		return AccountDto.fromEntity(accountRepository.save(
 				Account.builder()
@@ -67,12 +76,14 @@ public class AccountService {
 
 	/**
 	 * 계좌 생성 시 계좌 개수 제한(10개) 조건을 검증합니다.
+	 * <p>
+	 * 활성 계좌 수를 조건부 UPDATE로 증가시키므로 동시 생성 요청에도 상한을 넘지 않습니다.
 	 *
 	 * @param accountUser 계좌를 생성하려는 사용자
 	 * @throws AccountException 계좌 개수 제한 초과 시 발생
 	 */
 	private void validateCreateAccount(AccountUser accountUser) {
-		if (accountRepository.countByAccountUser(accountUser) == 10) {
+		if (accountUserRepository.increaseActiveAccountCount(accountUser.getId(), MAX_ACCOUNT_PER_USER) == 0) {
 			throw new AccountException(MAX_ACCOUNT_PER_USER_10);
 		}
 	}
@@ -81,25 +92,33 @@ public class AccountService {
 	 * ID로 계좌를 조회합니다.
 	 *
 	 * @param id 계좌 ID
-	 * @return 계좌 Entity
+	 * @return 계좌 정보 DTO (엔티티 대신 필요한 컬럼만 조회, 이벤트 소싱 모드에서는 원장 기준 잔액)
 	 * @throws RuntimeException ID가 음수일 경우 예외 발생
 	 */
-	@Transactional
-	public Account getAccount(Long id) {
+	@Transactional(readOnly = true)
+	public AccountDto getAccount(Long id) {
 		if (id < 0) {
 			throw new RuntimeException("Minus");
 		}
-		return accountRepository.findById(id).get();
+		AccountDetail detail = accountRepository.findDetailById(id).get();
+		return AccountDto.builder()
+				.userId(detail.getUserId())
+				.accountNumber(detail.getAccountNumber())
+				.accountStatus(detail.getAccountStatus())
+				.balance(balanceOf(detail.getAccountId(), detail.getBalance()))
+				.registeredAt(detail.getRegisteredAt())
+				.unRegisteredAt(detail.getUnRegisteredAt())
+				.build();
 	}
 
 	/**
 	 * 계좌를 삭제(해지)합니다.
 	 * <p>
-	 * - 사용자 및 계좌 존재 여부 확인<br>
-	 * - 사용자-계좌 소유 일치 여부 확인<br>
+	 * - 사용자 소유 계좌 조회 (사용자 미존재, 계좌 미존재, 소유 불일치 구분)<br>
 	 * - 이미 해지된 계좌인지 여부 확인<br>
 	 * - 잔액이 남아있는지 여부 확인<br>
-	 * - 계좌 상태를 해지로 변경하고 해지 시간 저장
+	 * - 계좌 상태를 해지로 변경하고 해지 시간 저장, 계좌 메타데이터 캐시 무효화<br>
+	 * - 사용자의 활성 계좌 수 감소
 	 *
 	 * @param userId        사용자 ID
 	 * @param accountNumber 계좌번호
@@ -108,56 +127,101 @@ public class AccountService {
 	 */
 	@Transactional
 	public AccountDto deleteAccount(Long userId, String accountNumber) {
-		AccountUser accountUser = accountUserRepository.findById(userId)
-				.orElseThrow(() -> new AccountException(USER_NOT_FOUND));
+		Account account = getOwnedAccount(userId, accountNumber);
 
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-				.orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
-
-		validateDeleteAccount(accountUser, account);
+		validateDeleteAccount(account);
 
 		account.setAccountStatus(UNREGISTERED);
 		account.setUnRegisteredAt(LocalDateTime.now());
+		accountMetadataCache.evictAccount(accountNumber);
 
 		accountRepository.save(account);
+		accountUserRepository.decreaseActiveAccountCount(account.getAccountUser().getId());
 
 		return AccountDto.fromEntity(account);
 	}
 
 	/**
-	 * 계좌 삭제 전 유효성 검사를 수행합니다.
+	 * 사용자가 소유한 계좌를 한 번의 조회로 가져옵니다.
+	 * <p>
+	 * 조회되지 않은 경우에만 실패 원인을 구분합니다. (사용자/계좌 존재 여부는 캐시 우선)
 	 *
-	 * @param accountUser 사용자 Entity
-	 * @param account     계좌 Entity
-	 * @throws AccountException 사용자 불일치, 이미 해지된 계좌, 잔액이 남아있는 경우
+	 * @param userId        사용자 ID
+	 * @param accountNumber 계좌번호
+	 * @return 계좌 Entity
+	 * @throws AccountException 사용자 또는 계좌가 없거나 소유자가 다른 경우
 	 */
-	private void validateDeleteAccount(AccountUser accountUser, Account account) {
-		if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
-			throw new AccountException(USER_ACCOUNT_UNMATCHED);
-		}
+	private Account getOwnedAccount(Long userId, String accountNumber) {
+		return accountRepository.findOwnedAccount(accountNumber, userId)
+				.orElseThrow(() -> {
+					if (!accountMetadataCache.userExists(userId)) {
+						return new AccountException(USER_NOT_FOUND);
+					}
+					if (!accountMetadataCache.accountExists(accountNumber)) {
+						return new AccountException(ACCOUNT_NOT_FOUND);
+					}
+					return new AccountException(USER_ACCOUNT_UNMATCHED);
+				});
+	}
+
+	/**
+	 * 계좌 삭제 전 유효성 검사를 수행합니다. (소유자는 조회 시 검증됨)
+	 *
+	 * @param account 계좌 Entity
+	 * @throws AccountException 이미 해지된 계좌, 잔액이 남아있는 경우
+	 */
+	private void validateDeleteAccount(Account account) {
 		if (account.getAccountStatus() == UNREGISTERED) {
 			throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
 		}
-		if (account.getBalance() > 0) {
+		if (balanceOf(account) > 0) {
 			throw new AccountException(BALANCE_NOT_EMPTY);
 		}
 	}
 
 	/**
 	 * 사용자 ID로 해당 사용자의 모든 계좌를 조회합니다.
+	 * <p>
+	 * 사용자 존재 여부와 계좌번호, 잔액을 엔티티 없이 한 번의 쿼리로 조회합니다.
 	 *
 	 * @param userId 사용자 ID
-	 * @return 계좌 정보 DTO 리스트
+	 * @return 계좌 정보 DTO 리스트 (사용자 ID, 계좌번호, 잔액)
 	 * @throws AccountException 사용자 미존재 시 발생
 	 */
+	@Transactional(readOnly = true)
 	public List<AccountDto> getAccountByUserId(Long userId) {
-		AccountUser accountUser = accountUserRepository.findById(userId)
-				.orElseThrow(() -> new AccountException(USER_NOT_FOUND));
-
-		List<Account> accounts = accountRepository.findByAccountUser(accountUser);
+		List<AccountSummary> summaries = accountRepository.findSummariesByUserId(userId);
+		if (summaries.isEmpty()) {
+			throw new AccountException(USER_NOT_FOUND);
+		}
 
-		return accounts.stream()
-				.map(AccountDto::fromEntity)
+		return summaries.stream()
+				.filter(summary -> summary.getAccountId() != null)
+				.map(this::toAccountDto)
 				.collect(Collectors.toList());
 	}
+
+	/**
+	 * 이벤트 소싱 모드에서는 Account.balance가 마지막 스냅샷 시점의 값이므로 원장 기준 잔액을 사용합니다.
+	 */
+	private long balanceOf(Account account) {
+		return ledgerBalanceService.isEventSourced() ? ledgerBalanceService.balanceOf(account) : account.getBalance();
+	}
+
+	/**
+	 * 프로젝션으로 읽은 잔액을 돌려줍니다. 이벤트 소싱 모드에서는 계좌 행을 읽지 않고 원장 기준 잔액을 계산합니다.
+	 */
+	private Long balanceOf(Long accountId, Long storedBalance) {
+		return ledgerBalanceService.isEventSourced()
+				? ledgerBalanceService.balanceOf(accountRepository.getReferenceById(accountId))
+				: storedBalance;
+	}
+
+	private AccountDto toAccountDto(AccountSummary summary) {
+		return AccountDto.builder()
+				.userId(summary.getUserId())
+				.accountNumber(summary.getAccountNumber())
+				.balance(balanceOf(summary.getAccountId(), summary.getBalance()))
+				.build();
+	}
 }
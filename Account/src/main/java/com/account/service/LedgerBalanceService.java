@@ -0,0 +1,185 @@
+package com.account.service;
+
+import static com.account.type.TransactionResultType.S;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.account.config.BalanceProperties;
+import com.account.domain.Account;
+import com.account.domain.BalanceSnapshot;
+import com.account.domain.Transaction;
+import com.account.exception.AccountException;
+import com.account.id.TransactionIdGenerator;
+import com.account.repository.BalanceSnapshotRepository;
+import com.account.repository.LedgerDelta;
+import com.account.repository.TransactionRepository;
+import com.account.type.BalanceMode;
+import com.account.type.ErrorCode;
+import com.account.type.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 소싱 모드의 잔액 계산과 원장 기록을 담당합니다.
+ * <p>
+ * - 현재 잔액 = 가장 최근 스냅샷 잔액 + 스냅샷 이후 원장 변화량의 합<br>
+ * - 잔액 변경은 계좌 행 UPDATE 없이 원장 INSERT만 수행합니다.<br>
+ * - (계좌, 원장 순번) 유니크 제약으로 같은 순번의 동시 기록을 막습니다.<br>
+ * - 원장 순번이 snapshotInterval의 배수가 되면 스냅샷을 남기고 Account.balance도 그 값으로 맞춥니다.
+ * <p>
+ * 스냅샷이 없는 계좌는 전환 시점의 Account.balance를 순번 0 스냅샷으로 저장한 뒤 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerBalanceService {
+	private static final Set<TransactionType> DEBIT_TYPES = EnumSet.of(TransactionType.USE, TransactionType.TRANSFER_OUT);
+
+	private final TransactionRepository transactionRepository;
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+	private final TransactionIdGenerator transactionIdGenerator;
+	private final BalanceProperties balanceProperties;
+
+	public boolean isEventSourced() {
+		return balanceProperties.getMode() == BalanceMode.EVENT_SOURCED;
+	}
+
+	/**
+	 * 원장 기준 현재 잔액을 계산합니다.
+	 *
+	 * @param account 계좌
+	 * @return 현재 잔액
+	 */
+	public long balanceOf(Account account) {
+		return position(account).getBalance();
+	}
+
+	/**
+	 * 최근 스냅샷과 그 이후 원장을 합산하여 현재 잔액과 마지막 원장 순번을 구합니다.
+	 *
+	 * @param account 계좌
+	 * @return 현재 잔액과 마지막 원장 순번
+	 */
+	public Position position(Account account) {
+		BalanceSnapshot snapshot = balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account)
+				.orElseGet(() -> initialSnapshot(account));
+
+		return sumAfter(account, snapshot.getBalance(), snapshot.getAccountSequence());
+	}
+
+	/**
+	 * 잔액 변경을 원장에 추가합니다.
+	 *
+	 * @param account         계좌
+	 * @param transactionType 거래 유형 (USE, TRANSFER_OUT은 출금)
+	 * @param amount          거래 금액
+	 * @return 저장된 거래 엔티티
+	 * @throws AccountException 출금 후 잔액이 음수가 되는 경우
+	 * @throws ObjectOptimisticLockingFailureException 같은 순번이 이미 기록된 경우 (재시도 대상)
+	 */
+	public Transaction append(Account account, TransactionType transactionType, Long amount) {
+		return append(account, transactionType, amount, null);
+	}
+
+	/**
+	 * 취소 거래처럼 원거래를 참조하는 잔액 변경을 원장에 추가합니다.
+	 *
+	 * @param account         계좌
+	 * @param transactionType 거래 유형 (USE, TRANSFER_OUT은 출금)
+	 * @param amount          거래 금액
+	 * @param cancelTargetId  취소한 원거래의 행 ID (취소 거래가 아니면 null)
+	 * @return 저장된 거래 엔티티
+	 * @throws AccountException 출금 후 잔액이 음수가 되는 경우
+	 * @throws ObjectOptimisticLockingFailureException 같은 순번 또는 같은 원거래의 취소가 이미 기록된 경우 (재시도 대상)
+	 */
+	public Transaction append(Account account, TransactionType transactionType, Long amount, Long cancelTargetId) {
+		Position position = position(account);
+		long balance = position.getBalance() + signedAmount(transactionType, amount);
+		if (balance < 0) {
+			throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+		}
+		long sequence = position.getSequence() + 1;
+
+		Transaction transaction;
+		try {
+			transaction = transactionRepository.saveAndFlush(Transaction.builder()
+					.transactionType(transactionType)
+					.transactionResultType(S)
+					.account(account)
+					.amount(amount)
+					.balanceSnapshot(balance)
+					.accountSequence(sequence)
+					.cancelTargetId(cancelTargetId)
+					.transactionId(transactionIdGenerator.nextId())
+					.transactedAt(LocalDateTime.now())
+					.build());
+		} catch (DataIntegrityViolationException e) {
+			throw new ObjectOptimisticLockingFailureException(Account.class, account.getId(), e);
+		}
+
+		if (sequence % balanceProperties.getSnapshotInterval() == 0) {
+			saveSnapshot(account, sequence, balance);
+		}
+		return transaction;
+	}
+
+	private Position sumAfter(Account account, long balance, long sequence) {
+		for (LedgerDelta delta : transactionRepository.findByAccountAndAccountSequenceGreaterThan(account, sequence)) {
+			balance += signedAmount(delta.getTransactionType(), delta.getAmount());
+			sequence = Math.max(sequence, delta.getAccountSequence());
+		}
+		return new Position(balance, sequence);
+	}
+
+	/**
+	 * 읽기 전용 트랜잭션(복제 DB 조회)에서는 저장하지 않고 계산에만 사용합니다.
+	 * <p>
+	 * 같은 계좌의 첫 원장 기록이 동시에 일어나면 한쪽만 순번 0 스냅샷을 저장할 수 있으므로,
+	 * 나머지는 재시도 가능한 낙관적 락 예외로 실패시켜 저장된 스냅샷으로 다시 계산하게 합니다.
+	 *
+	 * @throws ObjectOptimisticLockingFailureException 다른 요청이 먼저 순번 0 스냅샷을 저장한 경우 (재시도 대상)
+	 */
+	private BalanceSnapshot initialSnapshot(Account account) {
+		BalanceSnapshot snapshot = BalanceSnapshot.builder()
+				.account(account)
+				.accountSequence(0L)
+				.balance(account.getBalance())
+				.build();
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return snapshot;
+		}
+		try {
+			return balanceSnapshotRepository.saveAndFlush(snapshot);
+		} catch (DataIntegrityViolationException e) {
+			throw new ObjectOptimisticLockingFailureException(Account.class, account.getId(), e);
+		}
+	}
+
+	private void saveSnapshot(Account account, long sequence, long balance) {
+		account.setBalance(balance);
+		balanceSnapshotRepository.save(BalanceSnapshot.builder()
+				.account(account)
+				.accountSequence(sequence)
+				.balance(balance)
+				.build());
+	}
+
+	private static long signedAmount(TransactionType transactionType, Long amount) {
+		return DEBIT_TYPES.contains(transactionType) ? -amount : amount;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Position {
+		private final long balance;
+		private final long sequence;
+	}
+}
@@ -1,11 +1,23 @@
 package com.account.service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
+import com.account.aop.AccountLock;
 import com.account.aop.AccountLockIdInterface;
+import com.account.aop.AccountLockIdsInterface;
+import com.account.config.ConcurrencyProperties;
+import com.account.exception.AccountException;
+import com.account.lane.AccountLaneExecutor;
+import com.account.lock.FencingTokenContext;
+import com.account.lock.LockMetrics;
+import com.account.type.ConcurrencyMode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,18 +28,106 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LockAopAspect {
 	private final LockService lockService;
+	private final LockMetrics lockMetrics;
+	private final OptimisticRetrier optimisticRetrier;
+	private final ConcurrencyProperties concurrencyProperties;
+	private final AccountLaneExecutor accountLaneExecutor;
 	
-	@Around("@annotation(com.account.aop.AccountLock) && args(request)") 
+	@Around("@annotation(accountLock) && args(request)") 
 	public Object arountMethod(
 			ProceedingJoinPoint pjp,
+			AccountLock accountLock,
 			AccountLockIdInterface request) throws Throwable{
+		return proceed(pjp, accountLock, List.of(request.getAccountNumber()));
+	}
+
+	@Around("@annotation(accountLock) && args(request)")
+	public Object aroundMultiAccountMethod(
+			ProceedingJoinPoint pjp,
+			AccountLock accountLock,
+			AccountLockIdsInterface request) throws Throwable {
+		return proceed(pjp, accountLock, request.getAccountNumbers());
+	}
+
+	private Object proceed(
+			ProceedingJoinPoint pjp,
+			AccountLock accountLock,
+			List<String> accountNumbers) throws Throwable {
+		ConcurrencyMode mode = accountLock.concurrency() == ConcurrencyMode.DEFAULT
+				? concurrencyProperties.getMode()
+				: accountLock.concurrency();
+
+		return switch (mode) {
+			// ATOMIC: 잔액 사용은 조건부 UPDATE로 원자적이며, 나머지 쓰기는 @Version으로 보호
+			case OPTIMISTIC, ATOMIC -> optimisticRetrier.proceed(pjp, getEndpoint(pjp));
+			// 여러 계좌를 다루는 요청은 관련 레인을 모두 점유하여 단일 계좌 작업과 서로 배제
+			case LANE -> accountNumbers.size() == 1
+					? proceedInLane(pjp, accountNumbers.get(0))
+					: proceedHoldingLanes(pjp, accountLock, accountNumbers);
+			case COALESCE -> accountLock.coalescing()
+					? pjp.proceed()
+					: proceedWithLock(pjp, accountLock, accountNumbers);
+			default -> proceedWithLock(pjp, accountLock, accountNumbers);
+		};
+	}
+
+	private Object proceedInLane(ProceedingJoinPoint pjp, String accountNumber) throws Throwable {
+		try {
+			return accountLaneExecutor.submit(accountNumber, () -> {
+				try {
+					return pjp.proceed();
+				} catch (Exception | Error e) {
+					throw e;
+				} catch (Throwable t) {
+					throw new IllegalStateException(t);
+				}
+			}).get();
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		}
+	}
+
+	private Object proceedHoldingLanes(
+			ProceedingJoinPoint pjp,
+			AccountLock accountLock,
+			List<String> accountNumbers) throws Throwable {
+		long waitTime = accountLock.failFast() ? 0L : accountLock.tryLockTime();
+		try (AccountLaneExecutor.LaneHold ignored = accountLaneExecutor.hold(accountNumbers, waitTime)) {
+			return pjp.proceed();
+		}
+	}
+
+	private Object proceedWithLock(
+			ProceedingJoinPoint pjp,
+			AccountLock accountLock,
+			List<String> accountNumbers) throws Throwable {
+		String endpoint = getEndpoint(pjp);
+		long waitTime = accountLock.failFast() ? 0L : accountLock.tryLockTime();
+
 		// lock 취득 시도
-		lockService.lock(request.getAccountNumber());
+		long startedAt = System.nanoTime();
+		Map<String, Long> fencingTokens;
+		try {
+			fencingTokens = lockService.lockAll(accountNumbers, waitTime, accountLock.leaseTime());
+		} catch (AccountException e) {
+			lockMetrics.recordFailed(endpoint, System.nanoTime() - startedAt);
+			throw e;
+		}
+		long acquiredAt = System.nanoTime();
+		lockMetrics.recordAcquired(endpoint, acquiredAt - startedAt);
+		fencingTokens.forEach(FencingTokenContext::set);
+
 		try {
 			return pjp.proceed();
 		}finally {
 			// lock 해제
-			lockService.unLock(request.getAccountNumber());
+			fencingTokens.keySet().forEach(FencingTokenContext::remove);
+			lockService.unLockAll(accountNumbers);
+			lockMetrics.recordHold(endpoint, System.nanoTime() - acquiredAt);
 		}
 	}
+
+	private String getEndpoint(ProceedingJoinPoint pjp) {
+		return pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName();
+	}
 }
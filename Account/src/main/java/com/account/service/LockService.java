@@ -1,54 +1,98 @@
 package com.account.service;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import com.account.config.LockProperties;
 import com.account.exception.AccountException;
+import com.account.lock.LockProvider;
 import com.account.type.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Redisson 기반의 분산 락 서비스를 제공합니다.
+ * 계좌 락 서비스를 제공합니다.
  * <p>
  * - 동시성 제어를 위해 계좌 번호를 기준으로 락을 설정 및 해제합니다.  
+ * - 실제 락 구현은 {@link LockProvider}(Redis, 로컬, 하이브리드)에 위임합니다.  
+ * - 여러 계좌는 정렬된 순서로 획득하여 교착 상태를 방지합니다.  
  * - 락을 획득하지 못하면 예외를 발생시켜 트랜잭션 충돌을 방지합니다.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class LockService {
-	private final RedissonClient redissonClient;
+	private final LockProvider lockProvider;
+	private final LockProperties lockProperties;
 
 	/**
-	 * 계좌번호를 기준으로 분산 락을 획득합니다.
-	 * <p>
-	 * - 최대 1초 대기 후 락 획득 시도<br>
-	 * - 15초 동안 락 유지<br>
-	 * - 락 획득 실패 시 예외 발생
+	 * 계좌번호를 기준으로 락을 획득합니다.
 	 *
 	 * @param accountNumber 락을 걸 계좌번호
+	 * @param waitTime      최대 대기 시간(ms)
+	 * @param leaseTime     락 유지 시간(ms)
+	 * @return 이번 락 획득에 대한 펜싱 토큰, lease 갱신 모드가 아니면 null
 	 * @throws AccountException 락 획득 실패 시
 	 */
-	public void lock(String accountNumber) {
-		RLock lock = redissonClient.getLock(getLockKey(accountNumber));
-		log.debug("Trying lock for accountNumber: {}", accountNumber);
+	public Long lock(String accountNumber, long waitTime, long leaseTime) {
+		return lockAll(List.of(accountNumber), waitTime, leaseTime).get(accountNumber);
+	}
+
+	/**
+	 * 여러 계좌번호를 정렬된 순서로 모두 잠급니다.
+	 * <p>
+	 * - 최대 waitTime 동안 락 획득 시도<br>
+	 * - leaseTime 동안 락 유지 (lease 갱신 모드에서는 워치독이 갱신)<br>
+	 * - 락 획득 실패 시 예외 발생<br>
+	 * - lease 갱신 모드에서만 계좌별 펜싱 토큰 발급 (워치독이 멈춘 노드의 락이 풀린 뒤 늦게 도착한 쓰기를 거절하는 용도)
+	 *
+	 * @param accountNumbers 락을 걸 계좌번호 목록 (중복 허용)
+	 * @param waitTime       최대 대기 시간(ms)
+	 * @param leaseTime      락 유지 시간(ms)
+	 * @return 계좌번호별 펜싱 토큰 (lease 갱신 모드가 아니면 빈 맵)
+	 * @throws AccountException 락 획득 실패 시
+	 */
+	public Map<String, Long> lockAll(Collection<String> accountNumbers, long waitTime, long leaseTime) {
+		List<String> lockKeys = sortedKeys(accountNumbers);
+		log.debug("Trying lock for accountNumbers: {}", lockKeys);
+		long effectiveLeaseTime = lockProperties.isLeaseRenewal() ? -1L : leaseTime;
 
 		try {
-			boolean isLock = lock.tryLock(1, 15, TimeUnit.SECONDS);
+			boolean isLock = lockKeys.size() == 1
+					? lockProvider.tryLock(lockKeys.get(0), waitTime, effectiveLeaseTime, TimeUnit.MILLISECONDS)
+					: lockProvider.tryLockAll(lockKeys, waitTime, effectiveLeaseTime, TimeUnit.MILLISECONDS);
 			if (!isLock) {
 				log.error("=====Lock acquisition failed=====");
-				throw new AccountException(ErrorCode.ACCOUNT_NOT_FOUND); // 실제로는 별도 LOCK_FAIL 에러코드가 적절
+				throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
 			}
 		} catch (AccountException e) {
 			throw e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
 		} catch (Exception e) {
-			log.error("Redis lock failed", e);
-			throw new RuntimeException("Redis lock error");
+			log.error("Lock failed", e);
+			throw new RuntimeException("Lock error");
+		}
+
+		if (!lockProperties.isLeaseRenewal()) {
+			return Map.of();
+		}
+		try {
+			Map<String, Long> fencingTokens = new LinkedHashMap<>();
+			for (String accountNumber : lockKeys) {
+				fencingTokens.put(accountNumber, lockProvider.issueFencingToken(accountNumber));
+			}
+			return fencingTokens;
+		} catch (RuntimeException e) {
+			unLockAll(lockKeys);
+			throw e;
 		}
 	}
 
@@ -58,17 +102,25 @@ public class LockService {
 	 * @param accountNumber 락을 해제할 계좌번호
 	 */
 	public void unLock(String accountNumber) {
-		log.debug("Unlock for accountNumber: {} ", accountNumber);
-		redissonClient.getLock(getLockKey(accountNumber)).unlock();
+		unLockAll(List.of(accountNumber));
 	}
 
 	/**
-	 * 계좌번호를 기반으로 Redis 락 키를 생성합니다.
+	 * {@link #lockAll}로 획득한 락을 모두 해제합니다.
 	 *
-	 * @param accountNumber 계좌번호
-	 * @return Redis 락 키 문자열
+	 * @param accountNumbers 락을 해제할 계좌번호 목록
 	 */
-	private String getLockKey(String accountNumber) {
-		return "ACLK: " + accountNumber;
+	public void unLockAll(Collection<String> accountNumbers) {
+		List<String> lockKeys = sortedKeys(accountNumbers);
+		log.debug("Unlock for accountNumbers: {} ", lockKeys);
+		if (lockKeys.size() == 1) {
+			lockProvider.unlock(lockKeys.get(0));
+		} else {
+			lockProvider.unlockAll(lockKeys);
+		}
+	}
+
+	private List<String> sortedKeys(Collection<String> accountNumbers) {
+		return accountNumbers.stream().distinct().sorted().toList();
 	}
 }
@@ -0,0 +1,57 @@
+package com.account.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.account.config.ConcurrencyProperties;
+import com.account.exception.AccountException;
+import com.account.type.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 락 없이 요청을 실행하고 @Version 충돌이 나면 지터 백오프 후 전체 읽기-검증-쓰기를 재시도합니다.
+ * <p>
+ * - account.optimistic.retry: 충돌로 인한 재시도 횟수<br>
+ * - account.optimistic.exhausted: 재시도 한도 초과로 실패한 요청 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetrier {
+	private final ConcurrencyProperties concurrencyProperties;
+	private final MeterRegistry meterRegistry;
+
+	public Object proceed(ProceedingJoinPoint pjp, String endpoint) throws Throwable {
+		ConcurrencyProperties.Optimistic optimistic = concurrencyProperties.getOptimistic();
+
+		for (int attempt = 0; ; attempt++) {
+			try {
+				return pjp.proceed();
+			} catch (OptimisticLockingFailureException e) {
+				if (attempt >= optimistic.getMaxRetries()) {
+					log.error("Optimistic retries exhausted for {}", endpoint);
+					meterRegistry.counter("account.optimistic.exhausted", "endpoint", endpoint).increment();
+					throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+				}
+				meterRegistry.counter("account.optimistic.retry", "endpoint", endpoint).increment();
+				backoff(optimistic, attempt);
+			}
+		}
+	}
+
+	private void backoff(ConcurrencyProperties.Optimistic optimistic, int attempt) {
+		long ceiling = Math.min(optimistic.getMaxBackoff(), optimistic.getInitialBackoff() << Math.min(attempt, 20));
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		}
+	}
+}
@@ -5,25 +5,45 @@ import static com.account.type.TransactionResultType.S;
 import static com.account.type.TransactionType.USE;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.account.cache.AccountMetadataCache;
+import com.account.cache.ExistenceFilter;
+import com.account.cache.TransactionCache;
+import com.account.config.ConcurrencyProperties;
 import com.account.domain.Account;
-import com.account.domain.AccountUser;
 import com.account.domain.Transaction;
+import com.account.domain.converter.TransactionIdConverter;
+import com.account.dto.BatchUseResult;
 import com.account.dto.TransactionDto;
+import com.account.dto.UseBalance;
 import com.account.exception.AccountException;
+import com.account.id.TransactionIdGenerator;
+import com.account.lock.FencingTokenContext;
+import com.account.recorder.FailedTransaction;
+import com.account.repository.AccountMetadata;
 import com.account.repository.AccountRepository;
 import com.account.repository.AccountUserRepository;
+import com.account.repository.DebitResult;
 import com.account.repository.TransactionRepository;
 import com.account.type.AccountStatus;
+import com.account.type.ConcurrencyMode;
 import com.account.type.ErrorCode;
 import com.account.type.TransactionResultType;
 import com.account.type.TransactionType;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,11 +57,19 @@ public class TransactionService {
 	private final TransactionRepository transactionRepository;
 	private final AccountUserRepository accountUserRepository;
 	private final AccountRepository accountRepository;
+	private final TransactionIdGenerator transactionIdGenerator;
+	private final LedgerBalanceService ledgerBalanceService;
+	private final ConcurrencyProperties concurrencyProperties;
+	private final AccountMetadataCache accountMetadataCache;
+	private final TransactionCache transactionCache;
+	private final ExistenceFilter existenceFilter;
 
 	/**
 	 * 잔액을 사용하는 거래를 처리합니다.
 	 * <p>
-	 * - 사용자 및 계좌 유효성 검증<br>
+	 * - 블룸 필터에서 확실히 없는 계좌번호는 DB 조회 없이 거절<br>
+	 * - 락 펜싱 토큰 기록 (lease 갱신 모드, 이전 락 소유자의 뒤늦은 쓰기 거절)<br>
+	 * - 사용자 소유 계좌 조회 및 유효성 검증<br>
 	 * - 잔액 차감<br>
 	 * - 거래 정보 저장 및 응답 반환
 	 *
@@ -53,13 +81,37 @@ public class TransactionService {
 	 */
 	@Transactional
 	public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
+		return use(userId, accountNumber, amount);
+	}
 
-		AccountUser user = accountUserRepository.findById(userId)
-				.orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-				.orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+	/**
+	 * 그룹 커밋의 공동 트랜잭션에 참여하여 잔액을 사용합니다. ({@link #useBalance}와 같은 처리)
+	 * <p>
+	 * 검증 실패가 공동 트랜잭션을 롤백 전용으로 만들지 않으므로, 함께 묶인 다른 쓰기는 그대로 커밋됩니다.
+	 *
+	 * @throws AccountException 검증 실패 시 예외 발생
+	 */
+	@Transactional(propagation = Propagation.MANDATORY, noRollbackFor = AccountException.class)
+	public TransactionDto useBalanceInGroupCommit(Long userId, String accountNumber, Long amount) {
+		return use(userId, accountNumber, amount);
+	}
+
+	private TransactionDto use(Long userId, String accountNumber, Long amount) {
+		if (ledgerBalanceService.isEventSourced()) {
+			Account account = getOwnedAccountReference(userId, accountNumber);
+			return TransactionDto.fromEntity(appendToLedger(account, accountNumber, USE, amount), accountNumber);
+		}
+		if (existenceFilter.isAbsentAccount(accountNumber)) {
+			throw ownershipFailure(userId, accountNumber);
+		}
+		if (concurrencyProperties.getMode() == ConcurrencyMode.ATOMIC) {
+			return debitAtomically(userId, accountNumber, amount);
+		}
+
+		fenceAccount(accountNumber);
+		Account account = getOwnedAccount(userId, accountNumber);
 
-		validateUseBalance(user, account, amount);
+		validateUseBalance(account, amount);
 
 		account.useBalance(amount);
 
@@ -67,41 +119,227 @@ public class TransactionService {
 	}
 
 	/**
-	 * 잔액 사용 전 유효성 검사를 수행합니다.
+	 * 락 없이 조건부 UPDATE 한 문장으로 잔액을 차감하고 거래를 기록합니다. (ATOMIC 동시성 모드)
+	 * <p>
+	 * 갱신된 행이 없을 때만 계좌를 다시 조회하여 실패 원인에 맞는 에러 코드를 돌려줍니다.
 	 *
-	 * @param user   사용자
-	 * @param account 계좌
-	 * @param amount 사용 금액
-	 * @throws AccountException 검증 실패 시 예외 발생
+	 * @param userId        사용자 ID
+	 * @param accountNumber 계좌번호
+	 * @param amount        사용 금액
+	 * @return 거래 정보 DTO
+	 * @throws AccountException 사용자/계좌 미존재, 소유자 불일치, 해지된 계좌, 잔액 부족
+	 */
+	private TransactionDto debitAtomically(Long userId, String accountNumber, Long amount) {
+		DebitResult debit = accountRepository.debit(accountNumber, userId, amount)
+				.orElseThrow(() -> debitFailure(userId, accountNumber, amount));
+
+		// 차감 후 잔액은 UPDATE 결과로 받았으므로 계좌는 프록시로만 참조 (추가 조회 없음)
+		Account account = accountRepository.getReferenceById(debit.getAccountId());
+		Transaction transaction = saveAndGetTransaction(USE, S, account, accountNumber, amount, debit.getBalance());
+		return TransactionDto.fromEntity(transaction, accountNumber);
+	}
+
+	private AccountException debitFailure(Long userId, String accountNumber, Long amount) {
+		Account account = getOwnedAccount(userId, accountNumber);
+		validateUseBalance(account, amount);
+		// UPDATE 시점에는 잔액이 부족했으나 조회 전에 입금된 경우
+		return new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+	}
+
+	/**
+	 * 여러 건의 잔액 사용을 하나의 DB 트랜잭션으로 처리합니다. (계좌 락은 요청 전체에 대해 계좌별로 한 번씩 획득됨)
+	 * <p>
+	 * - 펜싱 토큰은 계좌별로 한 번, 계좌번호 순서로 기록<br>
+	 * - 계좌는 계좌번호 목록으로 한 번만 조회<br>
+	 * - 요청 순서대로 누적 잔액에 대해 검증하여 건별로 성공/실패를 결정 (실패한 건은 이후 건에 영향 없음)<br>
+	 * - 성공/실패 거래를 모아 한 번의 배치 INSERT로 저장<br>
+	 * - 없는 계좌에 대한 실패는 단건 API와 마찬가지로 거래를 남기지 않음
+	 * <p>
+	 * 이벤트 소싱 모드에서는 원장 순번을 건별로 확정해야 하므로 성공 거래는 한 건씩 원장에 추가합니다.
+	 *
+	 * @param requests 잔액 사용 요청 목록
+	 * @return 요청과 같은 순서의 건별 결과
+	 * @throws AccountException 펜싱 토큰이 오래된 경우 (전체 롤백)
 	 */
-	private void validateUseBalance(AccountUser user, Account account, Long amount) {
-		if (!Objects.equals(user.getId(), account.getAccountUser().getId())) {
-			throw new AccountException(ErrorCode.USER_ACCOUNT_UNMATCHED);
+	@Transactional
+	public List<BatchUseResult> useBalances(List<UseBalance.Request> requests) {
+		boolean eventSourced = ledgerBalanceService.isEventSourced();
+		Map<String, Account> accounts = eventSourced ? Map.of() : lockedAccounts(requests);
+
+		List<BatchUseResult> results = new ArrayList<>(requests.size());
+		List<Transaction> transactions = new ArrayList<>(requests.size());
+		for (UseBalance.Request request : requests) {
+			String accountNumber = request.getAccountNumber();
+			Account account = accounts.get(accountNumber);
+			try {
+				if (eventSourced) {
+					account = getOwnedAccountReference(request.getUserId(), accountNumber);
+					Transaction transaction = appendToLedger(account, accountNumber, USE, request.getAmount());
+					results.add(BatchUseResult.success(TransactionDto.fromEntity(transaction, accountNumber)));
+					continue;
+				}
+				if (account == null || !Objects.equals(account.getAccountUser().getId(), request.getUserId())) {
+					throw ownershipFailure(request.getUserId(), accountNumber);
+				}
+				validateUseBalance(account, request.getAmount());
+				account.useBalance(request.getAmount());
+				Transaction transaction = newTransaction(USE, S, account, request.getAmount(), account.getBalance());
+				transactions.add(transaction);
+				results.add(BatchUseResult.success(TransactionDto.fromEntity(transaction, accountNumber)));
+			} catch (AccountException e) {
+				results.add(BatchUseResult.failure(failedBatchItem(account, request, transactions), e.getErrorCode()));
+			}
 		}
-		if (account.getAccountStatus() != AccountStatus.IN_USE) {
+
+		transactionRepository.saveAll(transactions);
+		transactions.forEach(transaction -> afterSave(transaction, transaction.getAccount().getAccountNumber()));
+		return results;
+	}
+
+	/**
+	 * 블룸 필터에서 확실히 없는 계좌를 제외하고 펜싱 토큰을 기록한 뒤 계좌들을 한 번에 조회합니다.
+	 */
+	private Map<String, Account> lockedAccounts(List<UseBalance.Request> requests) {
+		Set<String> accountNumbers = requests.stream()
+				.map(UseBalance.Request::getAccountNumber)
+				.filter(accountNumber -> !existenceFilter.isAbsentAccount(accountNumber))
+				.collect(Collectors.toCollection(TreeSet::new));
+		accountNumbers.forEach(this::fenceAccount);
+		return accountRepository.findByAccountNumberIn(accountNumbers).stream()
+				.collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+	}
+
+	/**
+	 * 실패한 건의 실패 거래를 배치 저장 목록에 추가합니다. 계좌가 없으면 기록 없이 요청 정보만 돌려줍니다.
+	 */
+	private TransactionDto failedBatchItem(Account account, UseBalance.Request request,
+			List<Transaction> transactions) {
+		if (account == null) {
+			return TransactionDto.builder()
+					.accountNumber(request.getAccountNumber())
+					.transactionType(USE)
+					.transactionResultType(F)
+					.amount(request.getAmount())
+					.transactedAt(LocalDateTime.now())
+					.build();
+		}
+		Transaction transaction = newTransaction(USE, F, account, request.getAmount(), currentBalance(account));
+		transactions.add(transaction);
+		return TransactionDto.fromEntity(transaction, request.getAccountNumber());
+	}
+
+	/**
+	 * 현재 스레드가 보유한 락의 펜싱 토큰을 계좌에 기록합니다.
+	 * <p>
+	 * 계좌 조회보다 먼저 수행하여 행 락을 잡고, 더 새로운 토큰이 이미 기록된 경우(lease 만료 후
+	 * 다른 노드가 락을 가져간 경우) 쓰기를 거절합니다. 토큰이 없으면(락 없이 호출되었거나 lease 갱신 모드가 아니면)
+	 * 아무것도 하지 않습니다.
+	 *
+	 * @param accountNumber 계좌번호
+	 * @throws AccountException 토큰이 오래된 경우
+	 */
+	private void fenceAccount(String accountNumber) {
+		Long fencingToken = FencingTokenContext.get(accountNumber);
+		// 이벤트 소싱 모드에서는 (계좌, 원장 순번) 유니크 제약이 늦은 쓰기를 막으므로 계좌 행을 갱신하지 않음
+		if (fencingToken == null || ledgerBalanceService.isEventSourced()
+				|| accountRepository.updateFencingToken(accountNumber, fencingToken) > 0) {
+			return;
+		}
+		if (accountMetadataCache.accountExists(accountNumber)) {
+			log.error("Stale fencing token {} for accountNumber: {}", fencingToken, accountNumber);
+			throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+		}
+	}
+
+	/**
+	 * 사용자가 소유한 계좌를 한 번의 조회로 가져옵니다.
+	 * <p>
+	 * 조회되지 않은 경우에만 사용자 미존재, 계좌 미존재, 소유자 불일치를 구분합니다.
+	 *
+	 * @param userId        사용자 ID
+	 * @param accountNumber 계좌번호
+	 * @return 계좌
+	 * @throws AccountException 사용자 또는 계좌가 없거나 소유자가 다른 경우
+	 */
+	private Account getOwnedAccount(Long userId, String accountNumber) {
+		return accountRepository.findOwnedAccount(accountNumber, userId)
+				.orElseThrow(() -> ownershipFailure(userId, accountNumber));
+	}
+
+	/**
+	 * 계좌 행을 읽지 않고 캐시된 계좌 메타데이터로 소유자와 상태를 검증한 뒤 계좌 참조(프록시)를 돌려줍니다.
+	 * <p>
+	 * 이벤트 소싱 모드는 잔액을 원장에서 계산하므로 계좌 행이 필요하지 않습니다.
+	 *
+	 * @param userId        사용자 ID
+	 * @param accountNumber 계좌번호
+	 * @return 사용 중인 계좌의 참조
+	 * @throws AccountException 사용자 또는 계좌가 없거나 소유자가 다른 경우, 해지된 계좌
+	 */
+	private Account getOwnedAccountReference(Long userId, String accountNumber) {
+		return referenceInUse(accountMetadataCache.findAccount(accountNumber)
+				.filter(metadata -> Objects.equals(metadata.getUserId(), userId))
+				.orElseThrow(() -> ownershipFailure(userId, accountNumber)));
+	}
+
+	private Account getAccountReferenceInUse(String accountNumber) {
+		return referenceInUse(accountMetadataCache.findAccount(accountNumber)
+				.orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND)));
+	}
+
+	private Account referenceInUse(AccountMetadata metadata) {
+		if (metadata.getAccountStatus() != AccountStatus.IN_USE) {
 			throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
 		}
+		return accountRepository.getReferenceById(metadata.getAccountId());
+	}
+
+	private AccountException ownershipFailure(Long userId, String accountNumber) {
+		if (!accountMetadataCache.userExists(userId)) {
+			return new AccountException(ErrorCode.USER_NOT_FOUND);
+		}
+		if (!accountMetadataCache.accountExists(accountNumber)) {
+			return new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+		}
+		return new AccountException(ErrorCode.USER_ACCOUNT_UNMATCHED);
+	}
+
+	/**
+	 * 잔액 사용 전 유효성 검사를 수행합니다.
+	 *
+	 * @param account 사용자 소유가 확인된 계좌
+	 * @param amount 사용 금액
+	 * @throws AccountException 검증 실패 시 예외 발생
+	 */
+	private void validateUseBalance(Account account, Long amount) {
+		validateAccountInUse(account);
 		if (account.getBalance() < amount) {
 			throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
 		}
 	}
 
 	/**
-	 * 잔액 사용 실패 시 실패 거래를 기록합니다.
+	 * 계좌 상태를 검증합니다. (소유자는 조회 시 검증됨)
 	 *
-	 * @param accountNumber 계좌번호
-	 * @param amount        시도한 금액
+	 * @param account 계좌
+	 * @throws AccountException 해지된 계좌
 	 */
-	@Transactional
-	public void saveFailedUseTransaction(String accountNumber, Long amount) {
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-				.orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+	private void validateAccountInUse(Account account) {
+		if (account.getAccountStatus() != AccountStatus.IN_USE) {
+			throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+		}
+	}
 
-		saveAndGetTransaction(USE, F, account, amount);
+	/**
+	 * 실패 거래에 남길 현재 잔액을 조회합니다.
+	 * 이벤트 소싱 모드에서는 Account.balance가 마지막 스냅샷 시점의 값이므로 원장 기준 잔액을 사용합니다.
+	 */
+	private long currentBalance(Account account) {
+		return ledgerBalanceService.isEventSourced() ? ledgerBalanceService.balanceOf(account) : account.getBalance();
 	}
 
 	/**
-	 * 거래 정보를 생성하고 저장합니다.
+	 * 거래 정보를 생성하고 저장합니다. 저장된 거래는 커밋 직후 거래 캐시에 넣습니다.
 	 *
 	 * @param transactionType       거래 유형 (USE, CANCEL 등)
 	 * @param transactionResultType 거래 결과 (S, F)
@@ -111,20 +349,122 @@ public class TransactionService {
 	 */
 	private Transaction saveAndGetTransaction(TransactionType transactionType,
 			TransactionResultType transactionResultType, Account account, Long amount) {
+		return saveAndGetTransaction(transactionType, transactionResultType, account, account.getAccountNumber(),
+				amount, account.getBalance());
+	}
+
+	/**
+	 * 계좌가 프록시인 경우를 위해 계좌번호와 거래 후 잔액을 따로 받습니다. (계좌 행을 읽지 않음)
+	 */
+	private Transaction saveAndGetTransaction(TransactionType transactionType,
+			TransactionResultType transactionResultType, Account account, String accountNumber, Long amount,
+			Long balanceSnapshot) {
 
-		return transactionRepository.save(Transaction.builder()
+		Transaction transaction = transactionRepository.save(
+				newTransaction(transactionType, transactionResultType, account, amount, balanceSnapshot));
+		afterSave(transaction, accountNumber);
+		return transaction;
+	}
+
+	private Transaction newTransaction(TransactionType transactionType, TransactionResultType transactionResultType,
+			Account account, Long amount, Long balanceSnapshot) {
+		return Transaction.builder()
 				.transactionType(transactionType)
 				.transactionResultType(transactionResultType)
 				.account(account)
 				.amount(amount)
-				.balanceSnapshot(account.getBalance())
-				.transactionId(UUID.randomUUID().toString().replace("-", ""))
+				.balanceSnapshot(balanceSnapshot)
+				.transactionId(transactionIdGenerator.nextId())
 				.transactedAt(LocalDateTime.now())
-				.build());
+				.build();
+	}
+
+	/**
+	 * 저장된 거래를 블룸 필터, 거래 캐시에 반영합니다.
+	 */
+	private void afterSave(Transaction transaction, String accountNumber) {
+		existenceFilter.addTransaction(transaction.getTransactionId());
+		transactionCache.putAfterCommit(TransactionDto.fromEntity(transaction, accountNumber));
+	}
+
+	/**
+	 * 이벤트 소싱 모드에서 계좌 행을 갱신하지 않고 원장에 성공 거래를 추가합니다.
+	 *
+	 * @param account         대상 계좌
+	 * @param accountNumber   대상 계좌번호
+	 * @param transactionType 거래 유형
+	 * @param amount          거래 금액
+	 * @return 저장된 거래 엔티티
+	 */
+	private Transaction appendToLedger(Account account, String accountNumber, TransactionType transactionType,
+			Long amount) {
+		Transaction transaction = ledgerBalanceService.append(account, transactionType, amount);
+		existenceFilter.addTransaction(transaction.getTransactionId());
+		transactionCache.putAfterCommit(TransactionDto.fromEntity(transaction, accountNumber));
+		return transaction;
+	}
+
+	/**
+	 * 두 계좌 간 이체를 하나의 DB 트랜잭션으로 처리합니다.
+	 * <p>
+	 * - 출금 계좌는 잔액 사용과 동일하게 검증<br>
+	 * - 입금 계좌는 사용 중인 계좌인지 검증<br>
+	 * - 출금/입금 거래를 각각 기록하고 출금 거래 정보를 반환
+	 *
+	 * @param userId            출금 계좌 소유자 ID
+	 * @param fromAccountNumber 출금 계좌번호
+	 * @param toAccountNumber   입금 계좌번호
+	 * @param amount            이체 금액
+	 * @return 출금 거래 정보 DTO
+	 * @throws AccountException 검증 실패 시 예외 발생
+	 */
+	@Transactional
+	public TransactionDto transferBalance(Long userId, String fromAccountNumber, String toAccountNumber,
+			Long amount) {
+		if (Objects.equals(fromAccountNumber, toAccountNumber)) {
+			throw new AccountException(ErrorCode.INVALID_REQUEST);
+		}
+
+		if (ledgerBalanceService.isEventSourced()) {
+			Account fromAccount = getOwnedAccountReference(userId, fromAccountNumber);
+			Account toAccount = getAccountReferenceInUse(toAccountNumber);
+			Transaction transaction = appendToLedger(fromAccount, fromAccountNumber, TransactionType.TRANSFER_OUT,
+					amount);
+			appendToLedger(toAccount, toAccountNumber, TransactionType.TRANSFER_IN, amount);
+			return TransactionDto.fromEntity(transaction, fromAccountNumber);
+		}
+
+		if (existenceFilter.isAbsentAccount(fromAccountNumber)) {
+			throw ownershipFailure(userId, fromAccountNumber);
+		}
+		if (existenceFilter.isAbsentAccount(toAccountNumber)) {
+			throw new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+		}
+		fenceAccount(fromAccountNumber);
+		fenceAccount(toAccountNumber);
+		Account fromAccount = getOwnedAccount(userId, fromAccountNumber);
+		Account toAccount = accountRepository.findByAccountNumber(toAccountNumber)
+				.orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+		validateAccountInUse(fromAccount);
+		if (toAccount.getAccountStatus() != AccountStatus.IN_USE) {
+			throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+		}
+
+		fromAccount.useBalance(amount);
+		toAccount.depositBalance(amount);
+
+		Transaction transaction = saveAndGetTransaction(TransactionType.TRANSFER_OUT, S, fromAccount, amount);
+		saveAndGetTransaction(TransactionType.TRANSFER_IN, S, toAccount, amount);
+
+		return TransactionDto.fromEntity(transaction);
 	}
 
 	/**
 	 * 잔액 사용을 취소합니다.
+	 * <p>
+	 * - 성공한 잔액 사용 거래만, 원거래당 한 번만 취소 가능 (취소 거래의 원거래 참조 컬럼 유니크 제약)<br>
+	 * - 두 잔액 모드 모두 취소 금액만큼 잔액을 되돌리고 취소 후 잔액을 거래에 기록
 	 *
 	 * @param transactionId 원거래 ID
 	 * @param accountNumber 계좌번호
@@ -134,29 +474,74 @@ public class TransactionService {
 	 */
 	@Transactional
 	public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
+		fenceAccount(accountNumber);
+		Transaction transaction = getCancelTarget(transactionId, accountNumber);
+		Account account = transaction.getAccount();
 
-		Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-				.orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-				.orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+		validateCancelBalance(transaction, amount);
 
-		validateCancelBalance(transaction, account, amount);
+		Transaction cancel;
+		if (ledgerBalanceService.isEventSourced()) {
+			cancel = ledgerBalanceService.append(account, TransactionType.CANCEL, amount, transaction.getId());
+		} else {
+			account.depositBalance(amount);
+			cancel = newTransaction(TransactionType.CANCEL, S, account, amount, account.getBalance());
+			cancel.setCancelTargetId(transaction.getId());
+			try {
+				transactionRepository.saveAndFlush(cancel);
+			} catch (DataIntegrityViolationException e) {
+				// 같은 원거래의 취소가 동시에 커밋된 경우
+				throw new AccountException(ErrorCode.TRANSACTION_ALREADY_CANCELLED);
+			}
+		}
+		afterSave(cancel, accountNumber);
+		return TransactionDto.fromEntity(cancel, accountNumber);
+	}
 
-		return TransactionDto.fromEntity(
-				saveAndGetTransaction(TransactionType.CANCEL, S, account, amount));
+	/**
+	 * 계좌번호가 일치하는 원거래를 계좌와 함께 한 번의 조회로 가져옵니다.
+	 * <p>
+	 * 조회되지 않은 경우에만 거래 미존재, 계좌 미존재, 거래-계좌 불일치를 구분하기 위해 추가로 조회합니다.
+	 * 없는 것으로 기억된(또는 블룸 필터에 없는) 거래 ID이거나 캐시된 원거래의 계좌번호가 다르면 DB를 조회하지 않고 실패합니다.
+	 *
+	 * @param transactionId 원거래 ID
+	 * @param accountNumber 계좌번호
+	 * @return 계좌가 함께 조회된 원거래
+	 * @throws AccountException 거래 또는 계좌가 없거나 서로 일치하지 않는 경우
+	 */
+	private Transaction getCancelTarget(String transactionId, String accountNumber) {
+		if (!TransactionIdConverter.isWellFormed(transactionId) || transactionCache.isKnownMissing(transactionId)
+				|| existenceFilter.isAbsentTransaction(transactionId)) {
+			throw new AccountException(ErrorCode.TRANSACTION_NOT_FOUND);
+		}
+		if (transactionCache.getIfPresent(transactionId)
+				.filter(cached -> !Objects.equals(cached.getAccountNumber(), accountNumber))
+				.isPresent()) {
+			throw cancelAccountFailure(accountNumber);
+		}
+		return transactionRepository.findWithAccount(transactionId, accountNumber)
+				.orElseThrow(() -> transactionRepository.existsByTransactionId(transactionId)
+						? cancelAccountFailure(accountNumber)
+						: new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
+	}
+
+	private AccountException cancelAccountFailure(String accountNumber) {
+		if (!accountMetadataCache.accountExists(accountNumber)) {
+			return new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+		}
+		return new AccountException(ErrorCode.TRANSACTION_ACCOUNT_UNMATCHED);
 	}
 
 	/**
-	 * 잔액 취소 전 유효성 검사를 수행합니다.
+	 * 잔액 취소 전 유효성 검사를 수행합니다. (거래-계좌 일치는 조회 시 검증됨)
 	 *
 	 * @param transaction 원거래 정보
-	 * @param account     대상 계좌
 	 * @param amount      취소 요청 금액
-	 * @throws AccountException 거래-계좌 불일치, 금액 불일치, 1년 초과된 거래 등
+	 * @throws AccountException 취소할 수 없는 거래, 금액 불일치, 1년 초과된 거래, 해지된 계좌, 이미 취소된 거래 등
 	 */
-	private void validateCancelBalance(Transaction transaction, Account account, Long amount) {
-		if (!Objects.equals(transaction.getAccount().getId(), account.getId())) {
-			throw new AccountException(ErrorCode.TRANSACTION_ACCOUNT_UNMATCHED);
+	private void validateCancelBalance(Transaction transaction, Long amount) {
+		if (transaction.getTransactionType() != USE || transaction.getTransactionResultType() != S) {
+			throw new AccountException(ErrorCode.TRANSACTION_NOT_CANCELLABLE);
 		}
 		if (!Objects.equals(transaction.getAmount(), amount)) {
 			throw new AccountException(ErrorCode.CANCEL_MUST_FULLY);
@@ -164,32 +549,65 @@ public class TransactionService {
 		if (transaction.getTransactedAt().isBefore(LocalDateTime.now().minusYears(1))) {
 			throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
 		}
+		validateAccountInUse(transaction.getAccount());
+		if (transactionRepository.existsByCancelTargetId(transaction.getId())) {
+			throw new AccountException(ErrorCode.TRANSACTION_ALREADY_CANCELLED);
+		}
 	}
 
 	/**
-	 * 잔액 취소 실패 시 실패 거래를 기록합니다.
+	 * 대기열에 쌓인 실패 거래들을 한 번에 기록합니다.
+	 * <p>
+	 * - 계좌는 계좌번호 목록으로 한 번만 조회<br>
+	 * - 존재하지 않는 계좌의 기록은 건너뜀<br>
+	 * - 거래 시각은 요청이 실패한 시각을 사용
 	 *
-	 * @param accountNumber 계좌번호
-	 * @param amount        시도한 금액
+	 * @param failedTransactions 실패 거래 기록 목록
+	 * @return 실제로 저장된 거래 수
 	 */
 	@Transactional
-	public void saveFailedCancelTransaction(String accountNumber, Long amount) {
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-				.orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+	public int saveFailedTransactions(List<FailedTransaction> failedTransactions) {
+		Set<String> accountNumbers = failedTransactions.stream()
+				.map(FailedTransaction::getAccountNumber)
+				.collect(Collectors.toSet());
+		Map<String, Account> accounts = accountRepository.findByAccountNumberIn(accountNumbers).stream()
+				.collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
 
-		saveAndGetTransaction(TransactionType.CANCEL, F, account, amount);
+		List<Transaction> transactions = new ArrayList<>(failedTransactions.size());
+		for (FailedTransaction failedTransaction : failedTransactions) {
+			Account account = accounts.get(failedTransaction.getAccountNumber());
+			if (account == null) {
+				continue;
+			}
+			transactions.add(Transaction.builder()
+					.transactionType(failedTransaction.getTransactionType())
+					.transactionResultType(F)
+					.account(account)
+					.amount(failedTransaction.getAmount())
+					.balanceSnapshot(currentBalance(account))
+					.transactionId(transactionIdGenerator.nextId())
+					.transactedAt(failedTransaction.getTransactedAt())
+					.build());
+		}
+
+		transactionRepository.saveAll(transactions);
+		transactions.forEach(transaction -> existenceFilter.addTransaction(transaction.getTransactionId()));
+		return transactions.size();
 	}
 
 	/**
-	 * 거래 ID를 통해 거래 내역을 조회합니다.
+	 * 거래 ID를 통해 거래 내역을 조회합니다. DB에 없으면 보관 세그먼트에서 찾습니다.
+	 * <p>
+	 * 거래 캐시를 먼저 확인하고, 미적중 시 엔티티를 만들지 않고 응답 컬럼만 조회합니다.
+	 * 바이너리로 저장할 수 없는 형식의 ID는 DB를 조회하지 않습니다.
 	 *
 	 * @param transactionId 거래 ID
 	 * @return 거래 정보 DTO
 	 * @throws AccountException 거래가 존재하지 않을 경우
 	 */
+	@Transactional(readOnly = true)
 	public TransactionDto queryTransaction(String transactionId) {
-		return TransactionDto.fromEntity(
-				transactionRepository.findByTransactionId(transactionId)
-						.orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND)));
+		return transactionCache.find(transactionId)
+				.orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
 	}
 }
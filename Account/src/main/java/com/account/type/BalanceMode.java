@@ -0,0 +1,5 @@
+package com.account.type;
+
+public enum BalanceMode {
+	MUTABLE, EVENT_SOURCED
+}
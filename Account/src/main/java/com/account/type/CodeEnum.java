@@ -0,0 +1,9 @@
+package com.account.type;
+
+/**
+ * DB에 작은 정수 코드로 저장되는 enum입니다.
+ * 코드는 저장된 데이터의 의미이므로 한 번 정한 값은 바꾸지 않습니다.
+ */
+public interface CodeEnum {
+	int getCode();
+}
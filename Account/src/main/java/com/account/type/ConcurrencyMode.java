@@ -0,0 +1,28 @@
+package com.account.type;
+
+public enum ConcurrencyMode {
+	/**
+	 * {@code account.concurrency.mode} 전역 설정을 따릅니다.
+	 */
+	DEFAULT,
+	/**
+	 * 계좌 락을 잡고 실행합니다.
+	 */
+	PESSIMISTIC,
+	/**
+	 * 락 없이 실행하고 @Version 충돌 시 재시도합니다.
+	 */
+	OPTIMISTIC,
+	/**
+	 * 계좌번호 해시로 정해진 단일 스레드 레인에서 순서대로 실행합니다.
+	 */
+	LANE,
+	/**
+	 * 잔액 사용은 락 없이 조건부 UPDATE 한 문장으로 차감하고, 그 외 요청은 OPTIMISTIC과 같이 실행합니다.
+	 */
+	ATOMIC,
+	/**
+	 * 잔액 사용은 계좌별 대기열에 모아 리더가 락을 한 번 잡고 한 트랜잭션으로 처리하고, 그 외 요청은 PESSIMISTIC과 같이 실행합니다.
+	 */
+	COALESCE
+}
@@ -13,7 +13,10 @@ public enum ErrorCode {
 	USER_ACCOUNT_UNMATCHED("사용자 계좌의 소유주가 다릅니다."), ACCOUNT_ALREADY_UNREGISTERED("계좌가 이미 해지되었습니다."),
 	CANCEL_MUST_FULLY("부분 취소는 허용되지 않습니다."), TRANSACTION_ACCOUNT_UNMATCHED("이 거래는 해당 계좌에서 발생한 거래가 아닙니다."),
 	TOO_OLD_ORDER_TO_CANCEL("1년이 지난 거래는 취소가 불가능합니다."), BALANCE_NOT_EMPTY("잔액이 있는 계좌는 해지할 수 없습니다."),
-	TRANSACTION_NOT_FOUND("해당 거래가 없습니다.");
+	TRANSACTION_NOT_FOUND("해당 거래가 없습니다."), ACCOUNT_NUMBER_EXHAUSTED("발급 가능한 계좌번호가 없습니다."),
+	TRANSACTION_NOT_CANCELLABLE("성공한 잔액 사용 거래만 취소할 수 있습니다."),
+	TRANSACTION_ALREADY_CANCELLED("이미 취소된 거래입니다."),
+	IDEMPOTENCY_KEY_REUSED("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
 
 	private final String description;
 
@@ -0,0 +1,13 @@
+package com.account.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum IdempotencyStatus implements CodeEnum {
+    PENDING(1),
+    COMPLETED(2);
+
+    private final int code;
+}
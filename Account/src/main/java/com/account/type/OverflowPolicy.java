@@ -0,0 +1,5 @@
+package com.account.type;
+
+public enum OverflowPolicy {
+	DROP_NEWEST, DROP_OLDEST, CALLER_RUNS
+}
@@ -1,5 +1,12 @@
 package com.account.type;
 
-public enum TransactionResultType {
-	S, F
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransactionResultType implements CodeEnum {
+	S(1), F(2);
+
+	private final int code;
 }
@@ -1,5 +1,12 @@
 package com.account.type;
 
-public enum TransactionType {
-	USE, CANCEL
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransactionType implements CodeEnum {
+	USE(1), CANCEL(2), TRANSFER_OUT(3), TRANSFER_IN(4);
+
+	private final int code;
 }
@@ -1,7 +1,7 @@
-insert into account_user(id, name, created_at, updated_at)
-values(1, 'Pororo', now(), now());
-insert into account_user(id, name, created_at, updated_at)
-values(2, 'Lupi', now(), now());
-insert into account_user(id, name, created_at, updated_at)
-values(3, 'Eddie', now(), now());
+insert into account_user(id, name, active_account_count, created_at, updated_at)
+values(1, 'Pororo', 0, now(), now());
+insert into account_user(id, name, active_account_count, created_at, updated_at)
+values(2, 'Lupi', 0, now(), now());
+insert into account_user(id, name, active_account_count, created_at, updated_at)
+values(3, 'Eddie', 0, now(), now());
 
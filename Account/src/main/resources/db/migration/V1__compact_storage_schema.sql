@@ -0,0 +1,108 @@
+-- 기존 스키마(초기 엔티티 매핑에서 생성된 스키마)를 현재 엔티티 매핑으로 옮기는 수동 마이그레이션 (H2)
+--
+-- 마이그레이션 도구가 설정되어 있지 않으므로 자동으로 실행되지 않습니다.
+-- 애플리케이션을 모두 내린 뒤 한 번만 직접 실행합니다. (예: RUNSCRIPT FROM 'V1__compact_storage_schema.sql')
+-- 로컬(ddl-auto: create-drop)은 엔티티 매핑에서 바로 생성되므로 실행할 필요가 없습니다.
+--
+-- 1. enum 문자열 컬럼 -> SMALLINT 코드 (AccountStatus, TransactionType, TransactionResultType)
+-- 2. transaction_id 32자리 16진수 문자열 -> BINARY(16)
+-- 3. account_number / transaction_id 유니크 인덱스, (account_id, transacted_at) 복합 인덱스
+-- 4. 이후 추가된 컬럼(version, fencing_token, active_account_count, account_sequence, cancel_target_id)과
+--    테이블(balance_snapshot, account_number_sequence, idempotency_record)
+--
+-- 이관 전에 저장된 취소 거래는 원거래를 알 수 없어 cancel_target_id가 비어 있습니다.
+-- 따라서 이관 전에 취소된 원거래는 취소 가능 기간(1년) 안에서 한 번 더 취소될 수 있습니다.
+
+-- account.account_status: IN_USE=1, UNREGISTERED=2
+alter table account add column account_status_code smallint;
+update account set account_status_code = case account_status
+    when 'IN_USE' then 1
+    when 'UNREGISTERED' then 2
+end;
+alter table account drop column account_status;
+alter table account alter column account_status_code rename to account_status;
+
+alter table account alter column account_number set data type varchar(10);
+alter table account alter column account_number set not null;
+alter table account add constraint ux_account_account_number unique (account_number);
+
+-- 낙관적 동시성 모드의 @Version은 null이면 새 엔티티로 취급되므로 0부터 시작
+alter table account add column version bigint;
+update account set version = 0;
+alter table account add column fencing_token bigint;
+
+-- account_user.active_account_count: 사용 중인 계좌 수로 채움
+alter table account_user add column active_account_count integer default 0;
+update account_user u set active_account_count = (
+    select count(*) from account a where a.account_user_id = u.id and a.account_status = 1);
+
+-- data.sql로 직접 넣은 사용자 ID와 겹치지 않도록 현재 매핑의 시작 값(1000) 이상에서 다시 시작
+alter sequence account_user_seq restart with (select greatest(coalesce(max(id), 0) + 1, 1000) from account_user);
+
+-- transaction.transaction_type: USE=1, CANCEL=2, TRANSFER_OUT=3, TRANSFER_IN=4
+alter table transaction add column transaction_type_code smallint;
+update transaction set transaction_type_code = case transaction_type
+    when 'USE' then 1
+    when 'CANCEL' then 2
+    when 'TRANSFER_OUT' then 3
+    when 'TRANSFER_IN' then 4
+end;
+alter table transaction drop column transaction_type;
+alter table transaction alter column transaction_type_code rename to transaction_type;
+
+-- transaction.transaction_result_type: S=1, F=2
+alter table transaction add column transaction_result_type_code smallint;
+update transaction set transaction_result_type_code = case transaction_result_type
+    when 'S' then 1
+    when 'F' then 2
+end;
+alter table transaction drop column transaction_result_type;
+alter table transaction alter column transaction_result_type_code rename to transaction_result_type;
+
+-- transaction.transaction_id: 32자리 16진수 -> 16바이트 바이너리
+-- (H2의 HEXTORAW는 16진수 4자리를 한 문자로 읽으므로 UUID로 해석한 뒤 16바이트로 변환)
+alter table transaction add column transaction_id_binary binary(16);
+update transaction set transaction_id_binary = cast(cast(transaction_id as uuid) as binary(16));
+alter table transaction drop column transaction_id;
+alter table transaction alter column transaction_id_binary rename to transaction_id;
+alter table transaction alter column transaction_id set not null;
+alter table transaction add constraint ux_transaction_transaction_id unique (transaction_id);
+
+create index ix_transaction_account_transacted_at on transaction (account_id, transacted_at);
+
+alter table transaction add column account_sequence bigint;
+alter table transaction add constraint ux_transaction_account_sequence unique (account_id, account_sequence);
+alter table transaction add column cancel_target_id bigint;
+alter table transaction add constraint ux_transaction_cancel_target unique (cancel_target_id);
+
+create sequence balance_snapshot_seq start with 1 increment by 50;
+
+create table balance_snapshot (
+    account_id bigint,
+    account_sequence bigint,
+    balance bigint,
+    created_at timestamp(6),
+    id bigint not null,
+    primary key (id),
+    constraint ux_balance_snapshot_account_sequence unique (account_id, account_sequence)
+);
+alter table balance_snapshot add constraint fk_balance_snapshot_account foreign key (account_id) references account;
+
+-- 카운터 행은 첫 블록 예약 시 기존 계좌번호의 최댓값 다음 번호로 만들어짐
+create table account_number_sequence (
+    next_value bigint,
+    name varchar(255) not null,
+    primary key (name)
+);
+
+-- status: PENDING=1, COMPLETED=2
+create table idempotency_record (
+    status smallint not null,
+    created_at timestamp(6),
+    request_hash varchar(64),
+    idempotency_key varchar(100) not null,
+    response_body varchar(2000),
+    error_code varchar(40),
+    primary key (idempotency_key)
+);
+create index ix_idempotency_record_created_at on idempotency_record (created_at);
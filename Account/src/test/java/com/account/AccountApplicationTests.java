@@ -1,13 +1,30 @@
 package com.account;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import com.account.lock.LocalLockProvider;
+import com.account.lock.LockProvider;
 
-@SpringBootTest
+/**
+ * local 락 모드로 애플리케이션 전체를 띄웁니다. Redis 없이 기동되고 RedissonClient를 만들지 않아야 합니다.
+ */
+@SpringBootTest(properties = "account.lock.mode=local")
 class AccountApplicationTests {
+	@Autowired
+	private ApplicationContext applicationContext;
 
 	@Test
 	void contextLoads() {
+		assertInstanceOf(LocalLockProvider.class, applicationContext.getBean(LockProvider.class));
+		assertThrows(NoSuchBeanDefinitionException.class, () -> applicationContext.getBean(RedissonClient.class));
 	}
 
 }
@@ -0,0 +1,150 @@
+package com.account.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.account.config.ArchiveProperties;
+import com.account.domain.Account;
+import com.account.domain.BalanceSnapshot;
+import com.account.domain.Transaction;
+import com.account.dto.TransactionDto;
+import com.account.repository.BalanceSnapshotRepository;
+import com.account.repository.TransactionRepository;
+import com.account.service.LedgerBalanceService;
+import com.account.type.TransactionResultType;
+import com.account.type.TransactionType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionArchiveServiceTest {
+	@Mock
+	private TransactionArchive transactionArchive;
+
+	@Mock
+	private TransactionRepository transactionRepository;
+
+	@Mock
+	private BalanceSnapshotRepository balanceSnapshotRepository;
+
+	@Mock
+	private LedgerBalanceService ledgerBalanceService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final Account account = Account.builder().id(1L).accountNumber("1000000000").build();
+	private TransactionArchiveService transactionArchiveService;
+
+	@BeforeEach
+	void setUp() {
+		ArchiveProperties properties = new ArchiveProperties();
+		properties.setEnabled(true);
+		transactionArchiveService = new TransactionArchiveService(properties, transactionArchive,
+				transactionRepository, balanceSnapshotRepository, ledgerBalanceService,
+				transactionManager, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("배치별로 월 세그먼트에 기록하고 DB 행을 삭제한다")
+	void archiveByMonth() {
+		// given
+		Transaction january = transaction(10L, null, LocalDateTime.of(2024, 1, 31, 23, 59));
+		Transaction february = transaction(11L, null, LocalDateTime.of(2024, 2, 1, 0, 0));
+		given(transactionRepository.findArchivable(any(), eq(0L), any())).willReturn(List.of(january, february));
+		given(transactionRepository.findArchivable(any(), eq(11L), any())).willReturn(List.of());
+		InOrder inOrder = inOrder(transactionArchive, transactionRepository);
+
+		// when
+		int archived = transactionArchiveService.archive();
+
+		// then
+		assertEquals(2, archived);
+		inOrder.verify(transactionArchive).append(eq(YearMonth.of(2024, 1)), anyList());
+		inOrder.verify(transactionArchive).append(eq(YearMonth.of(2024, 2)), anyList());
+		inOrder.verify(transactionRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+	}
+
+	@Test
+	@DisplayName("세그먼트 기록에 실패하면 DB 행을 삭제하지 않는다")
+	void keepRowsWhenAppendFails() {
+		// given
+		given(transactionRepository.findArchivable(any(), eq(0L), any()))
+				.willReturn(List.of(transaction(10L, null, LocalDateTime.of(2024, 1, 1, 0, 0))));
+		willThrow(new UncheckedIOException(new IOException("disk full")))
+				.given(transactionArchive).append(any(), anyList());
+
+		// when
+		// then
+		assertThrows(UncheckedIOException.class, () -> transactionArchiveService.archive());
+		verify(transactionRepository, never()).deleteAllByIdInBatch(any());
+	}
+
+	@Test
+	@DisplayName("이벤트 소싱 모드에서는 스냅샷에 합산된 원장과 순번 없는 거래만 옮기고 이전 스냅샷을 지운다")
+	@SuppressWarnings("unchecked")
+	void archiveOnlyCoveredLedgerWhenEventSourced() {
+		// given
+		LocalDateTime transactedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+		Transaction covered = transaction(10L, 5L, transactedAt);
+		Transaction failed = transaction(11L, null, transactedAt);
+		Transaction uncovered = transaction(12L, 6L, transactedAt);
+		given(ledgerBalanceService.isEventSourced()).willReturn(true);
+		given(transactionRepository.findArchivable(any(), eq(0L), any())).willReturn(List.of(covered, failed, uncovered));
+		given(transactionRepository.findArchivable(any(), eq(12L), any())).willReturn(List.of());
+		given(balanceSnapshotRepository.findFirstByAccountAndAccountSequenceLessThanEqualOrderByAccountSequenceDesc(
+				account, 6L))
+				.willReturn(Optional.of(BalanceSnapshot.builder().account(account).accountSequence(5L).build()));
+		ArgumentCaptor<List<TransactionDto>> captor = ArgumentCaptor.forClass(List.class);
+
+		// when
+		int archived = transactionArchiveService.archive();
+
+		// then
+		assertEquals(2, archived);
+		verify(balanceSnapshotRepository).deleteOlderThan(account, 5L);
+		verify(transactionArchive).append(eq(YearMonth.of(2024, 1)), captor.capture());
+		assertEquals(List.of(covered.getTransactionId(), failed.getTransactionId()),
+				captor.getValue().stream().map(TransactionDto::getTransactionId).toList());
+		verify(transactionRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+	}
+
+	private Transaction transaction(Long id, Long accountSequence, LocalDateTime transactedAt) {
+		return Transaction.builder()
+				.id(id)
+				.account(account)
+				.transactionType(TransactionType.USE)
+				.transactionResultType(accountSequence == null ? TransactionResultType.F : TransactionResultType.S)
+				.amount(1000L)
+				.balanceSnapshot(9000L)
+				.accountSequence(accountSequence)
+				.transactionId(String.format("%032x", id))
+				.transactedAt(transactedAt)
+				.build();
+	}
+}
@@ -0,0 +1,124 @@
+package com.account.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.account.config.ArchiveProperties;
+import com.account.dto.TransactionDto;
+import com.account.id.TimeOrderedTransactionIdGenerator;
+import com.account.type.TransactionResultType;
+import com.account.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class TransactionArchiveTest {
+	@TempDir
+	Path directory;
+
+	private final TimeOrderedTransactionIdGenerator generator = new TimeOrderedTransactionIdGenerator(1);
+	private final ArchiveProperties properties = new ArchiveProperties();
+	private TransactionArchive transactionArchive;
+
+	@BeforeEach
+	void setUp() {
+		properties.setEnabled(true);
+		properties.setDirectory(directory.toString());
+		transactionArchive = new TransactionArchive(properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+	}
+
+	@Test
+	@DisplayName("여러 번 나눠 보관한 거래도 거래 ID의 월 세그먼트에서 찾는다")
+	void findAcrossAppendedBatches() {
+		// given
+		TransactionDto first = transaction(generator.nextId());
+		TransactionDto second = transaction(generator.nextId());
+		YearMonth month = monthOf(first.getTransactionId());
+		transactionArchive.append(month, List.of(first));
+		transactionArchive.append(month, List.of(second));
+
+		// when
+		TransactionDto found = transactionArchive.find(second.getTransactionId()).orElseThrow();
+
+		// then
+		assertEquals(second.getTransactionId(), found.getTransactionId());
+		assertEquals(1000L, found.getAmount());
+		assertEquals(TransactionType.USE, found.getTransactionType());
+	}
+
+	@Test
+	@DisplayName("기록 중 중단된 임시 파일과 읽을 수 없는 세그먼트는 건너뛰고 같은 월의 다른 세그먼트에서 찾는다")
+	void skipsTornAndCorruptedSegments() throws IOException {
+		// given
+		TransactionDto transaction = transaction(generator.nextId());
+		YearMonth month = monthOf(transaction.getTransactionId());
+		Files.write(directory.resolve("transactions-" + month + ".000001.jsonl.gz"), new byte[] {0x1f, (byte) 0x8b, 8});
+		transactionArchive.append(month, List.of(transaction));
+		Files.write(directory.resolve("transactions-" + month + ".000003.jsonl.gz.tmp"), new byte[] {0x1f});
+
+		// when
+		TransactionDto found = transactionArchive.find(transaction.getTransactionId()).orElseThrow();
+
+		// then
+		assertEquals(transaction.getTransactionId(), found.getTransactionId());
+		assertTrue(Files.exists(directory.resolve("transactions-" + month + ".000002.jsonl.gz")));
+	}
+
+	@Test
+	@DisplayName("다른 월 세그먼트에 있는 거래는 전체 검색을 켠 경우에만 찾는다")
+	void fullScanFallback() {
+		// given
+		TransactionDto transaction = transaction(generator.nextId());
+		transactionArchive.append(monthOf(transaction.getTransactionId()).minusYears(2), List.of(transaction));
+
+		// when
+		boolean foundWithoutScan = transactionArchive.find(transaction.getTransactionId()).isPresent();
+		properties.setFullScanFallback(true);
+		boolean foundWithScan = transactionArchive.find(transaction.getTransactionId()).isPresent();
+
+		// then
+		assertFalse(foundWithoutScan);
+		assertTrue(foundWithScan);
+	}
+
+	@Test
+	@DisplayName("형식이 맞지 않는 거래 ID는 세그먼트를 읽지 않는다")
+	void malformedTransactionId() {
+		// given
+		// when
+		// then
+		assertTrue(transactionArchive.find("not-a-transaction-id").isEmpty());
+	}
+
+	private static TransactionDto transaction(String transactionId) {
+		return TransactionDto.builder()
+				.accountNumber("1000000000")
+				.transactionType(TransactionType.USE)
+				.transactionResultType(TransactionResultType.S)
+				.amount(1000L)
+				.balanceSnapshot(9000L)
+				.transactionId(transactionId)
+				.transactedAt(LocalDateTime.now())
+				.build();
+	}
+
+	private static YearMonth monthOf(String transactionId) {
+		return YearMonth.from(LocalDateTime.ofInstant(
+				Instant.ofEpochMilli(TimeOrderedTransactionIdGenerator.extractEpochMillis(transactionId)),
+				ZoneId.systemDefault()));
+	}
+}
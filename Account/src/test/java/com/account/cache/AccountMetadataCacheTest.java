@@ -0,0 +1,101 @@
+package com.account.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.account.config.NearCacheProperties;
+import com.account.repository.AccountMetadata;
+import com.account.repository.AccountRepository;
+import com.account.repository.AccountUserRepository;
+import com.account.type.AccountStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AccountMetadataCacheTest {
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private AccountUserRepository accountUserRepository;
+
+	@Mock
+	private ExistenceFilter existenceFilter;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private AccountMetadataCache accountMetadataCache;
+
+	@BeforeEach
+	void setUp() {
+		accountMetadataCache = new AccountMetadataCache(new NearCacheProperties(), accountRepository,
+				accountUserRepository, existenceFilter, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("한 번 조회한 계좌 메타데이터는 무효화 전까지 DB를 다시 조회하지 않는다")
+	void cachesAccountUntilEvicted() {
+		// given
+		given(accountRepository.findMetadataByAccountNumber("1000000000"))
+				.willReturn(Optional.of(new AccountMetadata(1L, "1000000000", 12L, AccountStatus.IN_USE)));
+
+		// when
+		accountMetadataCache.findAccount("1000000000");
+		accountMetadataCache.findAccount("1000000000");
+		accountMetadataCache.evictAccount("1000000000");
+		AccountMetadata reloaded = accountMetadataCache.findAccount("1000000000").orElseThrow();
+
+		// then
+		verify(accountRepository, times(2)).findMetadataByAccountNumber("1000000000");
+		assertEquals(12L, reloaded.getUserId());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "account.metadata").tag("result", "hit")
+				.functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("없는 계좌와 사용자는 캐시하지 않는다")
+	void doesNotCacheAbsentEntries() {
+		// given
+		given(accountRepository.findMetadataByAccountNumber("1000000000")).willReturn(Optional.empty());
+		given(accountUserRepository.existsById(12L)).willReturn(false);
+
+		// when
+		boolean accountExists = accountMetadataCache.accountExists("1000000000")
+				|| accountMetadataCache.accountExists("1000000000");
+		boolean userExists = accountMetadataCache.userExists(12L) || accountMetadataCache.userExists(12L);
+
+		// then
+		assertFalse(accountExists);
+		assertFalse(userExists);
+		verify(accountRepository, times(2)).findMetadataByAccountNumber("1000000000");
+		verify(accountUserRepository, times(2)).existsById(12L);
+	}
+
+	@Test
+	@DisplayName("존재하는 사용자는 한 번만 조회한다")
+	void cachesExistingUser() {
+		// given
+		given(accountUserRepository.existsById(12L)).willReturn(true);
+
+		// when
+		boolean first = accountMetadataCache.userExists(12L);
+		boolean second = accountMetadataCache.userExists(12L);
+
+		// then
+		assertTrue(first && second);
+		verify(accountUserRepository, times(1)).existsById(12L);
+	}
+}
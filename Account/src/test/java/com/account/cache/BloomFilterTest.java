@@ -0,0 +1,32 @@
+package com.account.cache;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 값은 항상 있을 수 있다고 답하고, 오탐률은 목표에 가깝다")
+	void noFalseNegatives() {
+		// given
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (long i = 0; i < 10_000; i++) {
+			filter.put(Long.toString(1000000000L + i));
+		}
+
+		// when
+		int falsePositives = 0;
+		for (long i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain(Long.toString(1000000000L + i)));
+			if (filter.mightContain(Long.toString(2000000000L + i))) {
+				falsePositives++;
+			}
+		}
+
+		// then
+		assertTrue(falsePositives < 300, "falsePositives=" + falsePositives);
+		assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+	}
+}
@@ -0,0 +1,119 @@
+package com.account.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.account.config.BloomFilterProperties;
+import com.account.id.TimeOrderedTransactionIdGenerator;
+import com.account.repository.AccountRepository;
+import com.account.repository.TransactionRepository;
+import com.account.service.AccountNumberBlockService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ExistenceFilterTest {
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private TransactionRepository transactionRepository;
+
+	@Mock
+	private AccountNumberBlockService accountNumberBlockService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final TimeOrderedTransactionIdGenerator generator = new TimeOrderedTransactionIdGenerator(1);
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final BloomFilterProperties properties = new BloomFilterProperties();
+	private ExistenceFilter existenceFilter;
+
+	@BeforeEach
+	void setUp() {
+		properties.setExpectedAccounts(1_000);
+		properties.setExpectedTransactions(1_000);
+		properties.setSafetyMargin(0);
+	}
+
+	@Test
+	@DisplayName("재생성 전에 만들어진 거래 ID 중 필터에 없는 것만 거절한다")
+	void rejectsOnlyCoveredTransactionIds() throws InterruptedException {
+		// given
+		String stored = generator.nextId();
+		String missing = generator.nextId();
+		Thread.sleep(2);
+		given(accountNumberBlockService.reservedBelow()).willReturn(1000000100L);
+		build(1L, Stream.of(), Stream.of(stored));
+		String createdAfterBuild = generator.nextId();
+
+		// when
+		// then
+		assertFalse(existenceFilter.isAbsentTransaction(stored));
+		assertTrue(existenceFilter.isAbsentTransaction(missing));
+		assertFalse(existenceFilter.isAbsentTransaction(createdAfterBuild));
+		assertTrue(existenceFilter.isAbsentTransaction("ffffffffffffffffffffffffffffffff"));
+		assertEquals(2.0, meterRegistry.get("account.bloom_filter.rejected").tag("filter", "transaction")
+				.counter().count());
+	}
+
+	@Test
+	@DisplayName("블록 최대 사용 시간 전에 읽은 예약 상한보다 작은 계좌번호만 거절한다")
+	void rejectsOnlyCoveredAccountNumbers() throws InterruptedException {
+		// given
+		given(accountNumberBlockService.reservedBelow()).willReturn(1000000100L, 1000000200L);
+		build(1L, Stream.of("1000000000"), Stream.of());
+		boolean absentBeforeCoverage = existenceFilter.isAbsentAccount("1000000050");
+		Thread.sleep(5);
+		given(accountRepository.streamAccountNumbers()).willReturn(Stream.of("1000000000"));
+		given(transactionRepository.streamTransactionIds()).willReturn(Stream.of());
+
+		// when
+		existenceFilter.rebuild();
+
+		// then
+		assertFalse(absentBeforeCoverage);
+		assertFalse(existenceFilter.isAbsentAccount("1000000000"));
+		assertTrue(existenceFilter.isAbsentAccount("1000000050"));
+		// 마지막 재생성 직전에 예약된 범위는 아직 다른 노드에서 계좌가 생길 수 있음
+		assertFalse(existenceFilter.isAbsentAccount("1000000150"));
+	}
+
+	@Test
+	@DisplayName("필터를 만들기 전에는 아무것도 거절하지 않는다")
+	void passesThroughBeforeBuild() {
+		// given
+		existenceFilter = existenceFilter(1L);
+
+		// when
+		// then
+		assertFalse(existenceFilter.isAbsentAccount("1000000000"));
+		assertFalse(existenceFilter.isAbsentTransaction(generator.nextId()));
+	}
+
+	private void build(long blockMaxAge, Stream<String> accountNumbers, Stream<String> transactionIds) {
+		existenceFilter = existenceFilter(blockMaxAge);
+		given(accountRepository.streamAccountNumbers()).willReturn(accountNumbers);
+		given(transactionRepository.streamTransactionIds()).willReturn(transactionIds);
+		existenceFilter.rebuild();
+	}
+
+	private ExistenceFilter existenceFilter(long blockMaxAge) {
+		return new ExistenceFilter(properties, accountRepository, transactionRepository, accountNumberBlockService,
+				generator, transactionManager, blockMaxAge, meterRegistry);
+	}
+}
@@ -0,0 +1,143 @@
+package com.account.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.account.archive.TransactionArchive;
+import com.account.config.NearCacheProperties;
+import com.account.dto.TransactionDto;
+import com.account.repository.TransactionRepository;
+import com.account.type.TransactionResultType;
+import com.account.type.TransactionType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionCacheTest {
+	private static final String TRANSACTION_ID = "0123456789abcdef0123456789abcdef";
+
+	@Mock
+	private TransactionRepository transactionRepository;
+
+	@Mock
+	private TransactionArchive transactionArchive;
+
+	@Mock
+	private ExistenceFilter existenceFilter;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private TransactionCache transactionCache;
+
+	@BeforeEach
+	void setUp() {
+		transactionCache = new TransactionCache(new NearCacheProperties(), transactionRepository, transactionArchive,
+				existenceFilter, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("저장할 때 캐시한 거래는 DB를 조회하지 않고 돌려준다")
+	void findWrittenTransaction() {
+		// given
+		transactionCache.putAfterCommit(transaction());
+
+		// when
+		TransactionDto found = transactionCache.find(TRANSACTION_ID).orElseThrow();
+
+		// then
+		assertEquals(1000L, found.getAmount());
+		verify(transactionRepository, never()).findDtoByTransactionId(anyString());
+		assertEquals(1.0, meterRegistry.get("account.transaction.cache.hit.ratio").gauge().value());
+		assertTrue(meterRegistry.get("account.transaction.cache.weight").gauge().value() > 0);
+	}
+
+	@Test
+	@DisplayName("조회 미적중 시 DB에서 읽은 거래를 캐시한다")
+	void cacheOnReadMiss() {
+		// given
+		given(transactionRepository.findDtoByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(transaction()));
+
+		// when
+		transactionCache.find(TRANSACTION_ID);
+		transactionCache.find(TRANSACTION_ID);
+
+		// then
+		verify(transactionRepository, times(1)).findDtoByTransactionId(TRANSACTION_ID);
+	}
+
+	@Test
+	@DisplayName("없는 거래 ID는 기억해 두었다가 저장되면 잊는다")
+	void negativeCacheUntilWritten() {
+		// given
+		given(transactionRepository.findDtoByTransactionId(TRANSACTION_ID)).willReturn(Optional.empty());
+		given(transactionArchive.find(TRANSACTION_ID)).willReturn(Optional.empty());
+
+		// when
+		boolean foundBeforeWrite = transactionCache.find(TRANSACTION_ID).isPresent()
+				|| transactionCache.find(TRANSACTION_ID).isPresent();
+		boolean knownMissingBeforeWrite = transactionCache.isKnownMissing(TRANSACTION_ID);
+		transactionCache.putAfterCommit(transaction());
+
+		// then
+		assertFalse(foundBeforeWrite);
+		assertTrue(knownMissingBeforeWrite);
+		assertFalse(transactionCache.isKnownMissing(TRANSACTION_ID));
+		assertTrue(transactionCache.find(TRANSACTION_ID).isPresent());
+		verify(transactionRepository, times(1)).findDtoByTransactionId(TRANSACTION_ID);
+	}
+
+	@Test
+	@DisplayName("블룸 필터에서 확실히 없는 거래 ID는 DB 대신 보관 세그먼트만 확인한다")
+	void absentTransactionSkipsDatabase() {
+		// given
+		given(existenceFilter.isAbsentTransaction(TRANSACTION_ID)).willReturn(true);
+		given(transactionArchive.find(TRANSACTION_ID)).willReturn(Optional.empty());
+
+		// when
+		boolean found = transactionCache.find(TRANSACTION_ID).isPresent();
+
+		// then
+		assertFalse(found);
+		verify(transactionRepository, never()).findDtoByTransactionId(anyString());
+		verify(transactionArchive, times(1)).find(TRANSACTION_ID);
+	}
+
+	@Test
+	@DisplayName("형식이 맞지 않는 거래 ID는 조회하지도 캐시하지도 않는다")
+	void malformedTransactionId() {
+		// given
+		// when
+		// then
+		assertTrue(transactionCache.find("not-a-transaction-id").isEmpty());
+		assertFalse(transactionCache.isKnownMissing("not-a-transaction-id"));
+		verify(transactionRepository, never()).findDtoByTransactionId(anyString());
+	}
+
+	private static TransactionDto transaction() {
+		return TransactionDto.builder()
+				.accountNumber("1000000000")
+				.transactionType(TransactionType.USE)
+				.transactionResultType(TransactionResultType.S)
+				.amount(1000L)
+				.balanceSnapshot(9000L)
+				.transactionId(TRANSACTION_ID)
+				.transactedAt(LocalDateTime.now())
+				.build();
+	}
+}
@@ -0,0 +1,196 @@
+package com.account.coalesce;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.account.config.ConcurrencyProperties;
+import com.account.dto.BatchUseResult;
+import com.account.dto.TransactionDto;
+import com.account.dto.UseBalance;
+import com.account.exception.AccountException;
+import com.account.recorder.FailedTransactionRecorder;
+import com.account.service.LockService;
+import com.account.service.TransactionService;
+import com.account.type.ErrorCode;
+import com.account.type.TransactionType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DebitCoalescerTest {
+	private static final String ACCOUNT_NUMBER = "1000000000";
+
+	private final LockService lockService = mock(LockService.class);
+	private final TransactionService transactionService = mock(TransactionService.class);
+	private final FailedTransactionRecorder failedTransactionRecorder = mock(FailedTransactionRecorder.class);
+	private final ConcurrencyProperties concurrencyProperties = new ConcurrencyProperties();
+	private final ExecutorService callers = Executors.newFixedThreadPool(8);
+	private DebitCoalescer debitCoalescer;
+
+	@BeforeEach
+	void setUp() {
+		debitCoalescer = new DebitCoalescer(concurrencyProperties, lockService, transactionService,
+				failedTransactionRecorder, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		callers.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 계좌의 동시 잔액 사용은 락 한 번, 배치 한 번으로 처리되고 각자 자신의 결과를 받는다")
+	void concurrentDebitsShareOneBatch() throws Exception {
+		// given
+		concurrencyProperties.getCoalesce().setWindow(500L);
+		concurrencyProperties.getCoalesce().setMaxBatchSize(8);
+		given(lockService.lockAll(any(), anyLong(), anyLong())).willReturn(Map.of(ACCOUNT_NUMBER, 1L));
+		given(transactionService.useBalances(any())).willAnswer(invocation -> successes(invocation.getArgument(0)));
+
+		// when
+		List<Future<TransactionDto>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			long amount = 100L + i;
+			results.add(callers.submit(() -> debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, amount))));
+		}
+
+		// then
+		for (int i = 0; i < 8; i++) {
+			assertEquals(100L + i, results.get(i).get().getAmount());
+		}
+		verify(lockService, times(1)).lockAll(any(), anyLong(), anyLong());
+		verify(transactionService, times(1)).useBalances(any());
+	}
+
+	@Test
+	@DisplayName("배치 안에서 실패한 요청은 자신의 에러 코드를 받고 실패 거래를 다시 기록하지 않는다")
+	void failedItemThrowsItsErrorCode() {
+		// given
+		given(lockService.lockAll(any(), anyLong(), anyLong())).willReturn(Map.of(ACCOUNT_NUMBER, 1L));
+		given(transactionService.useBalances(any())).willReturn(List.of(
+				BatchUseResult.failure(TransactionDto.builder().build(), ErrorCode.AMOUNT_EXCEED_BALANCE)));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, 1000L)));
+
+		// then
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+		verify(failedTransactionRecorder, never()).record(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("리더가 락을 얻지 못하면 배치의 모든 요청이 실패하고 실패 거래를 기록한다")
+	void lockFailureFailsWholeBatch() {
+		// given
+		given(lockService.lockAll(any(), anyLong(), anyLong()))
+				.willThrow(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, 1000L)));
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+		verify(transactionService, never()).useBalances(any());
+		verify(failedTransactionRecorder, times(1)).record(TransactionType.USE, ACCOUNT_NUMBER, 1000L);
+	}
+
+	@Test
+	@DisplayName("리더의 배치가 대기 시간 안에 끝나지 않으면 기다리던 요청은 대기열에서 빠져 락 획득 실패로 응답한다")
+	void waiterTimesOutWhileLeaderIsBusy() throws Exception {
+		// given
+		concurrencyProperties.getCoalesce().setMaxBatchSize(1);
+		concurrencyProperties.getCoalesce().setWaitTimeout(100L);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(lockService.lockAll(any(), anyLong(), anyLong())).willReturn(Map.of());
+		given(transactionService.useBalances(any())).willAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return successes(invocation.getArgument(0));
+		});
+		Future<TransactionDto> leader = callers.submit(
+				() -> debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, 100L)));
+		started.await(5, TimeUnit.SECONDS);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, 200L)));
+		release.countDown();
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+		assertEquals(100L, leader.get(5, TimeUnit.SECONDS).getAmount());
+		verify(failedTransactionRecorder, times(1)).record(TransactionType.USE, ACCOUNT_NUMBER, 200L);
+		verify(transactionService, times(1)).useBalances(any());
+	}
+
+	@Test
+	@DisplayName("리더가 예기치 못한 오류로 끝나면 기다리던 요청은 락 획득 실패로 끝나고 이후 요청은 새 리더가 처리한다")
+	void leaderErrorFailsWaitersAndReleasesQueue() throws Exception {
+		// given
+		concurrencyProperties.getCoalesce().setMaxBatchSize(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(lockService.lockAll(any(), anyLong(), anyLong())).willReturn(Map.of());
+		given(transactionService.useBalances(any()))
+				.willAnswer(invocation -> {
+					started.countDown();
+					release.await(5, TimeUnit.SECONDS);
+					throw new StackOverflowError();
+				})
+				.willAnswer(invocation -> successes(invocation.getArgument(0)));
+		Future<TransactionDto> leader = callers.submit(
+				() -> debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, 100L)));
+		started.await(5, TimeUnit.SECONDS);
+		Future<TransactionDto> waiter = callers.submit(
+				() -> debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, 200L)));
+		Thread.sleep(100);
+
+		// when
+		release.countDown();
+		ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+				() -> leader.get(5, TimeUnit.SECONDS));
+		ExecutionException waiterFailure = assertThrows(ExecutionException.class,
+				() -> waiter.get(5, TimeUnit.SECONDS));
+		TransactionDto next = debitCoalescer.use(new UseBalance.Request(1L, ACCOUNT_NUMBER, 300L));
+
+		// then
+		assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK,
+				((AccountException) waiterFailure.getCause()).getErrorCode());
+		assertEquals(300L, next.getAmount());
+	}
+
+	private static List<BatchUseResult> successes(List<UseBalance.Request> requests) {
+		return requests.stream()
+				.map(request -> BatchUseResult.success(TransactionDto.builder()
+						.accountNumber(request.getAccountNumber())
+						.amount(request.getAmount())
+						.build()))
+				.toList();
+	}
+}
@@ -0,0 +1,210 @@
+package com.account.commit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+
+import com.account.config.GroupCommitProperties;
+import com.account.exception.AccountException;
+import com.account.lock.FencingTokenContext;
+import com.account.type.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GroupCommitExecutorTest {
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ExecutorService callers = Executors.newFixedThreadPool(8);
+	private GroupCommitExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		callers.shutdownNow();
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("비활성화 상태에서는 요청 스레드에서 바로 실행한다")
+	void disabledRunsInline() {
+		// given
+		executor = executor(false, 10, 8);
+		Thread caller = Thread.currentThread();
+
+		// when
+		Thread runner = executor.execute(Thread::currentThread);
+
+		// then
+		assertEquals(caller, runner);
+		verify(transactionManager, never()).getTransaction(any());
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 쓰기는 하나의 트랜잭션으로 커밋된다")
+	void concurrentWritesShareOneCommit() throws Exception {
+		// given
+		givenTransaction();
+		executor = executor(true, 500, 8);
+
+		// when
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			int value = i;
+			results.add(callers.submit(() -> executor.execute(() -> value)));
+		}
+
+		// then
+		for (int i = 0; i < 8; i++) {
+			assertEquals(i, results.get(i).get());
+		}
+		verify(transactionManager, times(1)).commit(any());
+	}
+
+	@Test
+	@DisplayName("검증 실패한 쓰기는 해당 요청에만 예외를 전달하고 나머지는 함께 커밋된다")
+	void accountExceptionIsIsolated() throws Exception {
+		// given
+		givenTransaction();
+		executor = executor(true, 500, 2);
+
+		// when
+		Future<String> success = callers.submit(() -> executor.execute(() -> "ok"));
+		Future<String> failure = callers.submit(() -> executor.execute(() -> {
+			throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+		}));
+
+		// then
+		assertEquals("ok", success.get());
+		Exception exception = assertThrows(Exception.class, failure::get);
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, ((AccountException) exception.getCause()).getErrorCode());
+		verify(transactionManager, times(1)).commit(any());
+		verify(transactionManager, never()).rollback(any());
+	}
+
+	@Test
+	@DisplayName("공동 커밋이 실패하면 각 쓰기를 단독으로 다시 실행한다")
+	void commitFailureFallsBackToSingleWrites() throws Exception {
+		// given
+		givenTransaction();
+		doThrow(new TransactionSystemException("commit failed")).when(transactionManager).commit(any());
+		executor = executor(true, 500, 2);
+
+		// when
+		Future<String> first = callers.submit(() -> executor.execute(() -> "first"));
+		Future<String> second = callers.submit(() -> executor.execute(() -> "second"));
+
+		// then
+		assertEquals("first", first.get());
+		assertEquals("second", second.get());
+	}
+
+	@Test
+	@DisplayName("요청 스레드의 펜싱 토큰이 커밋 스레드로 전달된다")
+	void fencingTokensArePropagated() throws Exception {
+		// given
+		givenTransaction();
+		executor = executor(true, 1, 8);
+
+		// when
+		Future<Long> token = callers.submit(() -> {
+			FencingTokenContext.set("1000000000", 42L);
+			try {
+				return executor.execute(() -> FencingTokenContext.get("1000000000"));
+			} finally {
+				FencingTokenContext.remove("1000000000");
+			}
+		});
+
+		// then
+		assertEquals(42L, token.get());
+	}
+
+	@Test
+	@DisplayName("공동 커밋에서는 참여용 쓰기를, 비활성화 상태에서는 단독 쓰기를 실행한다")
+	void joinedAndAloneWrites() throws Exception {
+		// given
+		givenTransaction();
+		GroupCommitExecutor disabled = executor(false, 10, 8);
+		executor = executor(true, 1, 8);
+
+		// when
+		String inline = disabled.execute(() -> "joined", () -> "alone");
+		Future<String> grouped = callers.submit(() -> executor.execute(() -> "joined", () -> "alone"));
+
+		// then
+		assertEquals("alone", inline);
+		assertEquals("joined", grouped.get());
+	}
+
+	@Test
+	@DisplayName("종료 시 커밋 중인 쓰기를 중단하지 않고 대기열에 남은 쓰기까지 커밋한 뒤 멈춘다")
+	void shutdownDrainsWithoutInterrupting() throws Exception {
+		// given
+		givenTransaction();
+		executor = executor(true, 1, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<Boolean> inCommit = callers.submit(() -> executor.execute(() -> {
+			started.countDown();
+			try {
+				release.await();
+				return !Thread.currentThread().isInterrupted();
+			} catch (InterruptedException e) {
+				return false;
+			}
+		}));
+		started.await(5, TimeUnit.SECONDS);
+		Future<String> queued = callers.submit(() -> executor.execute(() -> "queued"));
+		Thread.sleep(50);
+
+		// when
+		Future<?> shutdown = callers.submit(executor::shutdown);
+		Thread.sleep(50);
+		release.countDown();
+		shutdown.get(5, TimeUnit.SECONDS);
+
+		// then
+		assertTrue(inCommit.get(5, TimeUnit.SECONDS));
+		assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+		verify(transactionManager, times(2)).commit(any());
+	}
+
+	private void givenTransaction() {
+		given(transactionManager.getTransaction(any())).willReturn(mock(TransactionStatus.class));
+		doNothing().when(transactionManager).commit(any());
+	}
+
+	private GroupCommitExecutor executor(boolean enabled, long window, int maxBatchSize) {
+		GroupCommitProperties properties = new GroupCommitProperties();
+		properties.setEnabled(enabled);
+		properties.setWindow(window);
+		properties.setMaxBatchSize(maxBatchSize);
+		GroupCommitExecutor groupCommitExecutor =
+				new GroupCommitExecutor(properties, transactionManager, new SimpleMeterRegistry());
+		groupCommitExecutor.start();
+		return groupCommitExecutor;
+	}
+}
@@ -22,7 +22,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-import com.account.domain.Account;
 import com.account.dto.AccountDto;
 import com.account.dto.CreateAccount;
 import com.account.dto.DeleteAccount;
@@ -64,12 +63,13 @@ class AccountControllerTest {
 	void successGetAccount() throws Exception {
 		// given
 		given(accountService.getAccount(anyLong()))
-				.willReturn(Account.builder().accountNumber("3456").accountStatus(AccountStatus.IN_USE).build());
+				.willReturn(AccountDto.builder().accountNumber("3456").accountStatus(AccountStatus.IN_USE).build());
 
 		// when
 		// then
 		mockMvc.perform(get("/account/876")).andDo(print()).andExpect(jsonPath("$.accountNumber").value("3456"))
-				.andExpect(jsonPath("$.accountStatus").value("IN_USE")).andExpect(status().isOk());
+				.andExpect(jsonPath("$.accountStatus").value("IN_USE")).andExpect(jsonPath("$.version").doesNotExist())
+				.andExpect(jsonPath("$.fencingToken").doesNotExist()).andExpect(status().isOk());
 	}
 
 	@Test
@@ -0,0 +1,250 @@
+package com.account.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.account.domain.Account;
+import com.account.dto.CancelBalance;
+import com.account.dto.CreateAccount;
+import com.account.dto.Transfer;
+import com.account.dto.UseBalance;
+import com.account.dto.UseBalanceBatch;
+import com.account.id.TimeOrderedTransactionIdGenerator;
+import com.account.idempotency.IdempotencyAspect;
+import com.account.repository.AccountRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * API별로 실행되는 SQL 문 수를 고정하여 N+1 조회나 불필요한 엔티티 조회가 다시 생기면 실패하도록 합니다.
+ * <p>
+ * 시퀀스 조회가 섞이지 않도록 준비 단계에서 거래를 한 번 만들어 ID 블록을 미리 할당받습니다.
+ * 사용자별 최대 계좌 수에 걸리지 않도록 계좌는 클래스 전체에서 한 번만 만듭니다.
+ */
+@SpringBootTest(properties = {
+		"account.lock.mode=local",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryCountTest {
+	private static final long USER_ID = 1L;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private String accountNumber;
+
+	@BeforeAll
+	void setUp() throws Exception {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		accountNumber = perform(post("/account")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new CreateAccount.Request(USER_ID, 100_000L))))
+				.get("accountNumber").asText();
+		use(accountNumber, 1000L);
+	}
+
+	@Test
+	@DisplayName("계좌 목록 조회는 사용자 확인을 포함해 1번 조회한다")
+	void getAccountByUserId() throws Exception {
+		// given
+		// when
+		long statements = countStatements(get("/account").param("user_id", String.valueOf(USER_ID)));
+
+		// then
+		assertEquals(1, statements);
+	}
+
+	@Test
+	@DisplayName("계좌 상세 조회는 엔티티 없이 필요한 컬럼만 1번 조회한다")
+	void getAccount() throws Exception {
+		// given
+		Account account = accountRepository.findByAccountNumber(accountNumber).orElseThrow();
+
+		// when
+		long statements = countStatements(get("/account/{id}", account.getId()));
+
+		// then
+		assertEquals(1, statements);
+	}
+
+	@Test
+	@DisplayName("방금 저장된 거래 조회는 거래 캐시에서 응답하여 DB를 조회하지 않는다")
+	void queryTransaction() throws Exception {
+		// given
+		String transactionId = use(accountNumber, 1000L).get("transactionId").asText();
+
+		// when
+		long statements = countStatements(get("/transaction/{transactionId}", transactionId));
+
+		// then
+		assertEquals(0, statements);
+	}
+
+	@Test
+	@DisplayName("블룸 필터 생성 이후의 없는 거래 조회는 1번 조회한 뒤 잠시 동안 DB를 조회하지 않는다")
+	void queryMissingTransaction() throws Exception {
+		// given
+		String missingId = new TimeOrderedTransactionIdGenerator(0xFFFF).nextId();
+
+		// when
+		long first = countStatements(get("/transaction/{transactionId}", missingId));
+		long second = countStatements(get("/transaction/{transactionId}", missingId));
+
+		// then
+		assertEquals(1, first);
+		assertEquals(0, second);
+	}
+
+	@Test
+	@DisplayName("잔액 사용: 소유 계좌 조회 + 거래 INSERT + 잔액 UPDATE (lease 갱신 모드가 아니면 펜싱 토큰 UPDATE 없음)")
+	void useBalance() throws Exception {
+		// given
+		// when
+		long statements = countStatements(post("/transaction/use")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new UseBalance.Request(USER_ID, accountNumber, 1000L))));
+
+		// then
+		assertEquals(3, statements);
+	}
+
+	@Test
+	@DisplayName("같은 Idempotency-Key로 재시도하면 DB를 거치지 않고 첫 응답을 그대로 돌려준다")
+	void useBalanceRetryWithIdempotencyKey() throws Exception {
+		// given
+		String content = objectMapper.writeValueAsString(new UseBalance.Request(USER_ID, accountNumber, 1000L));
+		String first = perform(post("/transaction/use")
+				.header(IdempotencyAspect.HEADER, "retry-" + accountNumber)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(content))
+				.get("transactionId").asText();
+
+		// when
+		statistics.clear();
+		String retried = perform(post("/transaction/use")
+				.header(IdempotencyAspect.HEADER, "retry-" + accountNumber)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(content))
+				.get("transactionId").asText();
+
+		// then
+		assertEquals(0, statistics.getPrepareStatementCount());
+		assertEquals(first, retried);
+	}
+
+	@Test
+	@DisplayName("잔액 일괄 사용: 건수와 관계없이 계좌 조회 + 거래 INSERT 배치 + 잔액 UPDATE")
+	void useBalances() throws Exception {
+		// given
+		UseBalanceBatch.Request request = new UseBalanceBatch.Request(List.of(
+				new UseBalance.Request(USER_ID, accountNumber, 1000L),
+				new UseBalance.Request(USER_ID, accountNumber, 200_000L),
+				new UseBalance.Request(USER_ID, accountNumber, 2000L)));
+
+		// when
+		long statements = countStatements(post("/transaction/use/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)));
+
+		// then
+		assertEquals(3, statements);
+	}
+
+	@Test
+	@DisplayName("잔액 사용 취소: 원거래와 계좌 조회 + 취소 여부 확인 + 거래 INSERT + 잔액 UPDATE")
+	void cancelBalance() throws Exception {
+		// given
+		String transactionId = use(accountNumber, 1000L).get("transactionId").asText();
+
+		// when
+		long statements = countStatements(post("/transaction/cancel")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(
+						new CancelBalance.Request(transactionId, accountNumber, 1000L))));
+
+		// then
+		assertEquals(4, statements);
+	}
+
+	@Test
+	@DisplayName("이체: 계좌 조회 2번 + 거래 INSERT 배치 + 잔액 UPDATE 배치")
+	void transferBalance() throws Exception {
+		// given
+		String toAccountNumber = perform(post("/account")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new CreateAccount.Request(2L, 0L))))
+				.get("accountNumber").asText();
+
+		// when
+		long statements = countStatements(post("/transaction/transfer")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(
+						new Transfer.Request(USER_ID, accountNumber, toAccountNumber, 1000L))));
+
+		// then
+		assertEquals(4, statements);
+	}
+
+	@Test
+	@DisplayName("블룸 필터 생성 이전 시각의 없는 거래 조회는 DB를 조회하지 않는다")
+	void queryTransactionRejectedByBloomFilter() throws Exception {
+		// given
+		String missingId = "00000000000100000000000000000001";
+
+		// when
+		long statements = countStatements(get("/transaction/{transactionId}", missingId));
+
+		// then
+		assertEquals(0, statements);
+	}
+
+	private long countStatements(RequestBuilder request) throws Exception {
+		statistics.clear();
+		mockMvc.perform(request).andExpect(status().isOk());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private JsonNode use(String accountNumber, long amount) throws Exception {
+		return perform(post("/transaction/use")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new UseBalance.Request(USER_ID, accountNumber, amount))));
+	}
+
+	private JsonNode perform(RequestBuilder request) throws Exception {
+		return objectMapper.readTree(mockMvc.perform(request)
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString());
+	}
+}
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,8 +19,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.account.coalesce.DebitCoalescer;
+import com.account.commit.GroupCommitExecutor;
 import com.account.dto.TransactionDto;
 import com.account.dto.UseBalance;
+import com.account.recorder.FailedTransactionRecorder;
 import com.account.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -28,6 +32,15 @@ class TransactionControllerTest {
 	@MockBean
 	private TransactionService transactionService;
 
+	@MockBean
+	private FailedTransactionRecorder failedTransactionRecorder;
+
+	@MockBean
+	private GroupCommitExecutor groupCommitExecutor;
+
+	@MockBean
+	private DebitCoalescer debitCoalescer;
+
 	@Autowired
 	private MockMvc mockMvc;
 
@@ -37,6 +50,8 @@ class TransactionControllerTest {
 	@Test
 	void SuccessfulBalance() throws Exception {
 		// given
+		given(groupCommitExecutor.execute(any(), any()))
+				.willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
 		given(transactionService.useBalance(anyLong(), any(), anyLong())).willReturn(TransactionDto.builder()
 				.accountNumber("1000000000")
 				.transactedAt(LocalDateTime.now())
@@ -0,0 +1,134 @@
+package com.account.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.account.config.DataSourceRoutingProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 주 DB와 복제 DB 대신 서로 다른 H2 인메모리 DB 두 개를 사용합니다.
+ */
+class ReadWriteRoutingDataSourceTest {
+	private final DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private DriverManagerDataSource replica;
+	private ReplicaLagMonitor replicaLagMonitor;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		DriverManagerDataSource primary = database("primary");
+		replica = database("replica");
+		replicaLagMonitor = new ReplicaLagMonitor(properties, replica, meterRegistry);
+		jdbcTemplate = new JdbcTemplate(
+				new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor, meterRegistry).lazyProxy());
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 복제 DB, 그 외에는 주 DB를 사용한다")
+	void routeByReadOnly() {
+		// given
+		// when
+		String write = whoami();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		String readOnly = whoami();
+
+		// then
+		assertEquals("primary", write);
+		assertEquals("replica", readOnly);
+		assertEquals(1.0, routeCount("primary", "write"));
+		assertEquals(1.0, routeCount("replica", "read_only"));
+	}
+
+	@Test
+	@DisplayName("복제 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 주 DB를 사용한다")
+	void staleReplicaFallsBackToPrimary() {
+		// given
+		properties.getStaleness().setMaxLag(1000L);
+		properties.getStaleness().setLagQuery("SELECT 5000");
+		replicaLagMonitor.probe();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// when
+		String readOnly = whoami();
+
+		// then
+		assertFalse(replicaLagMonitor.isAcceptable());
+		assertEquals("primary", readOnly);
+		assertEquals(1.0, routeCount("primary", "replica_stale"));
+	}
+
+	@Test
+	@DisplayName("복제 지연 측정에 실패하면 복제 DB를 사용하지 않고, 다시 성공하면 복구된다")
+	void probeFailureMarksReplicaUnavailable() {
+		// given
+		properties.getStaleness().setLagQuery("SELECT lag FROM missing_table");
+
+		// when
+		replicaLagMonitor.probe();
+		boolean acceptableAfterFailure = replicaLagMonitor.isAcceptable();
+		properties.getStaleness().setLagQuery("SELECT 10");
+		replicaLagMonitor.probe();
+
+		// then
+		assertFalse(acceptableAfterFailure);
+		assertTrue(replicaLagMonitor.isAcceptable());
+		assertEquals(10L, replicaLagMonitor.getLag());
+	}
+
+	@Test
+	@DisplayName("복제 지연을 아직 측정하지 않았거나 측정 결과가 없으면 주 DB를 사용한다")
+	void missingLagMarksReplicaUnavailable() {
+		// given
+		properties.getStaleness().setLagQuery("SELECT CAST(NULL AS BIGINT)");
+
+		// when
+		boolean acceptableBeforeProbe = replicaLagMonitor.isAcceptable();
+		replicaLagMonitor.probe();
+		boolean acceptableAfterNull = replicaLagMonitor.isAcceptable();
+		properties.getStaleness().setLagQuery("SELECT name FROM whoami WHERE name = 'primary'");
+		replicaLagMonitor.probe();
+
+		// then
+		assertFalse(acceptableBeforeProbe);
+		assertFalse(acceptableAfterNull);
+		assertFalse(replicaLagMonitor.isAcceptable());
+		assertEquals(ReplicaLagMonitor.UNAVAILABLE, replicaLagMonitor.getLag());
+	}
+
+	private String whoami() {
+		return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+	}
+
+	private double routeCount(String route, String reason) {
+		return meterRegistry.get("account.datasource.route").tag("route", route).tag("reason", reason).counter().count();
+	}
+
+	private static DriverManagerDataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE whoami (name VARCHAR(20))");
+		jdbcTemplate.update("INSERT INTO whoami VALUES (?)", name);
+		return dataSource;
+	}
+}
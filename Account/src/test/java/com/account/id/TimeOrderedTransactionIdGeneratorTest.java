@@ -0,0 +1,45 @@
+package com.account.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedTransactionIdGeneratorTest {
+	private final TimeOrderedTransactionIdGenerator generator = new TimeOrderedTransactionIdGenerator(7);
+
+	@Test
+	@DisplayName("거래 ID는 32자리 소문자 16진수이고 중복되지 않는다")
+	void idsAreFixedLengthHexAndUnique() {
+		// given
+		Set<String> ids = new HashSet<>();
+
+		// when
+		for (int i = 0; i < 100_000; i++) {
+			ids.add(generator.nextId());
+		}
+
+		// then
+		assertEquals(100_000, ids.size());
+		ids.forEach(id -> assertTrue(id.matches("[0-9a-f]{32}")));
+	}
+
+	@Test
+	@DisplayName("같은 스레드에서 생성한 ID는 생성 순서대로 정렬된다")
+	void idsAreTimeOrdered() {
+		// given
+		long before = System.currentTimeMillis();
+
+		// when
+		String first = generator.nextId();
+		String second = generator.nextId();
+
+		// then
+		assertTrue(first.compareTo(second) < 0);
+		assertTrue(TimeOrderedTransactionIdGenerator.extractEpochMillis(first) >= before);
+	}
+}
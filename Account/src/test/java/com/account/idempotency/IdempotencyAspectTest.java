@@ -0,0 +1,289 @@
+package com.account.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.account.aop.Idempotent;
+import com.account.config.IdempotencyProperties;
+import com.account.domain.IdempotencyRecord;
+import com.account.dto.UseBalance;
+import com.account.exception.AccountException;
+import com.account.repository.IdempotencyRecordRepository;
+import com.account.type.ErrorCode;
+import com.account.type.IdempotencyStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyAspectTest {
+	private static final String KEY = "3f1c2a";
+
+	private final IdempotencyProperties properties = new IdempotencyProperties();
+	private final IdempotencyRecordRepository idempotencyRecordRepository = mock(IdempotencyRecordRepository.class);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private IdempotencyAspect idempotencyAspect;
+	private Idempotent idempotent;
+
+	@BeforeEach
+	void setUp() throws NoSuchMethodException {
+		properties.setPersistent(false);
+		IdempotencyStore idempotencyStore = new IdempotencyStore(properties, idempotencyRecordRepository,
+				mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+		idempotencyAspect = new IdempotencyAspect(properties, idempotencyStore, objectMapper,
+				new SimpleMeterRegistry());
+		idempotent = IdempotencyAspectTest.class.getDeclaredMethod("use").getAnnotation(Idempotent.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("검증 실패로 끝난 첫 요청의 에러 코드를 재시도에 그대로 돌려준다")
+	void replayStoredFailure() throws Throwable {
+		// given
+		ProceedingJoinPoint pjp = joinPoint(request(1L, 1000L));
+		given(pjp.proceed()).willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+		// when
+		AccountException first = assertThrows(AccountException.class, () -> call(pjp));
+		AccountException retry = assertThrows(AccountException.class, () -> call(pjp));
+
+		// then
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, first.getErrorCode());
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, retry.getErrorCode());
+		verify(pjp, times(1)).proceed();
+	}
+
+	@Test
+	@DisplayName("락 획득 실패는 저장하지 않아 재시도가 다시 처리된다")
+	void lockFailureIsNotStored() throws Throwable {
+		// given
+		ProceedingJoinPoint pjp = joinPoint(request(1L, 1000L));
+		given(pjp.proceed())
+				.willThrow(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK))
+				.willReturn(response("t1"));
+
+		// when
+		AccountException first = assertThrows(AccountException.class, () -> call(pjp));
+		UseBalance.Response retry = (UseBalance.Response) call(pjp);
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, first.getErrorCode());
+		assertEquals("t1", retry.getTransactionId());
+		verify(pjp, times(2)).proceed();
+	}
+
+	@Test
+	@DisplayName("같은 키의 첫 요청이 처리 중이면 재시도는 그 응답을 기다려 돌려받는다")
+	void inFlightRetryWaitsForFirstResponse() throws Throwable {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		ProceedingJoinPoint first = blockingJoinPoint(started);
+		ProceedingJoinPoint retry = joinPoint(request(1L, 1000L));
+		CompletableFuture<Object> firstCall = CompletableFuture.supplyAsync(() -> callUnchecked(first));
+		started.await(5, TimeUnit.SECONDS);
+
+		// when
+		CompletableFuture<Object> retryCall = CompletableFuture.supplyAsync(() -> callUnchecked(retry));
+		Thread.sleep(100);
+		boolean waited = !retryCall.isDone();
+		release.countDown();
+
+		// then
+		assertTrue(waited);
+		assertEquals("t1", ((UseBalance.Response) retryCall.get(5, TimeUnit.SECONDS)).getTransactionId());
+		assertEquals("t1", ((UseBalance.Response) firstCall.get(5, TimeUnit.SECONDS)).getTransactionId());
+		verify(retry, never()).proceed();
+	}
+
+	@Test
+	@DisplayName("첫 요청이 대기 시간 안에 끝나지 않으면 재시도는 락 획득 실패로 응답한다")
+	void inFlightRetryTimesOut() throws Throwable {
+		// given
+		properties.setInFlightWait(50L);
+		CountDownLatch started = new CountDownLatch(1);
+		ProceedingJoinPoint first = blockingJoinPoint(started);
+		ProceedingJoinPoint retry = joinPoint(request(1L, 1000L));
+		CompletableFuture.supplyAsync(() -> callUnchecked(first));
+		started.await(5, TimeUnit.SECONDS);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class, () -> call(retry));
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+		verify(retry, never()).proceed();
+	}
+
+	@Test
+	@DisplayName("같은 키로 본문이 다른 요청을 보내면 저장된 응답 대신 거절한다")
+	void rejectsDifferentRequestBody() throws Throwable {
+		// given
+		ProceedingJoinPoint first = joinPoint(request(1L, 1000L));
+		ProceedingJoinPoint changed = joinPoint(request(1L, 2000L));
+		given(first.proceed()).willReturn(response("t1"));
+		call(first);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class, () -> call(changed));
+
+		// then
+		assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+		verify(changed, never()).proceed();
+	}
+
+	@Test
+	@DisplayName("같은 키라도 사용자가 다르면 다른 요청으로 처리한다")
+	void scopesKeyByUser() throws Throwable {
+		// given
+		ProceedingJoinPoint user1 = joinPoint(request(1L, 1000L));
+		ProceedingJoinPoint user2 = joinPoint(request(2L, 1000L));
+		given(user1.proceed()).willReturn(response("t1"));
+		given(user2.proceed()).willReturn(response("t2"));
+
+		// when
+		UseBalance.Response first = (UseBalance.Response) call(user1);
+		UseBalance.Response second = (UseBalance.Response) call(user2);
+
+		// then
+		assertEquals("t1", first.getTransactionId());
+		assertEquals("t2", second.getTransactionId());
+	}
+
+	@Test
+	@DisplayName("다른 노드가 같은 키를 먼저 점유했으면 처리하지 않고 그 노드가 저장한 응답을 돌려준다")
+	void keyClaimedByOtherNodeIsNotProcessed() throws Throwable {
+		// given
+		properties.setPersistent(true);
+		ProceedingJoinPoint pjp = joinPoint(request(1L, 1000L));
+		IdempotencyRecord pending = IdempotencyRecord.builder()
+				.status(IdempotencyStatus.PENDING)
+				.createdAt(LocalDateTime.now())
+				.build();
+		IdempotencyRecord completed = IdempotencyRecord.builder()
+				.status(IdempotencyStatus.COMPLETED)
+				.responseBody(objectMapper.writeValueAsString(response("t1")))
+				.requestHash(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+						.digest(objectMapper.writeValueAsBytes(pjp.getArgs()))))
+				.createdAt(LocalDateTime.now())
+				.build();
+		given(idempotencyRecordRepository.saveAndFlush(any()))
+				.willThrow(new DataIntegrityViolationException("duplicate key"));
+		given(idempotencyRecordRepository.findById(any()))
+				.willReturn(Optional.of(pending), Optional.of(pending), Optional.of(completed));
+
+		// when
+		UseBalance.Response replayed = (UseBalance.Response) call(pjp);
+
+		// then
+		assertEquals("t1", replayed.getTransactionId());
+		verify(pjp, never()).proceed();
+	}
+
+	@Test
+	@DisplayName("다른 노드가 점유한 키의 처리가 대기 시간 안에 끝나지 않으면 처리하지 않고 락 획득 실패로 응답한다")
+	void keyClaimedByOtherNodeTimesOut() throws Throwable {
+		// given
+		properties.setPersistent(true);
+		properties.setInFlightWait(50L);
+		ProceedingJoinPoint pjp = joinPoint(request(1L, 1000L));
+		given(idempotencyRecordRepository.saveAndFlush(any()))
+				.willThrow(new DataIntegrityViolationException("duplicate key"));
+		given(idempotencyRecordRepository.findById(any())).willReturn(Optional.of(IdempotencyRecord.builder()
+				.status(IdempotencyStatus.PENDING)
+				.createdAt(LocalDateTime.now())
+				.build()));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class, () -> call(pjp));
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+		verify(pjp, never()).proceed();
+	}
+
+	@Idempotent("use")
+	private void use() {
+	}
+
+	private Object call(ProceedingJoinPoint pjp) throws Throwable {
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+		servletRequest.addHeader(IdempotencyAspect.HEADER, KEY);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+		try {
+			return idempotencyAspect.aroundIdempotentMethod(pjp, idempotent);
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	private Object callUnchecked(ProceedingJoinPoint pjp) {
+		try {
+			return call(pjp);
+		} catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+	private ProceedingJoinPoint blockingJoinPoint(CountDownLatch started) throws Throwable {
+		ProceedingJoinPoint pjp = joinPoint(request(1L, 1000L));
+		given(pjp.proceed()).willAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return response("t1");
+		});
+		return pjp;
+	}
+
+	private static ProceedingJoinPoint joinPoint(UseBalance.Request request) {
+		ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+		MethodSignature signature = mock(MethodSignature.class);
+		given(pjp.getSignature()).willReturn(signature);
+		given(signature.getReturnType()).willReturn(UseBalance.Response.class);
+		given(pjp.getArgs()).willReturn(new Object[] {request});
+		return pjp;
+	}
+
+	private static UseBalance.Request request(Long userId, Long amount) {
+		return new UseBalance.Request(userId, "1000000000", amount);
+	}
+
+	private static UseBalance.Response response(String transactionId) {
+		return UseBalance.Response.builder()
+				.accountNumber("1000000000")
+				.amount(1000L)
+				.transactionId(transactionId)
+				.build();
+	}
+}
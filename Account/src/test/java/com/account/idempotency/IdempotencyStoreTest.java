@@ -0,0 +1,169 @@
+package com.account.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.account.config.IdempotencyProperties;
+import com.account.domain.IdempotencyRecord;
+import com.account.repository.IdempotencyRecordRepository;
+import com.account.type.ErrorCode;
+import com.account.type.IdempotencyStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyStoreTest {
+	private final IdempotencyRecordRepository idempotencyRecordRepository = mock(IdempotencyRecordRepository.class);
+	private final IdempotencyProperties properties = new IdempotencyProperties();
+	private IdempotencyStore idempotencyStore;
+
+	@BeforeEach
+	void setUp() {
+		properties.setTtl(60_000L);
+		idempotencyStore = new IdempotencyStore(properties, idempotencyRecordRepository,
+				mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("점유한 키의 PENDING 기록을 응답으로 채우고 이후 조회는 메모리에서 응답한다")
+	void completeThenFindFromMemory() {
+		// given
+		assertTrue(idempotencyStore.claim("use:key", "hash"));
+		idempotencyStore.complete("use:key", StoredResponse.success("{\"amount\":1000}", "hash"));
+
+		// when
+		Optional<StoredResponse> found = idempotencyStore.find("use:key");
+
+		// then
+		assertEquals("{\"amount\":1000}", found.orElseThrow().getBody());
+		verify(idempotencyRecordRepository, times(1)).saveAndFlush(any());
+		verify(idempotencyRecordRepository, times(1)).complete(eq("use:key"), eq("{\"amount\":1000}"), any(), any(),
+				eq(IdempotencyStatus.PENDING), eq(IdempotencyStatus.COMPLETED));
+		verify(idempotencyRecordRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("메모리에 없으면 DB에서 읽고, 보관 시간이 지났거나 처리 중인 기록은 무시한다")
+	void findFromPersistentTier() {
+		// given
+		given(idempotencyRecordRepository.findById("use:fresh")).willReturn(Optional.of(record("use:fresh",
+				LocalDateTime.now().minusSeconds(10))));
+		given(idempotencyRecordRepository.findById("use:expired")).willReturn(Optional.of(record("use:expired",
+				LocalDateTime.now().minusMinutes(2))));
+		given(idempotencyRecordRepository.findById("use:pending")).willReturn(Optional.of(pending("use:pending")));
+
+		// when
+		Optional<StoredResponse> fresh = idempotencyStore.find("use:fresh");
+		Optional<StoredResponse> expired = idempotencyStore.find("use:expired");
+		Optional<StoredResponse> pending = idempotencyStore.find("use:pending");
+		idempotencyStore.find("use:fresh");
+
+		// then
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, fresh.orElseThrow().getErrorCode());
+		assertTrue(expired.isEmpty());
+		assertTrue(pending.isEmpty());
+		verify(idempotencyRecordRepository, times(1)).findById("use:fresh");
+	}
+
+	@Test
+	@DisplayName("처리 중인 키의 재시도는 첫 요청의 응답을 받고, 저장 없이 끝나면 null을 받는다")
+	void inFlightRetryWaitsForFirstResponse() {
+		// given
+		assertNull(idempotencyStore.begin("use:stored"));
+		assertNull(idempotencyStore.begin("use:abandoned"));
+		CompletableFuture<StoredResponse> stored = idempotencyStore.begin("use:stored");
+		CompletableFuture<StoredResponse> abandoned = idempotencyStore.begin("use:abandoned");
+
+		// when
+		idempotencyStore.complete("use:stored", StoredResponse.failure(ErrorCode.USER_NOT_FOUND, "hash"));
+		idempotencyStore.abandon("use:abandoned");
+
+		// then
+		assertEquals(ErrorCode.USER_NOT_FOUND, stored.join().getErrorCode());
+		assertNull(abandoned.join());
+		assertNull(idempotencyStore.begin("use:abandoned"));
+	}
+
+	@Test
+	@DisplayName("다른 노드가 같은 키를 먼저 점유했으면 처리하지 않고 그 노드가 저장한 응답을 기다린다")
+	void claimedByOtherNodeWaitsForItsResponse() {
+		// given
+		given(idempotencyRecordRepository.saveAndFlush(any()))
+				.willThrow(new DataIntegrityViolationException("duplicate key"));
+		given(idempotencyRecordRepository.findById("use:key"))
+				.willReturn(Optional.of(pending("use:key")), Optional.of(record("use:key", LocalDateTime.now())));
+
+		// when
+		boolean claimed = idempotencyStore.claim("use:key", "hash");
+		Optional<StoredResponse> first = idempotencyStore.awaitCompleted("use:key");
+
+		// then
+		assertFalse(claimed);
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, first.orElseThrow().getErrorCode());
+		verify(idempotencyRecordRepository, times(2)).findById("use:key");
+	}
+
+	@Test
+	@DisplayName("다른 노드의 처리가 대기 시간 안에 끝나지 않으면 빈 값을 받는다")
+	void awaitCompletedTimesOut() {
+		// given
+		properties.setInFlightWait(100L);
+		given(idempotencyRecordRepository.findById("use:key")).willReturn(Optional.of(pending("use:key")));
+
+		// when
+		Optional<StoredResponse> first = idempotencyStore.awaitCompleted("use:key");
+
+		// then
+		assertTrue(first.isEmpty());
+	}
+
+	@Test
+	@DisplayName("응답 없이 끝난 요청은 자신의 PENDING 기록을 지워 재시도가 다시 처리할 수 있게 한다")
+	void abandonDeletesPendingRecord() {
+		// given
+		assertNull(idempotencyStore.begin("use:key"));
+		assertTrue(idempotencyStore.claim("use:key", "hash"));
+
+		// when
+		idempotencyStore.abandon("use:key");
+
+		// then
+		verify(idempotencyRecordRepository, times(1)).deletePending("use:key", IdempotencyStatus.PENDING);
+		assertNull(idempotencyStore.begin("use:key"));
+	}
+
+	private static IdempotencyRecord record(String idempotencyKey, LocalDateTime createdAt) {
+		return IdempotencyRecord.builder()
+				.idempotencyKey(idempotencyKey)
+				.status(IdempotencyStatus.COMPLETED)
+				.errorCode(ErrorCode.AMOUNT_EXCEED_BALANCE)
+				.createdAt(createdAt)
+				.build();
+	}
+
+	private static IdempotencyRecord pending(String idempotencyKey) {
+		return IdempotencyRecord.builder()
+				.idempotencyKey(idempotencyKey)
+				.status(IdempotencyStatus.PENDING)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+}
@@ -0,0 +1,101 @@
+package com.account.lane;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.account.config.ConcurrencyProperties;
+import com.account.exception.AccountException;
+import com.account.type.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccountLaneExecutorTest {
+	private AccountLaneExecutor accountLaneExecutor;
+
+	@AfterEach
+	void tearDown() {
+		accountLaneExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 계좌의 작업은 같은 레인에서 제출 순서대로 실행된다")
+	void sameAccountRunsInOrderOnOneLane() throws Exception {
+		// given
+		ConcurrencyProperties concurrencyProperties = new ConcurrencyProperties();
+		concurrencyProperties.getLane().setCount(4);
+		accountLaneExecutor = new AccountLaneExecutor(concurrencyProperties, new SimpleMeterRegistry());
+		List<Integer> executed = new ArrayList<>();
+		List<CompletableFuture<String>> futures = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			int order = i;
+			futures.add(accountLaneExecutor.submit("1000000000", () -> {
+				executed.add(order);
+				return Thread.currentThread().getName();
+			}));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+		// then
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, executed.get(i));
+			assertEquals(futures.get(0).get(), futures.get(i).get());
+		}
+	}
+
+	@Test
+	@DisplayName("여러 계좌의 레인을 점유한 동안에는 그 계좌들의 단일 계좌 작업이 실행되지 않는다")
+	void holdExcludesSingleAccountWork() throws Exception {
+		// given
+		ConcurrencyProperties concurrencyProperties = new ConcurrencyProperties();
+		concurrencyProperties.getLane().setCount(4);
+		accountLaneExecutor = new AccountLaneExecutor(concurrencyProperties, new SimpleMeterRegistry());
+		AccountLaneExecutor.LaneHold hold = accountLaneExecutor.hold(List.of("1000000000", "1000000001"), 1000L);
+
+		// when
+		CompletableFuture<String> from = accountLaneExecutor.submit("1000000000", () -> "from");
+		CompletableFuture<String> to = accountLaneExecutor.submit("1000000001", () -> "to");
+		Thread.sleep(100L);
+		boolean doneWhileHeld = from.isDone() || to.isDone();
+		hold.close();
+
+		// then
+		assertFalse(doneWhileHeld);
+		assertEquals("from", from.get(1, TimeUnit.SECONDS));
+		assertEquals("to", to.get(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("대기 시간 안에 레인을 점유하지 못하면 실패하고 이후 작업을 막지 않는다")
+	void holdTimesOutBehindBusyLane() throws Exception {
+		// given
+		ConcurrencyProperties concurrencyProperties = new ConcurrencyProperties();
+		concurrencyProperties.getLane().setCount(1);
+		accountLaneExecutor = new AccountLaneExecutor(concurrencyProperties, new SimpleMeterRegistry());
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Boolean> busy = accountLaneExecutor.submit("1000000000", () -> release.await(1, TimeUnit.SECONDS));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> accountLaneExecutor.hold(List.of("1000000000", "1000000001"), 50L));
+		release.countDown();
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+		assertTrue(busy.get(1, TimeUnit.SECONDS));
+		assertEquals("next", accountLaneExecutor.submit("1000000000", () -> "next").get(1, TimeUnit.SECONDS));
+	}
+}
@@ -0,0 +1,57 @@
+package com.account.lock;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalLockProviderTest {
+
+	@Test
+	@DisplayName("다른 스레드가 잡은 계좌 락은 대기 시간 내에 획득할 수 없다")
+	void lockIsExclusiveAcrossThreads() throws Exception {
+		// given
+		LocalLockProvider lockProvider = new LocalLockProvider(16);
+		assertTrue(lockProvider.tryLock("1000000000", 0, 15, TimeUnit.SECONDS));
+
+		// when
+		boolean acquiredByOther = CompletableFuture
+				.supplyAsync(() -> tryLockQuietly(lockProvider, "1000000000")).get();
+
+		// then
+		assertFalse(acquiredByOther);
+		lockProvider.unlock("1000000000");
+		assertTrue(CompletableFuture.supplyAsync(() -> {
+			boolean acquired = tryLockQuietly(lockProvider, "1000000000");
+			lockProvider.unlock("1000000000");
+			return acquired;
+		}).get());
+	}
+
+	@Test
+	@DisplayName("스트라이프 개수는 2의 거듭제곱으로 올림된다")
+	void stripeIndexIsBounded() {
+		// given
+		LocalLockProvider lockProvider = new LocalLockProvider(10);
+
+		// when
+		// then
+		for (int i = 0; i < 1000; i++) {
+			int index = lockProvider.stripeIndex(String.valueOf(1000000000L + i));
+			assertTrue(index >= 0 && index < 16);
+		}
+	}
+
+	private boolean tryLockQuietly(LocalLockProvider lockProvider, String accountNumber) {
+		try {
+			return lockProvider.tryLock(accountNumber, 10, 15, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package com.account.recorder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.account.cache.ExistenceFilter;
+import com.account.config.FailedTransactionProperties;
+import com.account.service.TransactionService;
+import com.account.type.OverflowPolicy;
+import com.account.type.TransactionType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FailedTransactionRecorderTest {
+	private final TransactionService transactionService = mock(TransactionService.class);
+	private final ExistenceFilter existenceFilter = mock(ExistenceFilter.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("DROP_NEWEST - 대기열이 가득 차면 새 기록을 버린다")
+	void dropNewest() {
+		// given
+		FailedTransactionRecorder recorder = recorder(OverflowPolicy.DROP_NEWEST);
+
+		// when
+		recorder.record(TransactionType.USE, "1000000001", 100L);
+		recorder.record(TransactionType.USE, "1000000002", 100L);
+		recorder.record(TransactionType.USE, "1000000003", 100L);
+		recorder.flush();
+
+		// then
+		assertEquals(List.of("1000000001", "1000000002"), savedAccountNumbers());
+		assertEquals(1.0, dropped());
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST - 대기열이 가득 차면 가장 오래된 기록을 버린다")
+	void dropOldest() {
+		// given
+		FailedTransactionRecorder recorder = recorder(OverflowPolicy.DROP_OLDEST);
+
+		// when
+		recorder.record(TransactionType.USE, "1000000001", 100L);
+		recorder.record(TransactionType.USE, "1000000002", 100L);
+		recorder.record(TransactionType.USE, "1000000003", 100L);
+		recorder.flush();
+
+		// then
+		assertEquals(List.of("1000000002", "1000000003"), savedAccountNumbers());
+		assertEquals(1.0, dropped());
+	}
+
+	@Test
+	@DisplayName("CALLER_RUNS - 대기열이 가득 차면 요청 스레드에서 바로 저장한다")
+	void callerRuns() {
+		// given
+		FailedTransactionRecorder recorder = recorder(OverflowPolicy.CALLER_RUNS);
+
+		// when
+		recorder.record(TransactionType.USE, "1000000001", 100L);
+		recorder.record(TransactionType.USE, "1000000002", 100L);
+		recorder.record(TransactionType.CANCEL, "1000000003", 100L);
+
+		// then
+		ArgumentCaptor<List<FailedTransaction>> captor = captor();
+		verify(transactionService).saveFailedTransactions(captor.capture());
+		assertEquals("1000000003", captor.getValue().get(0).getAccountNumber());
+		assertEquals(TransactionType.CANCEL, captor.getValue().get(0).getTransactionType());
+		assertEquals(2, recorder.queueSize());
+		assertEquals(0.0, dropped());
+	}
+
+	@Test
+	@DisplayName("종료 시 대기열에 남은 기록을 모두 저장한다")
+	void shutdownFlushesQueue() {
+		// given
+		given(transactionService.saveFailedTransactions(anyList())).willReturn(2);
+		FailedTransactionRecorder recorder = recorder(OverflowPolicy.DROP_NEWEST);
+		recorder.record(TransactionType.USE, "1000000001", 100L);
+		recorder.record(TransactionType.TRANSFER_OUT, "1000000002", 100L);
+
+		// when
+		recorder.shutdown();
+
+		// then
+		assertEquals(0, recorder.queueSize());
+		assertEquals(2.0, meterRegistry.get("account.failed_transaction.written").counter().count());
+	}
+
+	@Test
+	@DisplayName("종료 시 저장 중인 기록 스레드를 중단하지 않고 남은 기록까지 저장한 뒤 멈춘다")
+	void shutdownDrainsWithoutInterrupting() throws Exception {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+		given(transactionService.saveFailedTransactions(anyList())).willAnswer(invocation -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted.set(true);
+			}
+			return invocation.<List<?>>getArgument(0).size();
+		});
+		FailedTransactionRecorder recorder = recorder(OverflowPolicy.DROP_NEWEST);
+		recorder.start();
+		recorder.record(TransactionType.USE, "1000000001", 100L);
+		started.await(5, TimeUnit.SECONDS);
+		recorder.record(TransactionType.USE, "1000000002", 100L);
+		recorder.record(TransactionType.USE, "1000000003", 100L);
+
+		// when
+		Thread shutdown = new Thread(recorder::shutdown);
+		shutdown.start();
+		Thread.sleep(50);
+		release.countDown();
+		shutdown.join(TimeUnit.SECONDS.toMillis(5));
+
+		// then
+		assertFalse(interrupted.get());
+		assertEquals(0, recorder.queueSize());
+		assertEquals(3.0, meterRegistry.get("account.failed_transaction.written").counter().count());
+	}
+
+	@Test
+	@DisplayName("블룸 필터에서 확실히 없는 계좌의 실패는 대기열에 넣지 않는다")
+	void skipUnknownAccount() {
+		// given
+		given(existenceFilter.isAbsentAccount("9999999999")).willReturn(true);
+		FailedTransactionRecorder recorder = recorder(OverflowPolicy.DROP_NEWEST);
+
+		// when
+		recorder.record(TransactionType.USE, "9999999999", 100L);
+		recorder.record(TransactionType.USE, "1000000001", 100L);
+		recorder.flush();
+
+		// then
+		assertEquals(List.of("1000000001"), savedAccountNumbers());
+		assertEquals(1.0, meterRegistry.get("account.failed_transaction.dropped").tag("reason", "unknown_account")
+				.counter().count());
+	}
+
+	private FailedTransactionRecorder recorder(OverflowPolicy overflowPolicy) {
+		FailedTransactionProperties properties = new FailedTransactionProperties();
+		properties.setQueueCapacity(2);
+		properties.setBatchSize(10);
+		properties.setOverflowPolicy(overflowPolicy);
+		// 기록 스레드는 시작하지 않고 flush()로 직접 비운다 (start()를 부르는 테스트 제외)
+		return new FailedTransactionRecorder(transactionService, properties, existenceFilter, meterRegistry);
+	}
+
+	private List<String> savedAccountNumbers() {
+		ArgumentCaptor<List<FailedTransaction>> captor = captor();
+		verify(transactionService, times(1)).saveFailedTransactions(captor.capture());
+		return captor.getValue().stream().map(FailedTransaction::getAccountNumber).toList();
+	}
+
+	private double dropped() {
+		return meterRegistry.get("account.failed_transaction.dropped").tag("reason", "overflow").counter().count();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ArgumentCaptor<List<FailedTransaction>> captor() {
+		return ArgumentCaptor.forClass(List.class);
+	}
+}
@@ -0,0 +1,81 @@
+package com.account.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.account.domain.Account;
+import com.account.domain.AccountUser;
+import com.account.type.AccountStatus;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+class AccountRepositoryTest {
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountUserRepository accountUserRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private AccountUser user;
+
+	@BeforeEach
+	void setUp() {
+		user = accountUserRepository.save(AccountUser.builder().name("Pobi").build());
+		accountRepository.save(account("1000000000", AccountStatus.IN_USE, 1000L));
+		accountRepository.save(account("1000000001", AccountStatus.UNREGISTERED, 1000L));
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("조건을 만족하면 한 문장으로 차감하고 차감 후 잔액과 올라간 버전을 남긴다")
+	void debit() {
+		// given
+		// when
+		Optional<DebitResult> debit = accountRepository.debit("1000000000", user.getId(), 300L);
+
+		// then
+		assertTrue(debit.isPresent());
+		assertEquals(700L, debit.get().getBalance());
+		Account account = accountRepository.findById(debit.get().getAccountId()).orElseThrow();
+		assertEquals(700L, account.getBalance());
+		assertEquals(1L, account.getVersion());
+	}
+
+	@Test
+	@DisplayName("잔액 부족, 소유자 불일치, 해지 계좌는 갱신하지 않는다")
+	void debitRejected() {
+		// given
+		// when
+		Optional<DebitResult> exceed = accountRepository.debit("1000000000", user.getId(), 1001L);
+		Optional<DebitResult> otherUser = accountRepository.debit("1000000000", user.getId() + 1, 100L);
+		Optional<DebitResult> unregistered = accountRepository.debit("1000000001", user.getId(), 100L);
+
+		// then
+		assertTrue(exceed.isEmpty());
+		assertTrue(otherUser.isEmpty());
+		assertTrue(unregistered.isEmpty());
+		assertEquals(1000L, accountRepository.findByAccountNumber("1000000000").orElseThrow().getBalance());
+	}
+
+	private Account account(String accountNumber, AccountStatus accountStatus, Long balance) {
+		return Account.builder()
+				.accountUser(user)
+				.accountNumber(accountNumber)
+				.accountStatus(accountStatus)
+				.balance(balance)
+				.build();
+	}
+}
@@ -0,0 +1,110 @@
+package com.account.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.account.domain.Account;
+import com.account.domain.AccountUser;
+import com.account.domain.Transaction;
+import com.account.type.AccountStatus;
+import com.account.type.TransactionResultType;
+import com.account.type.TransactionType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 이전 스키마에 저장된 데이터에 V1 마이그레이션을 실행한 뒤 현재 엔티티 매핑으로 읽고 씁니다.
+ * <p>
+ * 스키마를 생성하지 않고 검증(validate)만 하므로, 마이그레이션 결과가 매핑과 다르면 컨텍스트가 뜨지 않습니다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:migration",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.defer-datasource-initialization=false",
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:db/legacy_schema.sql,classpath:db/legacy_data.sql,"
+				+ "classpath:db/migration/V1__compact_storage_schema.sql" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationTest {
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountUserRepository accountUserRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("문자열 enum과 16진수 거래 ID가 코드와 바이너리로 옮겨져 그대로 조회된다")
+	void legacyTransactionsAreConverted() {
+		// when
+		Transaction used = transactionRepository.findByTransactionId("0f1e2d3c4b5a69788796a5b4c3d2e1f0").get();
+		Transaction failed = transactionRepository.findByTransactionId("a0b1c2d3e4f5061728394a5b6c7d8e9f").get();
+		Transaction cancelled = transactionRepository.findByTransactionId("ffeeddccbbaa99887766554433221100").get();
+
+		// then
+		assertEquals(TransactionType.USE, used.getTransactionType());
+		assertEquals(TransactionResultType.S, used.getTransactionResultType());
+		assertEquals(1000L, used.getAmount());
+		assertEquals("1000000000", used.getAccount().getAccountNumber());
+		assertEquals(TransactionResultType.F, failed.getTransactionResultType());
+		assertEquals(TransactionType.CANCEL, cancelled.getTransactionType());
+	}
+
+	@Test
+	@DisplayName("계좌 상태가 코드로 옮겨지고 버전이 0부터 시작해 갱신할 수 있다")
+	void legacyAccountsAreConverted() {
+		// given
+		Account account = accountRepository.findByAccountNumber("1000000000").get();
+
+		// when
+		account.useBalance(1000L);
+		entityManager.flush();
+
+		// then
+		assertEquals(AccountStatus.IN_USE, account.getAccountStatus());
+		assertEquals(1L, account.getVersion());
+		assertEquals(AccountStatus.UNREGISTERED,
+				accountRepository.findByAccountNumber("1000000002").get().getAccountStatus());
+	}
+
+	@Test
+	@DisplayName("사용자별 사용 중인 계좌 수가 채워지고 새 사용자 ID는 기존 ID와 겹치지 않는다")
+	void accountUsersAreBackfilled() {
+		// when
+		AccountUser created = accountUserRepository.saveAndFlush(AccountUser.builder().name("Crong").build());
+
+		// then
+		assertEquals(2, accountUserRepository.findById(10L).get().getActiveAccountCount());
+		assertEquals(0, accountUserRepository.findById(11L).get().getActiveAccountCount());
+		assertTrue(created.getId() >= 1000L);
+	}
+
+	@Test
+	@DisplayName("계좌번호 유니크 인덱스가 중복 계좌번호를 거절한다")
+	void accountNumberIsUnique() {
+		// given
+		AccountUser user = accountUserRepository.findById(10L).get();
+
+		// when
+		// then
+		assertThrows(DataIntegrityViolationException.class, () -> accountRepository.saveAndFlush(Account.builder()
+				.accountUser(user)
+				.accountNumber("1000000000")
+				.accountStatus(AccountStatus.IN_USE)
+				.balance(0L)
+				.build()));
+	}
+}
@@ -0,0 +1,87 @@
+package com.account.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.account.domain.Account;
+import com.account.domain.AccountUser;
+import com.account.domain.Transaction;
+import com.account.id.TimeOrderedTransactionIdGenerator;
+import com.account.type.AccountStatus;
+import com.account.type.TransactionResultType;
+import com.account.type.TransactionType;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+		"spring.sql.init.mode=never",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+class TransactionRepositoryTest {
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountUserRepository accountUserRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private final TimeOrderedTransactionIdGenerator transactionIdGenerator = new TimeOrderedTransactionIdGenerator(1);
+
+	@Test
+	@DisplayName("거래 내역 일괄 저장 시 시퀀스 조회와 INSERT가 배치로 묶인다")
+	void ledgerInsertsAreBatched() {
+		// given
+		AccountUser user = accountUserRepository.save(AccountUser.builder().name("Pobi").build());
+		Account account = accountRepository.save(Account.builder()
+				.accountUser(user)
+				.accountNumber("1000000000")
+				.accountStatus(AccountStatus.IN_USE)
+				.balance(10000L)
+				.build());
+		entityManager.flush();
+		entityManager.clear();
+
+		Account reference = accountRepository.getReferenceById(account.getId());
+		List<Transaction> transactions = IntStream.range(0, 100)
+				.mapToObj(i -> Transaction.builder()
+						.transactionType(TransactionType.USE)
+						.transactionResultType(TransactionResultType.S)
+						.account(reference)
+						.amount(100L)
+						.balanceSnapshot(10000L - 100L * (i + 1))
+						.transactionId(transactionIdGenerator.nextId())
+						.transactedAt(LocalDateTime.now())
+						.build())
+				.toList();
+
+		Statistics statistics = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		statistics.clear();
+
+		// when
+		transactionRepository.saveAll(transactions);
+		entityManager.flush();
+
+		// then
+		// 100건 기준: 시퀀스 조회 2~3회 + INSERT 배치 2회 (배치 미적용 시 200회 이상)
+		assertEquals(100, statistics.getEntityInsertCount());
+		assertTrue(statistics.getPrepareStatementCount() <= 10,
+				"prepared statements: " + statistics.getPrepareStatementCount());
+	}
+}
@@ -0,0 +1,105 @@
+package com.account.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.account.domain.AccountNumberSequence;
+import com.account.repository.AccountNumberSequenceRepository;
+import com.account.repository.AccountRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+	@Mock
+	private AccountNumberSequenceRepository accountNumberSequenceRepository;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private AccountNumberBlockService mockBlockService;
+
+	private AccountNumberBlockService accountNumberBlockService;
+
+	@BeforeEach
+	void setUp() {
+		accountNumberBlockService = new AccountNumberBlockService(accountNumberSequenceRepository, accountRepository);
+	}
+
+	@Test
+	@DisplayName("계좌가 하나도 없으면 1000000000부터 예약")
+	void reserveFirstBlock() {
+		// given
+		given(accountNumberSequenceRepository.findWithLockByName(any())).willReturn(Optional.empty());
+		given(accountRepository.findMaxAccountNumber()).willReturn(Optional.empty());
+		ArgumentCaptor<AccountNumberSequence> captor = ArgumentCaptor.forClass(AccountNumberSequence.class);
+
+		// when
+		long blockStart = accountNumberBlockService.reserveBlock(100);
+
+		// then
+		verify(accountNumberSequenceRepository, times(1)).save(captor.capture());
+		assertEquals(1000000000L, blockStart);
+		assertEquals(1000000100L, captor.getValue().getNextValue());
+	}
+
+	@Test
+	@DisplayName("카운터 행이 없으면 기존 계좌번호 중 가장 큰 번호 다음부터 예약")
+	void reserveBlockAfterExistingAccounts() {
+		// given
+		given(accountNumberSequenceRepository.findWithLockByName(any())).willReturn(Optional.empty());
+		given(accountRepository.findMaxAccountNumber()).willReturn(Optional.of("1000000012"));
+
+		// when
+		long blockStart = accountNumberBlockService.reserveBlock(100);
+
+		// then
+		assertEquals(1000000013L, blockStart);
+	}
+
+	@Test
+	@DisplayName("블록을 다 쓴 경우에만 새 블록을 예약")
+	void allocateFromBlocks() {
+		// given
+		given(mockBlockService.reserveBlock(anyInt())).willReturn(1000000000L, 1000000500L);
+		AccountNumberAllocator allocator = new AccountNumberAllocator(mockBlockService, 2, 0L);
+
+		// when
+		// then
+		assertEquals("1000000000", allocator.nextAccountNumber());
+		assertEquals("1000000001", allocator.nextAccountNumber());
+		assertEquals("1000000500", allocator.nextAccountNumber());
+		verify(mockBlockService, times(2)).reserveBlock(2);
+	}
+
+	@Test
+	@DisplayName("최대 사용 시간이 지난 블록은 남은 번호를 버리고 새 블록을 예약")
+	void expiredBlockIsReplaced() throws InterruptedException {
+		// given
+		given(mockBlockService.reserveBlock(anyInt())).willReturn(1000000000L, 1000000500L);
+		AccountNumberAllocator allocator = new AccountNumberAllocator(mockBlockService, 100, 1L);
+
+		// when
+		String first = allocator.nextAccountNumber();
+		Thread.sleep(5);
+		String second = allocator.nextAccountNumber();
+
+		// then
+		assertEquals("1000000000", first);
+		assertEquals("1000000500", second);
+		verify(mockBlockService, times(2)).reserveBlock(100);
+	}
+}
@@ -3,12 +3,15 @@ package com.account.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,11 +23,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.account.cache.AccountMetadataCache;
+import com.account.cache.ExistenceFilter;
 import com.account.domain.Account;
 import com.account.domain.AccountUser;
 import com.account.dto.AccountDto;
 import com.account.exception.AccountException;
+import com.account.repository.AccountDetail;
 import com.account.repository.AccountRepository;
+import com.account.repository.AccountSummary;
 import com.account.repository.AccountUserRepository;
 import com.account.type.AccountStatus;
 import com.account.type.ErrorCode;
@@ -37,6 +44,18 @@ class AccountServiceTest {
 	@Mock
 	private AccountUserRepository accountUserRepository;
 
+	@Mock
+	private AccountNumberAllocator accountNumberAllocator;
+
+	@Mock
+	private LedgerBalanceService ledgerBalanceService;
+
+	@Mock
+	private AccountMetadataCache accountMetadataCache;
+
+	@Mock
+	private ExistenceFilter existenceFilter;
+
 	@InjectMocks
 	private AccountService accountService;
 
@@ -45,8 +64,8 @@ class AccountServiceTest {
 		// given
 		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
 		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findFirstByOrderByIdDesc())
-				.willReturn(Optional.of(Account.builder().accountUser(user).accountNumber("1000000012").build()));
+		given(accountUserRepository.increaseActiveAccountCount(anyLong(), anyInt())).willReturn(1);
+		given(accountNumberAllocator.nextAccountNumber()).willReturn("1000000013");
 		given(accountRepository.save(any()))
 				.willReturn(Account.builder().accountUser(user).accountNumber("1000000013").build());
 		ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
@@ -56,23 +75,7 @@ class AccountServiceTest {
 		verify(accountRepository, times(1)).save(captor.capture());
 		assertEquals(12L, accountDto.getUserId());
 		assertEquals("1000000013", captor.getValue().getAccountNumber());
-	}
-
-	@Test
-	void createFirstAccount() {
-		// given
-		AccountUser user = AccountUser.builder().id(15L).name("Pobi").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findFirstByOrderByIdDesc()).willReturn(Optional.empty());
-		given(accountRepository.save(any()))
-				.willReturn(Account.builder().accountUser(user).accountNumber("1000000015").build());
-		ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
-		// when
-		AccountDto accountDto = accountService.createAccount(1L, 1000L);
-		// then
-		verify(accountRepository, times(1)).save(captor.capture());
-		assertEquals(15L, accountDto.getUserId());
-		assertEquals("1000000000", captor.getValue().getAccountNumber());
+		verify(existenceFilter, times(1)).addAccount("1000000013");
 	}
 
 	@Test
@@ -94,7 +97,7 @@ class AccountServiceTest {
 
 		AccountUser user = AccountUser.builder().id(15L).name("Pobi").build();
 		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.countByAccountUser(any())).willReturn(10);
+		given(accountUserRepository.increaseActiveAccountCount(anyLong(), anyInt())).willReturn(0);
 		// when
 		AccountException exception = assertThrows(AccountException.class,
 				() -> accountService.createAccount(1L, 1000L));
@@ -106,8 +109,7 @@ class AccountServiceTest {
 	void deleteAccountSuccess() {
 		// given
 		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(
 				Optional.of(Account.builder().accountUser(user).balance(0L).accountNumber("1000000012").build()));
 		ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
 		// when
@@ -117,13 +119,16 @@ class AccountServiceTest {
 		assertEquals(12L, accountDto.getUserId());
 		assertEquals("1000000012", captor.getValue().getAccountNumber());
 		assertEquals(AccountStatus.UNREGISTERED, captor.getValue().getAccountStatus());
+		verify(accountUserRepository, times(1)).decreaseActiveAccountCount(12L);
+		verify(accountMetadataCache, times(1)).evictAccount("1234567890");
 	}
 
 	@Test
 	@DisplayName("해당 유저 없음 - 계좌 해지 실패")
 	void deleteAccount_UserNotFound() {
 		// given
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.empty());
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.empty());
+		given(accountMetadataCache.userExists(anyLong())).willReturn(false);
 		// when
 		AccountException exception = assertThrows(AccountException.class,
 				() -> accountService.deleteAccount(1L, "1234567890"));
@@ -135,10 +140,9 @@ class AccountServiceTest {
 	@DisplayName("해당 계좌 없음 - 계좌 해지 실패")
 	void deleteAccount_AccountNotFound() {
 		// given
-		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(Optional.empty());
-		ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.empty());
+		given(accountMetadataCache.userExists(anyLong())).willReturn(true);
+		given(accountMetadataCache.accountExists(anyString())).willReturn(false);
 		// when
 		AccountException exception = assertThrows(AccountException.class,
 				() -> accountService.deleteAccount(1L, "1234567890"));
@@ -150,11 +154,9 @@ class AccountServiceTest {
 	@DisplayName("계좌 소유주 다름")
 	void deleteAccountFailed_userUnmatched() {
 		// given
-		AccountUser pobi = AccountUser.builder().id(12L).name("Pobi").build();
-		AccountUser harry = AccountUser.builder().id(13L).name("Harry").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(pobi));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(
-				Optional.of(Account.builder().accountUser(harry).balance(0L).accountNumber("1000000012").build()));
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.empty());
+		given(accountMetadataCache.userExists(anyLong())).willReturn(true);
+		given(accountMetadataCache.accountExists(anyString())).willReturn(true);
 
 		// when
 		AccountException exception = assertThrows(AccountException.class,
@@ -168,8 +170,7 @@ class AccountServiceTest {
 	void deleteAccountFailed_balanceNotEmpty() {
 		// given
 		AccountUser pobi = AccountUser.builder().id(12L).name("Pobi").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(pobi));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(
 				Optional.of(Account.builder().accountUser(pobi).balance(100L).accountNumber("1000000012").build()));
 
 		// when
@@ -184,8 +185,7 @@ class AccountServiceTest {
 	void deleteAccountFailed_alreadyUnregistered() {
 		// given
 		AccountUser pobi = AccountUser.builder().id(12L).name("Pobi").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(pobi));
-		given(accountRepository.findByAccountNumber(anyString()))
+		given(accountRepository.findOwnedAccount(anyString(), anyLong()))
 				.willReturn(Optional.of(Account.builder().accountUser(pobi).accountStatus(AccountStatus.UNREGISTERED)
 						.balance(0L).accountNumber("1000000012").build()));
 
@@ -199,13 +199,11 @@ class AccountServiceTest {
 	@Test
 	void successGetAccountByUserId() {
 		// given
-		AccountUser pobi = AccountUser.builder().id(12L).name("Pobi").build();
-		List<Account> accounts = List.of(
-				Account.builder().accountUser(pobi).accountNumber("1111111111").balance(1000L).build(),
-				Account.builder().accountUser(pobi).accountNumber("2222222222").balance(2000L).build(),
-				Account.builder().accountUser(pobi).accountNumber("3333333333").balance(3000L).build());
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(pobi));
-		given(accountRepository.findByAccountUser(any())).willReturn(accounts);
+		List<AccountSummary> summaries = List.of(
+				new AccountSummary(12L, 1L, "1111111111", 1000L),
+				new AccountSummary(12L, 2L, "2222222222", 2000L),
+				new AccountSummary(12L, 3L, "3333333333", 3000L));
+		given(accountRepository.findSummariesByUserId(anyLong())).willReturn(summaries);
 
 		// when
 		List<AccountDto> accountDtos = accountService.getAccountByUserId(1L);
@@ -220,10 +218,82 @@ class AccountServiceTest {
 
 	}
 
+	@Test
+	@DisplayName("이벤트 소싱 모드의 계좌 목록은 원장 기준 잔액을 응답한다")
+	void getAccountByUserId_eventSourced() {
+		// given
+		Account first = Account.builder().id(1L).build();
+		Account second = Account.builder().id(2L).build();
+		given(accountRepository.findSummariesByUserId(anyLong())).willReturn(List.of(
+				new AccountSummary(12L, 1L, "1111111111", 1000L),
+				new AccountSummary(12L, 2L, "2222222222", 2000L)));
+		given(ledgerBalanceService.isEventSourced()).willReturn(true);
+		given(accountRepository.getReferenceById(1L)).willReturn(first);
+		given(accountRepository.getReferenceById(2L)).willReturn(second);
+		given(ledgerBalanceService.balanceOf(first)).willReturn(700L);
+		given(ledgerBalanceService.balanceOf(second)).willReturn(0L);
+
+		// when
+		List<AccountDto> accountDtos = accountService.getAccountByUserId(12L);
+
+		// then
+		assertEquals(700L, accountDtos.get(0).getBalance());
+		assertEquals(0L, accountDtos.get(1).getBalance());
+	}
+
+	@Test
+	@DisplayName("계좌 상세 조회는 프로젝션의 잔액을 응답한다")
+	void successGetAccount() {
+		// given
+		given(accountRepository.findDetailById(1L)).willReturn(Optional.of(new AccountDetail(1L, 12L, "1111111111",
+				AccountStatus.IN_USE, 1000L, LocalDateTime.now(), null)));
+
+		// when
+		AccountDto accountDto = accountService.getAccount(1L);
+
+		// then
+		assertEquals("1111111111", accountDto.getAccountNumber());
+		assertEquals(AccountStatus.IN_USE, accountDto.getAccountStatus());
+		assertEquals(1000L, accountDto.getBalance());
+		verify(ledgerBalanceService, never()).balanceOf(any());
+	}
+
+	@Test
+	@DisplayName("이벤트 소싱 모드의 계좌 상세 조회는 마지막 스냅샷 시점의 Account.balance 대신 원장 기준 잔액을 응답한다")
+	void getAccount_eventSourced() {
+		// given
+		Account account = Account.builder().id(1L).build();
+		given(accountRepository.findDetailById(1L)).willReturn(Optional.of(new AccountDetail(1L, 12L, "1111111111",
+				AccountStatus.IN_USE, 1000L, LocalDateTime.now(), null)));
+		given(ledgerBalanceService.isEventSourced()).willReturn(true);
+		given(accountRepository.getReferenceById(1L)).willReturn(account);
+		given(ledgerBalanceService.balanceOf(account)).willReturn(400L);
+
+		// when
+		AccountDto accountDto = accountService.getAccount(1L);
+
+		// then
+		assertEquals(400L, accountDto.getBalance());
+	}
+
+	@Test
+	@DisplayName("계좌가 없는 사용자는 빈 목록을 조회한다")
+	void getAccountByUserId_noAccounts() {
+		// given
+		given(accountRepository.findSummariesByUserId(anyLong()))
+				.willReturn(List.of(new AccountSummary(12L, null, null, null)));
+
+		// when
+		List<AccountDto> accountDtos = accountService.getAccountByUserId(12L);
+
+		// then
+		assertEquals(0, accountDtos.size());
+	}
+
 	@Test
 	void failedToGetAccounts() {
 		// given
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.empty());
+		given(accountRepository.findSummariesByUserId(anyLong())).willReturn(List.of());
 		// when
 		AccountException exception = assertThrows(AccountException.class, () -> accountService.getAccountByUserId(1L));
 
@@ -0,0 +1,231 @@
+package com.account.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.account.config.BalanceProperties;
+import com.account.domain.Account;
+import com.account.domain.BalanceSnapshot;
+import com.account.domain.Transaction;
+import com.account.exception.AccountException;
+import com.account.id.TransactionIdGenerator;
+import com.account.repository.BalanceSnapshotRepository;
+import com.account.repository.LedgerDelta;
+import com.account.repository.TransactionRepository;
+import com.account.type.BalanceMode;
+import com.account.type.ErrorCode;
+import com.account.type.TransactionType;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerBalanceServiceTest {
+	@Mock
+	private TransactionRepository transactionRepository;
+
+	@Mock
+	private BalanceSnapshotRepository balanceSnapshotRepository;
+
+	@Mock
+	private TransactionIdGenerator transactionIdGenerator;
+
+	private LedgerBalanceService ledgerBalanceService;
+
+	private final Account account = Account.builder().id(1L).accountNumber("1000000000").balance(1000L).build();
+
+	@BeforeEach
+	void setUp() {
+		BalanceProperties balanceProperties = new BalanceProperties();
+		balanceProperties.setMode(BalanceMode.EVENT_SOURCED);
+		balanceProperties.setSnapshotInterval(100);
+		ledgerBalanceService = new LedgerBalanceService(transactionRepository, balanceSnapshotRepository,
+				transactionIdGenerator, balanceProperties);
+	}
+
+	@Test
+	@DisplayName("현재 잔액은 최근 스냅샷과 이후 원장 변화량의 합이다")
+	void positionFromSnapshotAndDeltas() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.of(snapshot(100L, 5000L)));
+		given(transactionRepository.findByAccountAndAccountSequenceGreaterThan(account, 100L))
+				.willReturn(List.of(delta(TransactionType.USE, 200L, 101L),
+						delta(TransactionType.CANCEL, 50L, 102L),
+						delta(TransactionType.TRANSFER_OUT, 300L, 103L)));
+
+		// when
+		LedgerBalanceService.Position position = ledgerBalanceService.position(account);
+
+		// then
+		assertEquals(4550L, position.getBalance());
+		assertEquals(103L, position.getSequence());
+	}
+
+	@Test
+	@DisplayName("스냅샷이 없으면 현재 Account.balance로 순번 0 스냅샷을 만든다")
+	void initialSnapshotFromAccountBalance() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.empty());
+		given(balanceSnapshotRepository.saveAndFlush(any())).willAnswer(invocation -> invocation.getArgument(0));
+		ArgumentCaptor<BalanceSnapshot> captor = ArgumentCaptor.forClass(BalanceSnapshot.class);
+
+		// when
+		long balance = ledgerBalanceService.balanceOf(account);
+
+		// then
+		verify(balanceSnapshotRepository, times(1)).saveAndFlush(captor.capture());
+		assertEquals(0L, captor.getValue().getAccountSequence());
+		assertEquals(1000L, captor.getValue().getBalance());
+		assertEquals(1000L, balance);
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션에서는 순번 0 스냅샷을 저장하지 않고 계산에만 사용한다")
+	void initialSnapshotNotSavedInReadOnlyTransaction() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.empty());
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// when
+		long balance;
+		try {
+			balance = ledgerBalanceService.balanceOf(account);
+		} finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+
+		// then
+		verify(balanceSnapshotRepository, never()).saveAndFlush(any());
+		assertEquals(1000L, balance);
+	}
+
+	@Test
+	@DisplayName("다른 요청이 먼저 순번 0 스냅샷을 저장했으면 재시도 가능한 낙관적 락 예외로 바꾼다")
+	void initialSnapshotConflictIsRetryable() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.empty());
+		given(balanceSnapshotRepository.saveAndFlush(any()))
+				.willThrow(new DataIntegrityViolationException("ux_balance_snapshot_account_sequence"));
+
+		// when
+		// then
+		assertThrows(ObjectOptimisticLockingFailureException.class, () -> ledgerBalanceService.balanceOf(account));
+	}
+
+	@Test
+	@DisplayName("출금 후 잔액이 음수가 되면 원장에 기록하지 않는다")
+	void appendRejectsOverdraft() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.of(snapshot(10L, 100L)));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> ledgerBalanceService.append(account, TransactionType.USE, 200L));
+
+		// then
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+		verify(transactionRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("원장 순번이 스냅샷 간격의 배수가 되면 스냅샷을 남기고 Account.balance를 맞춘다")
+	void appendWritesSnapshotAtInterval() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.of(snapshot(0L, 5000L)));
+		given(transactionRepository.findByAccountAndAccountSequenceGreaterThan(account, 0L))
+				.willReturn(List.of(delta(TransactionType.USE, 100L, 99L)));
+		given(transactionIdGenerator.nextId()).willReturn("transactionId");
+		given(transactionRepository.saveAndFlush(any())).willAnswer(invocation -> invocation.getArgument(0));
+		ArgumentCaptor<BalanceSnapshot> captor = ArgumentCaptor.forClass(BalanceSnapshot.class);
+
+		// when
+		Transaction transaction = ledgerBalanceService.append(account, TransactionType.USE, 400L);
+
+		// then
+		verify(balanceSnapshotRepository, times(1)).save(captor.capture());
+		assertEquals(100L, transaction.getAccountSequence());
+		assertEquals(4500L, transaction.getBalanceSnapshot());
+		assertEquals(100L, captor.getValue().getAccountSequence());
+		assertEquals(4500L, captor.getValue().getBalance());
+		assertEquals(4500L, account.getBalance());
+	}
+
+	@Test
+	@DisplayName("같은 원장 순번이 이미 기록되었으면 재시도 가능한 낙관적 락 예외로 바꾼다")
+	void appendConflictIsRetryable() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.of(snapshot(10L, 5000L)));
+		given(transactionIdGenerator.nextId()).willReturn("transactionId");
+		given(transactionRepository.saveAndFlush(any()))
+				.willThrow(new DataIntegrityViolationException("ux_transaction_account_sequence"));
+
+		// when
+		// then
+		assertThrows(ObjectOptimisticLockingFailureException.class,
+				() -> ledgerBalanceService.append(account, TransactionType.USE, 100L));
+	}
+
+	@Test
+	@DisplayName("취소 거래는 원거래 참조와 함께 입금으로 기록된다")
+	void appendCancelReferencesTarget() {
+		// given
+		given(balanceSnapshotRepository.findFirstByAccountOrderByAccountSequenceDesc(account))
+				.willReturn(Optional.of(snapshot(10L, 5000L)));
+		given(transactionIdGenerator.nextId()).willReturn("transactionId");
+		given(transactionRepository.saveAndFlush(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		Transaction transaction = ledgerBalanceService.append(account, TransactionType.CANCEL, 300L, 7L);
+
+		// then
+		assertEquals(7L, transaction.getCancelTargetId());
+		assertEquals(5300L, transaction.getBalanceSnapshot());
+		assertEquals(11L, transaction.getAccountSequence());
+	}
+
+	private BalanceSnapshot snapshot(long sequence, long balance) {
+		return BalanceSnapshot.builder().account(account).accountSequence(sequence).balance(balance).build();
+	}
+
+	private static LedgerDelta delta(TransactionType transactionType, long amount, long sequence) {
+		return new LedgerDelta() {
+			@Override
+			public TransactionType getTransactionType() {
+				return transactionType;
+			}
+
+			@Override
+			public Long getAmount() {
+				return amount;
+			}
+
+			@Override
+			public Long getAccountSequence() {
+				return sequence;
+			}
+		};
+	}
+}
@@ -0,0 +1,198 @@
+package com.account.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.account.aop.AccountLock;
+import com.account.aop.AccountLockIdInterface;
+import com.account.config.ConcurrencyProperties;
+import com.account.exception.AccountException;
+import com.account.lane.AccountLaneExecutor;
+import com.account.lock.LockMetrics;
+import com.account.type.ConcurrencyMode;
+import com.account.type.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LockAopAspectTest {
+	private static final String ACCOUNT_NUMBER = "1000000000";
+	private static final AccountLockIdInterface REQUEST = () -> ACCOUNT_NUMBER;
+
+	@Mock
+	private LockService lockService;
+
+	@Mock
+	private OptimisticRetrier optimisticRetrier;
+
+	@Mock
+	private AccountLaneExecutor accountLaneExecutor;
+
+	@Mock
+	private ProceedingJoinPoint pjp;
+
+	@Mock
+	private Signature signature;
+
+	private final ConcurrencyProperties concurrencyProperties = new ConcurrencyProperties();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private LockAopAspect lockAopAspect;
+
+	@BeforeEach
+	void setUp() {
+		lockAopAspect = new LockAopAspect(lockService, new LockMetrics(meterRegistry), optimisticRetrier,
+				concurrencyProperties, accountLaneExecutor);
+	}
+
+	@Test
+	@DisplayName("OPTIMISTIC 모드에서는 락 없이 낙관적 재시도로 실행한다")
+	void optimisticModeUsesRetrier() throws Throwable {
+		// given
+		concurrencyProperties.setMode(ConcurrencyMode.OPTIMISTIC);
+		givenEndpoint();
+		given(optimisticRetrier.proceed(pjp, "LockAopAspectTest.defaults")).willReturn("ok");
+
+		// when
+		Object result = lockAopAspect.arountMethod(pjp, accountLock("defaults"), REQUEST);
+
+		// then
+		assertEquals("ok", result);
+		verify(lockService, never()).lockAll(anyCollection(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("애너테이션의 ATOMIC 지정은 전역 설정보다 우선하며 낙관적 재시도로 실행한다")
+	void atomicAnnotationOverridesGlobalMode() throws Throwable {
+		// given
+		concurrencyProperties.setMode(ConcurrencyMode.PESSIMISTIC);
+		givenEndpoint();
+		given(optimisticRetrier.proceed(pjp, "LockAopAspectTest.defaults")).willReturn("ok");
+
+		// when
+		Object result = lockAopAspect.arountMethod(pjp, accountLock("atomic"), REQUEST);
+
+		// then
+		assertEquals("ok", result);
+		verify(lockService, never()).lockAll(anyCollection(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("PESSIMISTIC 모드에서는 계좌 락을 잡고 실행한 뒤 해제한다")
+	void pessimisticModeLocks() throws Throwable {
+		// given
+		concurrencyProperties.setMode(ConcurrencyMode.PESSIMISTIC);
+		givenEndpoint();
+		given(lockService.lockAll(List.of(ACCOUNT_NUMBER), 1000L, 15000L)).willReturn(Map.of(ACCOUNT_NUMBER, 1L));
+		given(pjp.proceed()).willReturn("ok");
+
+		// when
+		Object result = lockAopAspect.arountMethod(pjp, accountLock("defaults"), REQUEST);
+
+		// then
+		assertEquals("ok", result);
+		verify(lockService).unLockAll(List.of(ACCOUNT_NUMBER));
+		verify(optimisticRetrier, never()).proceed(pjp, "LockAopAspectTest.defaults");
+	}
+
+	@Test
+	@DisplayName("애너테이션의 대기 시간과 유지 시간으로 락을 잡는다")
+	void honoursTryLockTimeAndLeaseTime() throws Throwable {
+		// given
+		givenEndpoint();
+		given(lockService.lockAll(List.of(ACCOUNT_NUMBER), 300L, 7000L)).willReturn(Map.of(ACCOUNT_NUMBER, 1L));
+		given(pjp.proceed()).willReturn("ok");
+
+		// when
+		lockAopAspect.arountMethod(pjp, accountLock("custom"), REQUEST);
+
+		// then
+		verify(lockService).lockAll(List.of(ACCOUNT_NUMBER), 300L, 7000L);
+	}
+
+	@Test
+	@DisplayName("failFast이면 대기 시간 설정과 관계없이 기다리지 않고 한 번만 시도한다")
+	void failFastDoesNotWait() throws Throwable {
+		// given
+		givenEndpoint();
+		given(lockService.lockAll(List.of(ACCOUNT_NUMBER), 0L, 15000L)).willReturn(Map.of(ACCOUNT_NUMBER, 1L));
+		given(pjp.proceed()).willReturn("ok");
+
+		// when
+		lockAopAspect.arountMethod(pjp, accountLock("failFast"), REQUEST);
+
+		// then
+		verify(lockService).lockAll(List.of(ACCOUNT_NUMBER), 0L, 15000L);
+	}
+
+	@Test
+	@DisplayName("락 획득 시 대기 시간과 보유 시간을, 실패 시 실패한 대기 시간을 엔드포인트별로 기록한다")
+	void recordsLockMetrics() throws Throwable {
+		// given
+		givenEndpoint();
+		given(lockService.lockAll(List.of(ACCOUNT_NUMBER), 1000L, 15000L))
+				.willReturn(Map.of(ACCOUNT_NUMBER, 1L))
+				.willThrow(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK));
+		given(pjp.proceed()).willReturn("ok");
+
+		// when
+		lockAopAspect.arountMethod(pjp, accountLock("defaults"), REQUEST);
+		assertThrows(AccountException.class,
+				() -> lockAopAspect.arountMethod(pjp, accountLock("defaults"), REQUEST));
+
+		// then
+		assertEquals(1L, timerCount("account.lock.wait", "acquired"));
+		assertEquals(1L, timerCount("account.lock.hold", "released"));
+		assertEquals(1L, timerCount("account.lock.wait", "failed"));
+	}
+
+	@AccountLock
+	private void defaults() {
+	}
+
+	@AccountLock(tryLockTime = 300L, leaseTime = 7000L)
+	private void custom() {
+	}
+
+	@AccountLock(tryLockTime = 300L, failFast = true)
+	private void failFast() {
+	}
+
+	@AccountLock(concurrency = ConcurrencyMode.ATOMIC)
+	private void atomic() {
+	}
+
+	private void givenEndpoint() {
+		given(pjp.getSignature()).willReturn(signature);
+		given(signature.getDeclaringType()).willReturn(LockAopAspectTest.class);
+		given(signature.getName()).willReturn("defaults");
+	}
+
+	private long timerCount(String name, String result) {
+		return meterRegistry.get(name)
+				.tag("endpoint", "LockAopAspectTest.defaults")
+				.tag("result", result)
+				.timer()
+				.count();
+	}
+
+	private static AccountLock accountLock(String method) throws NoSuchMethodException {
+		return LockAopAspectTest.class.getDeclaredMethod(method).getAnnotation(AccountLock.class);
+	}
+}
@@ -0,0 +1,67 @@
+package com.account.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.account.config.LockProperties;
+import com.account.lock.LockProvider;
+
+@ExtendWith(MockitoExtension.class)
+class LockServiceTest {
+	@Mock
+	private LockProvider lockProvider;
+
+	private final LockProperties lockProperties = new LockProperties();
+	private LockService lockService;
+
+	@BeforeEach
+	void setUp() {
+		lockService = new LockService(lockProvider, lockProperties);
+	}
+
+	@Test
+	@DisplayName("고정 lease에서는 펜싱 토큰을 발급하지 않는다")
+	void fixedLeaseSkipsFencing() throws InterruptedException {
+		// given
+		lockProperties.setLeaseRenewal(false);
+		given(lockProvider.tryLockAll(List.of("1000000000", "1000000001"), 1000L, 15000L, TimeUnit.MILLISECONDS))
+				.willReturn(true);
+
+		// when
+		Map<String, Long> fencingTokens = lockService.lockAll(List.of("1000000001", "1000000000"), 1000L, 15000L);
+
+		// then
+		assertTrue(fencingTokens.isEmpty());
+		verify(lockProvider, never()).issueFencingToken(anyString());
+	}
+
+	@Test
+	@DisplayName("lease 갱신 모드에서는 워치독에 lease를 맡기고 계좌별 펜싱 토큰을 발급한다")
+	void leaseRenewalIssuesFencingTokens() throws InterruptedException {
+		// given
+		lockProperties.setLeaseRenewal(true);
+		given(lockProvider.tryLock("1000000000", 1000L, -1L, TimeUnit.MILLISECONDS)).willReturn(true);
+		given(lockProvider.issueFencingToken("1000000000")).willReturn(7L);
+
+		// when
+		Map<String, Long> fencingTokens = lockService.lockAll(List.of("1000000000"), 1000L, 15000L);
+
+		// then
+		assertEquals(Map.of("1000000000", 7L), fencingTokens);
+	}
+}
@@ -0,0 +1,86 @@
+package com.account.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.account.config.ConcurrencyProperties;
+import com.account.exception.AccountException;
+import com.account.type.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OptimisticRetrierTest {
+	private static final String ENDPOINT = "TransactionController.useBalance";
+
+	private final ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private OptimisticRetrier optimisticRetrier;
+
+	@BeforeEach
+	void setUp() {
+		ConcurrencyProperties properties = new ConcurrencyProperties();
+		properties.getOptimistic().setMaxRetries(2);
+		properties.getOptimistic().setInitialBackoff(1L);
+		properties.getOptimistic().setMaxBackoff(2L);
+		optimisticRetrier = new OptimisticRetrier(properties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("버전 충돌이 나면 처음부터 다시 실행하고 재시도 횟수를 기록한다")
+	void retryUntilSuccess() throws Throwable {
+		// given
+		given(pjp.proceed())
+				.willThrow(new OptimisticLockingFailureException("conflict"))
+				.willThrow(new OptimisticLockingFailureException("conflict"))
+				.willReturn("ok");
+
+		// when
+		Object result = optimisticRetrier.proceed(pjp, ENDPOINT);
+
+		// then
+		assertEquals("ok", result);
+		verify(pjp, times(3)).proceed();
+		assertEquals(2.0, meterRegistry.get("account.optimistic.retry").tag("endpoint", ENDPOINT).counter().count());
+	}
+
+	@Test
+	@DisplayName("재시도 한도를 넘으면 락 획득 실패로 응답하고 한도 초과를 기록한다")
+	void retriesExhausted() throws Throwable {
+		// given
+		given(pjp.proceed()).willThrow(new OptimisticLockingFailureException("conflict"));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> optimisticRetrier.proceed(pjp, ENDPOINT));
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+		verify(pjp, times(3)).proceed();
+		assertEquals(1.0, meterRegistry.get("account.optimistic.exhausted").tag("endpoint", ENDPOINT).counter().count());
+	}
+
+	@Test
+	@DisplayName("버전 충돌이 아닌 예외는 재시도하지 않고 그대로 전달한다")
+	void otherExceptionsAreNotRetried() throws Throwable {
+		// given
+		given(pjp.proceed()).willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> optimisticRetrier.proceed(pjp, ENDPOINT));
+
+		// then
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+		verify(pjp, times(1)).proceed();
+	}
+}
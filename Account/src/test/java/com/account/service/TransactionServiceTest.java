@@ -2,17 +2,24 @@ package com.account.service;
 
 import static com.account.type.TransactionResultType.F;
 import static com.account.type.TransactionResultType.S;
+import static com.account.type.TransactionType.CANCEL;
+import static com.account.type.TransactionType.TRANSFER_IN;
+import static com.account.type.TransactionType.TRANSFER_OUT;
 import static com.account.type.TransactionType.USE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -22,17 +29,32 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import com.account.config.ConcurrencyProperties;
+import com.account.cache.AccountMetadataCache;
+import com.account.cache.ExistenceFilter;
+import com.account.cache.TransactionCache;
 import com.account.domain.Account;
 import com.account.domain.AccountUser;
 import com.account.domain.Transaction;
+import com.account.dto.BatchUseResult;
 import com.account.dto.TransactionDto;
+import com.account.dto.UseBalance;
 import com.account.exception.AccountException;
+import com.account.id.TransactionIdGenerator;
+import com.account.lock.FencingTokenContext;
+import com.account.recorder.FailedTransaction;
+import com.account.repository.AccountMetadata;
 import com.account.repository.AccountRepository;
 import com.account.repository.AccountUserRepository;
+import com.account.repository.DebitResult;
 import com.account.repository.TransactionRepository;
 import com.account.type.AccountStatus;
+import com.account.type.ConcurrencyMode;
 import com.account.type.ErrorCode;
+import com.account.type.TransactionResultType;
+import com.account.type.TransactionType;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionServiceTest {
@@ -47,6 +69,24 @@ class TransactionServiceTest {
 	@Mock
 	private AccountUserRepository accountUserRepository;
 
+	@Mock
+	private TransactionIdGenerator transactionIdGenerator;
+
+	@Mock
+	private LedgerBalanceService ledgerBalanceService;
+
+	@Mock
+	private AccountMetadataCache accountMetadataCache;
+
+	@Mock
+	private ExistenceFilter existenceFilter;
+
+	@Mock
+	private TransactionCache transactionCache;
+
+	@Mock
+	private ConcurrencyProperties concurrencyProperties;
+
 	@InjectMocks
 	private TransactionService transactionService;
 
@@ -56,8 +96,7 @@ class TransactionServiceTest {
 		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
 		Account account = Account.builder().accountUser(user).accountStatus(AccountStatus.IN_USE).balance(10000L)
 				.accountNumber("1000000012").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(Optional.of(account));
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.of(account));
 		given(transactionRepository.save(any())).willReturn(Transaction.builder().account(account).transactionType(USE)
 				.transactionResultType(S).transactionId("transactionId").transactedAt(LocalDateTime.now()).amount(1000L)
 				.balanceSnapshot(9000L).build());
@@ -74,6 +113,7 @@ class TransactionServiceTest {
 		assertEquals(USE, transactionDto.getTransactionType());
 		assertEquals(9000L, transactionDto.getBalanceSnapshot());
 		assertEquals(1000L, transactionDto.getAmount());
+		verify(transactionCache, times(1)).putAfterCommit(any());
 
 	}
 
@@ -81,7 +121,8 @@ class TransactionServiceTest {
 	@DisplayName("해당 유저 없음 - 잔액 사용 실패")
 	void useBalance_UserNotFound() {
 		// given
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.empty());
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.empty());
+		given(accountMetadataCache.userExists(anyLong())).willReturn(false);
 		// when
 		AccountException exception = assertThrows(AccountException.class,
 				() -> transactionService.useBalance(1L, "1000000000", 1000L));
@@ -93,10 +134,9 @@ class TransactionServiceTest {
 	@DisplayName("해당 계좌 없음 - 잔액 사용 실패")
 	void deleteAccount_AccountNotFound() {
 		// given
-		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(Optional.empty());
-		ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.empty());
+		given(accountMetadataCache.userExists(anyLong())).willReturn(true);
+		given(accountMetadataCache.accountExists(anyString())).willReturn(false);
 		// when
 		AccountException exception = assertThrows(AccountException.class,
 				() -> transactionService.useBalance(1L, "1000000000", 1000L));
@@ -108,11 +148,9 @@ class TransactionServiceTest {
 	@DisplayName("계좌 소유주 다름 - 잔액 사용 실패")
 	void deleteAccountFailed_userUnmatched() {
 		// given
-		AccountUser pobi = AccountUser.builder().id(12L).name("Pobi").build();
-		AccountUser harry = AccountUser.builder().id(13L).name("Harry").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(pobi));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(
-				Optional.of(Account.builder().accountUser(harry).balance(0L).accountNumber("1000000012").build()));
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.empty());
+		given(accountMetadataCache.userExists(anyLong())).willReturn(true);
+		given(accountMetadataCache.accountExists(anyString())).willReturn(true);
 
 		// when
 		AccountException exception = assertThrows(AccountException.class,
@@ -126,8 +164,7 @@ class TransactionServiceTest {
 	void deleteAccountFailed_alreadyUnregistered() {
 		// given
 		AccountUser pobi = AccountUser.builder().id(12L).name("Pobi").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(pobi));
-		given(accountRepository.findByAccountNumber(anyString()))
+		given(accountRepository.findOwnedAccount(anyString(), anyLong()))
 				.willReturn(Optional.of(Account.builder().accountUser(pobi).accountStatus(AccountStatus.UNREGISTERED)
 						.balance(0L).accountNumber("1000000012").build()));
 
@@ -145,8 +182,7 @@ class TransactionServiceTest {
 		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
 		Account account = Account.builder().accountUser(user).accountStatus(AccountStatus.IN_USE).balance(100L)
 				.accountNumber("1000000012").build();
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(Optional.of(account));
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.of(account));
 
 		// when
 		// then
@@ -159,42 +195,456 @@ class TransactionServiceTest {
 	}
 
 	@Test
-	@DisplayName("실패 트랜잭션 저장 성공")
-	void saveFailedUseTransaction() {
+	@DisplayName("오래된 펜싱 토큰 - 잔액 사용 실패")
+	void useBalance_staleFencingToken() {
+		// given
+		given(accountRepository.updateFencingToken(anyString(), anyLong())).willReturn(0);
+		given(accountMetadataCache.accountExists(anyString())).willReturn(true);
+		FencingTokenContext.set("1000000012", 5L);
+
+		// when
+		AccountException exception;
+		try {
+			exception = assertThrows(AccountException.class,
+					() -> transactionService.useBalance(1L, "1000000012", 1000L));
+		} finally {
+			FencingTokenContext.remove("1000000012");
+		}
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+		verify(transactionRepository, times(0)).save(any());
+	}
+
+	@Test
+	@DisplayName("ATOMIC 모드 - 조건부 UPDATE 결과 잔액으로 거래를 기록하고 계좌를 따로 조회하지 않는다")
+	void useBalance_atomic() {
+		// given
+		given(concurrencyProperties.getMode()).willReturn(ConcurrencyMode.ATOMIC);
+		given(accountRepository.debit("1000000012", 12L, USE_AMOUNT))
+				.willReturn(Optional.of(new DebitResult(7L, 9800L)));
+		given(accountRepository.getReferenceById(7L)).willReturn(Account.builder().id(7L).build());
+		given(transactionRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+		ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+		// when
+		TransactionDto transactionDto = transactionService.useBalance(12L, "1000000012", USE_AMOUNT);
+
+		// then
+		verify(transactionRepository, times(1)).save(captor.capture());
+		verify(accountRepository, never()).findOwnedAccount(anyString(), anyLong());
+		assertEquals(9800L, captor.getValue().getBalanceSnapshot());
+		assertEquals(7L, captor.getValue().getAccount().getId());
+		assertEquals("1000000012", transactionDto.getAccountNumber());
+		assertEquals(9800L, transactionDto.getBalanceSnapshot());
+	}
+
+	@Test
+	@DisplayName("ATOMIC 모드 - 갱신된 행이 없으면 계좌를 다시 읽어 실패 원인을 알려준다")
+	void useBalance_atomicExceedAmount() {
 		// given
 		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
-		Account account = Account.builder().accountUser(user).accountStatus(AccountStatus.IN_USE).balance(10000L)
+		given(concurrencyProperties.getMode()).willReturn(ConcurrencyMode.ATOMIC);
+		given(accountRepository.debit(anyString(), anyLong(), anyLong())).willReturn(Optional.empty());
+		given(accountRepository.findOwnedAccount(anyString(), anyLong())).willReturn(Optional.of(Account.builder()
+				.accountUser(user).accountStatus(AccountStatus.IN_USE).balance(100L).accountNumber("1000000012").build()));
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.useBalance(12L, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+		verify(transactionRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("이벤트 소싱 모드 - 계좌 행을 읽지 않고 캐시된 메타데이터로 소유자와 상태를 검증한다")
+	void useBalance_eventSourcedUsesMetadataCache() {
+		// given
+		Account reference = Account.builder().id(7L).build();
+		given(ledgerBalanceService.isEventSourced()).willReturn(true);
+		given(accountMetadataCache.findAccount("1000000012"))
+				.willReturn(Optional.of(new AccountMetadata(7L, "1000000012", 12L, AccountStatus.IN_USE)));
+		given(accountRepository.getReferenceById(7L)).willReturn(reference);
+		given(ledgerBalanceService.append(reference, USE, USE_AMOUNT)).willReturn(Transaction.builder()
+				.account(reference).transactionType(USE).transactionResultType(S).amount(USE_AMOUNT)
+				.balanceSnapshot(9800L).transactionId("transactionId").transactedAt(LocalDateTime.now()).build());
+
+		// when
+		TransactionDto transactionDto = transactionService.useBalance(12L, "1000000012", USE_AMOUNT);
+
+		// then
+		verify(accountRepository, never()).findOwnedAccount(anyString(), anyLong());
+		assertEquals("1000000012", transactionDto.getAccountNumber());
+		assertEquals(9800L, transactionDto.getBalanceSnapshot());
+	}
+
+	@Test
+	@DisplayName("이벤트 소싱 모드 - 캐시된 계좌의 소유자가 다르면 실패")
+	void useBalance_eventSourcedUserUnmatched() {
+		// given
+		given(ledgerBalanceService.isEventSourced()).willReturn(true);
+		given(accountMetadataCache.findAccount("1000000012"))
+				.willReturn(Optional.of(new AccountMetadata(7L, "1000000012", 13L, AccountStatus.IN_USE)));
+		given(accountMetadataCache.userExists(12L)).willReturn(true);
+		given(accountMetadataCache.accountExists("1000000012")).willReturn(true);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.useBalance(12L, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.USER_ACCOUNT_UNMATCHED, exception.getErrorCode());
+	}
+
+	@Test
+	void successfulTransferBalance() {
+		// given
+		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
+		AccountUser harry = AccountUser.builder().id(13L).name("Harry").build();
+		Account from = Account.builder().accountUser(user).accountStatus(AccountStatus.IN_USE).balance(10000L)
 				.accountNumber("1000000012").build();
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(Optional.of(account));
-		given(transactionRepository.save(any())).willReturn(Transaction.builder().account(account).transactionType(USE)
-				.transactionResultType(S).transactionId("transactionId").transactedAt(LocalDateTime.now()).amount(1000L)
-				.balanceSnapshot(9000L).build());
+		Account to = Account.builder().accountUser(harry).accountStatus(AccountStatus.IN_USE).balance(500L)
+				.accountNumber("1000000013").build();
+		given(accountRepository.findOwnedAccount(eq("1000000012"), anyLong())).willReturn(Optional.of(from));
+		given(accountRepository.findByAccountNumber("1000000013")).willReturn(Optional.of(to));
+		given(transactionRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
 
 		ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
 
-		transactionService.saveFailedUseTransaction("1000000000", USE_AMOUNT);
+		// when
+		TransactionDto transactionDto = transactionService.transferBalance(1L, "1000000012", "1000000013",
+				USE_AMOUNT);
 
 		// then
-		verify(transactionRepository, times(1)).save(captor.capture());
-		assertEquals(USE_AMOUNT, captor.getValue().getAmount());
+		verify(transactionRepository, times(2)).save(captor.capture());
+		assertEquals(TRANSFER_OUT, captor.getAllValues().get(0).getTransactionType());
+		assertEquals(9800L, captor.getAllValues().get(0).getBalanceSnapshot());
+		assertEquals(TRANSFER_IN, captor.getAllValues().get(1).getTransactionType());
+		assertEquals(700L, captor.getAllValues().get(1).getBalanceSnapshot());
+		assertEquals("1000000012", transactionDto.getAccountNumber());
+		assertEquals(TRANSFER_OUT, transactionDto.getTransactionType());
+	}
+
+	@Test
+	@DisplayName("블룸 필터에서 확실히 없는 계좌 - DB 조회 없이 잔액 사용 실패")
+	void useBalance_absentAccount() {
+		// given
+		given(existenceFilter.isAbsentAccount("1000000012")).willReturn(true);
+		given(accountMetadataCache.userExists(1L)).willReturn(true);
+		given(accountMetadataCache.accountExists("1000000012")).willReturn(false);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.useBalance(1L, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+		verify(accountRepository, never()).findOwnedAccount(anyString(), anyLong());
+		verify(accountRepository, never()).updateFencingToken(anyString(), anyLong());
+	}
+
+	@Test
+	@DisplayName("같은 계좌로 이체 불가")
+	void transferBalance_sameAccount() {
+		// given
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.transferBalance(1L, "1000000012", "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("거래와 계좌가 일치하지 않음 - 잔액 사용 취소 실패")
+	void cancelBalance_transactionAccountUnmatched() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		given(transactionRepository.findWithAccount(anyString(), anyString())).willReturn(Optional.empty());
+		given(transactionRepository.existsByTransactionId(anyString())).willReturn(true);
+		given(accountMetadataCache.accountExists(anyString())).willReturn(true);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.TRANSACTION_ACCOUNT_UNMATCHED, exception.getErrorCode());
+		verify(transactionRepository, times(0)).save(any());
+	}
+
+	@Test
+	@DisplayName("없는 것으로 기억된 거래 ID - DB 조회 없이 잔액 사용 취소 실패")
+	void cancelBalance_knownMissingTransaction() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		given(transactionCache.isKnownMissing(transactionId)).willReturn(true);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.TRANSACTION_NOT_FOUND, exception.getErrorCode());
+		verify(transactionRepository, never()).findWithAccount(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("캐시된 원거래의 계좌번호가 다름 - DB 조회 없이 잔액 사용 취소 실패")
+	void cancelBalance_cachedTransactionAccountUnmatched() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		given(transactionCache.getIfPresent(transactionId)).willReturn(Optional.of(TransactionDto.builder()
+				.accountNumber("1000000000")
+				.transactionId(transactionId)
+				.build()));
+		given(accountMetadataCache.accountExists("1000000012")).willReturn(true);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.TRANSACTION_ACCOUNT_UNMATCHED, exception.getErrorCode());
+		verify(transactionRepository, never()).findWithAccount(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("잔액 사용 취소 성공 - 잔액을 되돌리고 원거래를 참조하는 취소 거래를 기록한다")
+	void successfulCancelBalance() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		Account account = Account.builder().accountStatus(AccountStatus.IN_USE).balance(9800L)
+				.accountNumber("1000000012").build();
+		given(transactionRepository.findWithAccount(transactionId, "1000000012"))
+				.willReturn(Optional.of(cancelTarget(account, USE, S)));
+		ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+		// when
+		TransactionDto transactionDto = transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT);
+
+		// then
+		verify(transactionRepository, times(1)).saveAndFlush(captor.capture());
+		assertEquals(CANCEL, captor.getValue().getTransactionType());
+		assertEquals(7L, captor.getValue().getCancelTargetId());
 		assertEquals(10000L, captor.getValue().getBalanceSnapshot());
-		assertEquals(F, captor.getValue().getTransactionResultType());
+		assertEquals(10000L, account.getBalance());
+		assertEquals(10000L, transactionDto.getBalanceSnapshot());
+	}
+
+	@Test
+	@DisplayName("이벤트 소싱 모드 - 취소 거래도 원거래를 참조하여 원장에 입금으로 기록한다")
+	void cancelBalance_eventSourced() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		Account account = Account.builder().accountStatus(AccountStatus.IN_USE).balance(9800L)
+				.accountNumber("1000000012").build();
+		given(transactionRepository.findWithAccount(transactionId, "1000000012"))
+				.willReturn(Optional.of(cancelTarget(account, USE, S)));
+		given(ledgerBalanceService.isEventSourced()).willReturn(true);
+		given(ledgerBalanceService.append(account, CANCEL, USE_AMOUNT, 7L)).willReturn(Transaction.builder()
+				.account(account).transactionType(CANCEL).transactionResultType(S).amount(USE_AMOUNT)
+				.balanceSnapshot(10000L).cancelTargetId(7L).transactionId("transactionId")
+				.transactedAt(LocalDateTime.now()).build());
+
+		// when
+		TransactionDto transactionDto = transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT);
+
+		// then
+		verify(transactionRepository, never()).saveAndFlush(any());
+		assertEquals(10000L, transactionDto.getBalanceSnapshot());
+		assertEquals(9800L, account.getBalance());
+	}
+
+	@Test
+	@DisplayName("취소 거래나 실패 거래는 취소할 수 없다")
+	void cancelBalance_notCancellable() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		Account account = Account.builder().accountStatus(AccountStatus.IN_USE).balance(9800L)
+				.accountNumber("1000000012").build();
+		given(transactionRepository.findWithAccount(transactionId, "1000000012"))
+				.willReturn(Optional.of(cancelTarget(account, CANCEL, S)))
+				.willReturn(Optional.of(cancelTarget(account, USE, F)));
+
+		// when
+		AccountException cancelOfCancel = assertThrows(AccountException.class,
+				() -> transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT));
+		AccountException cancelOfFailure = assertThrows(AccountException.class,
+				() -> transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.TRANSACTION_NOT_CANCELLABLE, cancelOfCancel.getErrorCode());
+		assertEquals(ErrorCode.TRANSACTION_NOT_CANCELLABLE, cancelOfFailure.getErrorCode());
+		verify(transactionRepository, never()).saveAndFlush(any());
+		assertEquals(9800L, account.getBalance());
+	}
+
+	@Test
+	@DisplayName("이미 취소된 거래는 다시 취소할 수 없다")
+	void cancelBalance_alreadyCancelled() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		Account account = Account.builder().accountStatus(AccountStatus.IN_USE).balance(9800L)
+				.accountNumber("1000000012").build();
+		given(transactionRepository.findWithAccount(transactionId, "1000000012"))
+				.willReturn(Optional.of(cancelTarget(account, USE, S)));
+		given(transactionRepository.existsByCancelTargetId(7L)).willReturn(true);
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.TRANSACTION_ALREADY_CANCELLED, exception.getErrorCode());
+		verify(transactionRepository, never()).saveAndFlush(any());
+		assertEquals(9800L, account.getBalance());
+	}
+
+	@Test
+	@DisplayName("같은 거래의 취소가 동시에 커밋되면 유니크 제약 위반을 이미 취소된 거래로 알려준다")
+	void cancelBalance_concurrentCancel() {
+		// given
+		String transactionId = "0123456789abcdef0123456789abcdef";
+		Account account = Account.builder().accountStatus(AccountStatus.IN_USE).balance(9800L)
+				.accountNumber("1000000012").build();
+		given(transactionRepository.findWithAccount(transactionId, "1000000012"))
+				.willReturn(Optional.of(cancelTarget(account, USE, S)));
+		given(transactionRepository.saveAndFlush(any()))
+				.willThrow(new DataIntegrityViolationException("ux_transaction_cancel_target"));
 
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.cancelBalance(transactionId, "1000000012", USE_AMOUNT));
+
+		// then
+		assertEquals(ErrorCode.TRANSACTION_ALREADY_CANCELLED, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("실패 거래 일괄 저장 - 계좌는 한 번만 조회하고 없는 계좌는 건너뜀")
+	void saveFailedTransactions() {
+		// given
+		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
+		Account account = Account.builder().accountUser(user).accountStatus(AccountStatus.IN_USE).balance(10000L)
+				.accountNumber("1000000012").build();
+		LocalDateTime failedAt = LocalDateTime.now().minusSeconds(1);
+		given(accountRepository.findByAccountNumberIn(any())).willReturn(List.of(account));
+
+		// when
+		int saved = transactionService.saveFailedTransactions(List.of(
+				new FailedTransaction(USE, "1000000012", USE_AMOUNT, failedAt),
+				new FailedTransaction(TRANSFER_OUT, "1000000012", 300L, failedAt),
+				new FailedTransaction(USE, "9999999999", USE_AMOUNT, failedAt)));
+
+		// then
+		ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+		verify(accountRepository, times(1)).findByAccountNumberIn(any());
+		verify(transactionRepository, times(1)).saveAll(captor.capture());
+		assertEquals(2, saved);
+		assertEquals(2, captor.getValue().size());
+		assertEquals(F, captor.getValue().get(1).getTransactionResultType());
+		assertEquals(TRANSFER_OUT, captor.getValue().get(1).getTransactionType());
+		assertEquals(failedAt, captor.getValue().get(0).getTransactedAt());
+	}
+
+	@Test
+	@DisplayName("이벤트 소싱 모드의 실패 거래는 계좌 행이 아닌 원장 기준 잔액을 남긴다")
+	void saveFailedTransactions_eventSourced() {
+		// given
+		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
+		Account account = Account.builder().accountUser(user).accountStatus(AccountStatus.IN_USE).balance(10000L)
+				.accountNumber("1000000012").build();
+		given(accountRepository.findByAccountNumberIn(any())).willReturn(List.of(account));
+		given(ledgerBalanceService.isEventSourced()).willReturn(true);
+		given(ledgerBalanceService.balanceOf(account)).willReturn(7000L);
+
+		// when
+		transactionService.saveFailedTransactions(List.of(
+				new FailedTransaction(USE, "1000000012", USE_AMOUNT, LocalDateTime.now())));
+
+		// then
+		ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+		verify(transactionRepository, times(1)).saveAll(captor.capture());
+		assertEquals(7000L, captor.getValue().get(0).getBalanceSnapshot());
+	}
+
+	@Test
+	@DisplayName("잔액 일괄 사용 - 요청 순서대로 누적 잔액을 검증하고 거래는 한 번에 저장")
+	void useBalances() {
+		// given
+		AccountUser user = AccountUser.builder().id(12L).name("Pobi").build();
+		Account account = Account.builder().accountUser(user).accountStatus(AccountStatus.IN_USE).balance(1000L)
+				.accountNumber("1000000012").build();
+		given(accountRepository.findByAccountNumberIn(any())).willReturn(List.of(account));
+		given(accountMetadataCache.userExists(12L)).willReturn(true);
+
+		// when
+		List<BatchUseResult> results = transactionService.useBalances(List.of(
+				new UseBalance.Request(12L, "1000000012", 600L),
+				new UseBalance.Request(12L, "1000000012", 600L),
+				new UseBalance.Request(12L, "9999999999", 100L),
+				new UseBalance.Request(12L, "1000000012", 400L)));
+
+		// then
+		ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+		verify(accountRepository, times(1)).findByAccountNumberIn(any());
+		verify(transactionRepository, times(1)).saveAll(captor.capture());
+		verify(transactionRepository, never()).save(any());
+		assertEquals(4, results.size());
+		assertNull(results.get(0).getErrorCode());
+		assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, results.get(1).getErrorCode());
+		assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, results.get(2).getErrorCode());
+		assertNull(results.get(3).getErrorCode());
+		assertEquals(0L, account.getBalance());
+		assertEquals(3, captor.getValue().size());
+		assertEquals(S, captor.getValue().get(0).getTransactionResultType());
+		assertEquals(F, captor.getValue().get(1).getTransactionResultType());
+		assertEquals(400L, captor.getValue().get(1).getBalanceSnapshot());
+		assertEquals(0L, captor.getValue().get(2).getBalanceSnapshot());
 	}
 
 	@Test
 	void successQueryTransaction() throws Exception {
 		// given
-		given(transactionService.queryTransaction(anyString())).willReturn(TransactionDto.builder()
+		given(transactionCache.find(anyString())).willReturn(Optional.of(TransactionDto.builder()
 				.accountNumber("1000000000")
 				.transactionType(USE)
 				.transactedAt(LocalDateTime.now())
 				.amount(54321L)
 				.transactionId("transactionIdForCancel")
 				.transactionResultType(S)
-				.build());
+				.build()));
+
 		// when
+		TransactionDto transactionDto = transactionService.queryTransaction("transactionIdForCancel");
 
 		// then
+		assertEquals("1000000000", transactionDto.getAccountNumber());
+		assertEquals(USE, transactionDto.getTransactionType());
+		assertEquals(54321L, transactionDto.getAmount());
+		assertEquals(S, transactionDto.getTransactionResultType());
+	}
+
+	@Test
+	void queryTransaction_TransactionNotFound() {
+		// given
+		given(transactionCache.find(anyString())).willReturn(Optional.empty());
+
+		// when
+		AccountException exception = assertThrows(AccountException.class,
+				() -> transactionService.queryTransaction("transactionIdForCancel"));
+
+		// then
+		assertEquals(ErrorCode.TRANSACTION_NOT_FOUND, exception.getErrorCode());
+	}
+
+	private static Transaction cancelTarget(Account account, TransactionType transactionType,
+			TransactionResultType transactionResultType) {
+		return Transaction.builder().id(7L).account(account).transactionType(transactionType)
+				.transactionResultType(transactionResultType).amount(USE_AMOUNT).balanceSnapshot(9800L)
+				.transactionId("0123456789abcdef0123456789abcdef").transactedAt(LocalDateTime.now()).build();
 	}
 }
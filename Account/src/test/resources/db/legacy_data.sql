@@ -0,0 +1,24 @@
+-- 이전 스키마로 저장된 데이터 (문자열 enum, 32자리 16진수 거래 ID)
+
+insert into account_user(id, name, created_at, updated_at)
+values(10, 'Pororo', now(), now());
+insert into account_user(id, name, created_at, updated_at)
+values(11, 'Lupi', now(), now());
+
+insert into account(id, account_user_id, account_number, account_status, balance, registered_at, created_at, updated_at)
+values(1, 10, '1000000000', 'IN_USE', 9000, now(), now(), now());
+insert into account(id, account_user_id, account_number, account_status, balance, registered_at, created_at, updated_at)
+values(2, 10, '1000000001', 'IN_USE', 500, now(), now(), now());
+insert into account(id, account_user_id, account_number, account_status, balance, registered_at, un_registered_at,
+        created_at, updated_at)
+values(3, 11, '1000000002', 'UNREGISTERED', 0, now(), now(), now(), now());
+
+insert into transaction(id, account_id, transaction_type, transaction_result_type, amount, balance_snapshot,
+        transaction_id, transacted_at, created_at, updated_at)
+values(1, 1, 'USE', 'S', 1000, 9000, '0f1e2d3c4b5a69788796a5b4c3d2e1f0', now(), now(), now());
+insert into transaction(id, account_id, transaction_type, transaction_result_type, amount, balance_snapshot,
+        transaction_id, transacted_at, created_at, updated_at)
+values(2, 1, 'USE', 'F', 20000, 9000, 'a0b1c2d3e4f5061728394a5b6c7d8e9f', now(), now(), now());
+insert into transaction(id, account_id, transaction_type, transaction_result_type, amount, balance_snapshot,
+        transaction_id, transacted_at, created_at, updated_at)
+values(3, 2, 'CANCEL', 'S', 500, 500, 'ffeeddccbbaa99887766554433221100', now(), now(), now());
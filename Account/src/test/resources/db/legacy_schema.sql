@@ -0,0 +1,43 @@
+-- 저장 구조 압축(V1) 이전, 초기 엔티티 매핑에서 생성되던 스키마 (H2)
+
+create sequence account_seq start with 1 increment by 50;
+create sequence account_user_seq start with 1 increment by 50;
+create sequence transaction_seq start with 1 increment by 50;
+
+create table account (
+    account_user_id bigint,
+    balance bigint,
+    created_at timestamp(6),
+    id bigint not null,
+    registered_at timestamp(6),
+    un_registered_at timestamp(6),
+    updated_at timestamp(6),
+    account_number varchar(255),
+    account_status enum ('IN_USE','UNREGISTERED'),
+    primary key (id)
+);
+
+create table account_user (
+    created_at timestamp(6),
+    id bigint not null,
+    updated_at timestamp(6),
+    name varchar(255),
+    primary key (id)
+);
+
+create table transaction (
+    account_id bigint,
+    amount bigint,
+    balance_snapshot bigint,
+    created_at timestamp(6),
+    id bigint not null,
+    transacted_at timestamp(6),
+    updated_at timestamp(6),
+    transaction_id varchar(255),
+    transaction_result_type enum ('F','S'),
+    transaction_type enum ('CANCEL','USE'),
+    primary key (id)
+);
+
+alter table account add constraint FKgao17rutsgwjob4c0a0ry5ron foreign key (account_user_id) references account_user;
+alter table transaction add constraint FK6g20fcr3bhr6bihgy24rq1r1b foreign key (account_id) references account;